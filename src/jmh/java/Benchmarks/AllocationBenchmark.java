@@ -0,0 +1,57 @@
+package Benchmarks;
+
+import Enum.SpotState;
+import Enum.ZoneType;
+import Model.*;
+import Service.impl.ZoneAllocationServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AllocationBenchmark {
+
+    @Param({"100", "5000"})
+    public int spotsPerZone;
+
+    // share of the zone already taken before each allocation
+    @Param({"0.0", "0.9"})
+    public double occupiedShare;
+
+    private ZoneAllocationServiceImpl allocationService;
+    private ParkingZone zone;
+    private SpotAssignmentRequest request;
+
+    @Setup
+    public void setUp() {
+        allocationService = new ZoneAllocationServiceImpl();
+        zone = new ParkingZone("Z1", ZoneType.STANDARD, 1.0);
+        for (int i = 0; i < spotsPerZone; i++) {
+            ParkingSpot spot = new ParkingSpot("S" + i, zone);
+            zone.addSpot(spot);
+            if (i < spotsPerZone * occupiedShare) {
+                spot.occupy();
+            }
+        }
+        SubscriptionPlan plan = new SubscriptionPlan(
+                1, 1, 5, 8.0, false, false, false,
+                new DiscountInfo(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, false, 0)
+        );
+        request = new SpotAssignmentRequest("user-1", ZoneType.STANDARD, plan, LocalDateTime.now());
+    }
+
+    @Benchmark
+    public ParkingSpot assignAndFree() {
+        ParkingSpot spot = allocationService.assignSpot(request, zone);
+        // hand the spot back so every invocation sees the same zone
+        spot.setState(SpotState.FREE);
+        return spot;
+    }
+}
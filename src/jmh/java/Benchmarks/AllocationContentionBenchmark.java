@@ -0,0 +1,70 @@
+package Benchmarks;
+
+import Enum.SpotState;
+import Enum.ZoneType;
+import Model.*;
+import Service.impl.ZoneAllocationServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// Gates allocating from the same zone at once. Each operation reserves a spot and hands it back,
+// so the zone never drains; compare the scores across the thread counts to see how the spot CAS
+// and the zone's free-spot index scale. Needs as many cores as threads to mean anything.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AllocationContentionBenchmark {
+
+    @Param({"64", "5000"})
+    public int spotsPerZone;
+
+    private ZoneAllocationServiceImpl allocationService;
+    private ParkingZone zone;
+    private SpotAssignmentRequest request;
+
+    @Setup
+    public void setUp() {
+        allocationService = new ZoneAllocationServiceImpl();
+        zone = new ParkingZone("Z1", ZoneType.STANDARD, 1.0);
+        for (int i = 0; i < spotsPerZone; i++) {
+            zone.addSpot(new ParkingSpot("S" + i, zone));
+        }
+        SubscriptionPlan plan = new SubscriptionPlan(
+                1, 1, 5, 8.0, false, false, false,
+                new DiscountInfo(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, false, 0)
+        );
+        request = new SpotAssignmentRequest("user-1", ZoneType.STANDARD, plan, LocalDateTime.now());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public ParkingSpot oneGate() {
+        return assignAndFree();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ParkingSpot fourGates() {
+        return assignAndFree();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public ParkingSpot sixteenGates() {
+        return assignAndFree();
+    }
+
+    private ParkingSpot assignAndFree() {
+        ParkingSpot spot = allocationService.assignSpot(request, zone);
+        if (spot != null) {
+            spot.setState(SpotState.FREE);
+        }
+        return spot;
+    }
+}
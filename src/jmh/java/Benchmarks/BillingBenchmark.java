@@ -0,0 +1,73 @@
+package Benchmarks;
+
+import Enum.DayType;
+import Enum.TimeOfDayBand;
+import Enum.ZoneType;
+import Model.BillingResult;
+import Model.DiscountInfo;
+import Model.DynamicPricingConfig;
+import Model.Tariff;
+import Service.impl.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BillingBenchmark {
+
+    @Param({"1", "8", "24"})
+    public int durationHours;
+
+    private DefaultBillingService billingService;
+    private FixedPointBillingService fixedPointBillingService;
+    private Tariff tariff;
+    private DynamicPricingConfig config;
+    private DiscountInfo discountInfo;
+    private LocalDateTime entryTime;
+    private LocalDateTime exitTime;
+    private BigDecimal penalties;
+    private BigDecimal maxPriceCap;
+    private BigDecimal taxRate;
+
+    @Setup
+    public void setUp() {
+        billingService = new DefaultBillingService(
+                new DefaultDurationCalculator(),
+                new DefaultPricingService(),
+                new DefaultDiscountAndCapService(),
+                new DefaultTaxService()
+        );
+        fixedPointBillingService = new FixedPointBillingService(new DefaultDurationCalculator(), billingService);
+        tariff = new Tariff(ZoneType.STANDARD, BigDecimal.valueOf(2.5), BigDecimal.valueOf(20), BigDecimal.valueOf(10));
+        config = new DynamicPricingConfig(1.5, 0.8, 1.2);
+        discountInfo = new DiscountInfo(BigDecimal.valueOf(0.10), BigDecimal.ZERO, BigDecimal.ZERO, false, 0);
+        entryTime = LocalDateTime.of(2025, 6, 14, 9, 15);
+        exitTime = entryTime.plusHours(durationHours).minusMinutes(10);
+        penalties = BigDecimal.valueOf(5);
+        maxPriceCap = BigDecimal.valueOf(200);
+        taxRate = BigDecimal.valueOf(0.20);
+    }
+
+    @Benchmark
+    public BillingResult calculateBill() {
+        return billingService.calculateBill(
+                entryTime, exitTime, ZoneType.STANDARD, DayType.WEEKEND, TimeOfDayBand.PEAK,
+                0.9, tariff, config, discountInfo, penalties, 24, maxPriceCap, taxRate
+        );
+    }
+
+    @Benchmark
+    public BillingResult calculateBillFixedPoint() {
+        return fixedPointBillingService.calculateBill(
+                entryTime, exitTime, ZoneType.STANDARD, DayType.WEEKEND, TimeOfDayBand.PEAK,
+                0.9, tariff, config, discountInfo, penalties, 24, maxPriceCap, taxRate
+        );
+    }
+}
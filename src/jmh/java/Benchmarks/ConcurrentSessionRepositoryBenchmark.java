@@ -0,0 +1,74 @@
+package Benchmarks;
+
+import Enum.DayType;
+import Enum.TimeOfDayBand;
+import Enum.ZoneType;
+import Model.ParkingSession;
+import Repository.impl.ConcurrentParkingSessionRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Gates sharing one ConcurrentParkingSessionRepository: half the threads start sessions, the other
+// half run the eligibility lookups. Each writer deletes the session it saved WINDOW saves ago, so
+// the repository stays at a steady size however long the run is.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentSessionRepositoryBenchmark {
+
+    private static final int USERS = 1_000;
+    private static final int WINDOW = 1_024;
+
+    private ConcurrentParkingSessionRepository repo;
+    private final AtomicInteger gateIds = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        repo = new ConcurrentParkingSessionRepository();
+    }
+
+    @State(Scope.Thread)
+    public static class Gate {
+        int id;
+        long next;
+        ParkingSession[] recent = new ParkingSession[WINDOW];
+
+        @Setup
+        public void setUp(ConcurrentSessionRepositoryBenchmark benchmark) {
+            id = benchmark.gateIds.incrementAndGet();
+        }
+    }
+
+    @Benchmark
+    @Group("gates")
+    @GroupThreads(4)
+    public ParkingSession save(Gate gate) {
+        long n = gate.next++;
+        int user = (int) (n % USERS);
+        ParkingSession session = new ParkingSession(
+                "S-" + gate.id + "-" + n, "U" + user, "P" + user, "Z" + gate.id, "spot-" + n,
+                TimeOfDayBand.PEAK, DayType.WEEKDAY, ZoneType.STANDARD, LocalDateTime.now());
+        int slot = (int) (n % WINDOW);
+        ParkingSession old = gate.recent[slot];
+        if (old != null) {
+            repo.delete(old);
+        }
+        repo.save(session);
+        gate.recent[slot] = session;
+        return session;
+    }
+
+    @Benchmark
+    @Group("gates")
+    @GroupThreads(4)
+    public int lookup(Gate gate) {
+        String user = "U" + (gate.next++ % USERS);
+        return repo.getActiveSessionsCountForUser(user) + (repo.hasUnpaidSessionsForUser(user) ? 1 : 0);
+    }
+}
@@ -0,0 +1,100 @@
+package Benchmarks;
+
+import Controller.*;
+import Dto.Eligibility.EligibilityResponseDto;
+import Enum.UserStatus;
+import Gate.GateRequestExecutor;
+import Model.*;
+import Repository.impl.*;
+import Service.impl.*;
+import Settings.Settings;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// 10k gate requests in flight at once, each an eligibility check behind a simulated device round
+// trip (barrier, plate camera). PER_REQUEST is one virtual thread per request on Java 21+ and a
+// cached platform pool on older runtimes; FIXED_POOL is a typical 200-thread platform pool.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GateExecutorBenchmark {
+
+    private static final int ZONES = 20;
+    private static final int USERS = 1_000;
+    private static final int FIXED_POOL_THREADS = 200;
+
+    @Param({"PER_REQUEST", "FIXED_POOL"})
+    public String mode;
+
+    @Param({"10000"})
+    public int inFlight;
+
+    @Param({"0", "1000"})
+    public long deviceLatencyMicros;
+
+    private GateRequestExecutor gate;
+    private EligibilityController eligibilityController;
+    private final LocalDateTime now = LocalDateTime.of(2026, 5, 12, 9, 0);
+
+    @Setup
+    public void setUp() {
+        var zoneRepo = new InMemoryParkingZoneRepository();
+        var sessionRepo = new ConcurrentParkingSessionRepository();
+        var userRepo = new InMemoryUserRepository();
+        var vehicleRepo = new InMemoryVehicleRepository();
+        var subscriptionRepo = new InMemorySubscriptionPlanRepository();
+        for (int i = 0; i < USERS; i++) {
+            userRepo.save(new User("U" + i, UserStatus.ACTIVE));
+            vehicleRepo.save(new Vehicle("P" + i, "U" + i));
+            subscriptionRepo.save("U" + i, SubscriptionPlan.defaultPlan());
+        }
+        var occupancyService = new ZoneOccupancyServiceImpl(zoneRepo, sessionRepo);
+
+        eligibilityController = new EligibilityController(new EligibilityServiceImpl(), userRepo, vehicleRepo, subscriptionRepo, sessionRepo);
+        var zoneController = new ZoneAllocationController(new ZoneAllocationServiceImpl(), zoneRepo, occupancyService, subscriptionRepo);
+        var sessionController = new ParkingSessionController(sessionRepo, zoneRepo);
+        var billingController = new BillingController(
+                new DefaultBillingService(new DefaultDurationCalculator(), new DefaultPricingService(),
+                        new DefaultDiscountAndCapService(), new DefaultTaxService()),
+                new InMemoryTariffRepository(Map.of()),
+                new InMemoryDynamicPricingConfigRepository(new DynamicPricingConfig(1.5, 1.0, 0.7)),
+                new InMemoryBillingRecordRepository(), sessionRepo, new InMemoryPenaltyHistoryRepository(), subscriptionRepo);
+        var exitController = new ExitAuthorizationController(new ExitAuthorizationServiceImpl(), userRepo, sessionRepo, zoneRepo);
+
+        ExecutorService executor = mode.equals("FIXED_POOL") ? Executors.newFixedThreadPool(FIXED_POOL_THREADS) : null;
+        gate = new GateRequestExecutor(eligibilityController, zoneController, sessionController, billingController,
+                exitController, sessionRepo, executor, Settings.GATE_MAX_IN_FLIGHT_PER_ZONE, Settings.GATE_ADMISSION_TIMEOUT);
+    }
+
+    @TearDown
+    public void tearDown() {
+        gate.close();
+    }
+
+    @Benchmark
+    public int allInFlight() {
+        long latencyNanos = TimeUnit.MICROSECONDS.toNanos(deviceLatencyMicros);
+        @SuppressWarnings("unchecked")
+        CompletableFuture<EligibilityResponseDto>[] requests = new CompletableFuture[inFlight];
+        for (int i = 0; i < inFlight; i++) {
+            String userId = "U" + (i % USERS);
+            String plate = "P" + (i % USERS);
+            requests[i] = gate.submit("Z" + (i % ZONES), () -> {
+                if (latencyNanos > 0) LockSupport.parkNanos(latencyNanos);
+                return eligibilityController.checkEligibility(userId, plate, now);
+            });
+        }
+        CompletableFuture.allOf(requests).join();
+        return requests.length;
+    }
+}
@@ -0,0 +1,115 @@
+package Benchmarks;
+
+import Enum.DayType;
+import Enum.TimeOfDayBand;
+import Enum.ZoneType;
+import Model.ParkingSession;
+import Repository.impl.JournaledParkingSessionRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+public class JournalBenchmark {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 8, 0);
+
+    private static ParkingSession session(String id) {
+        return new ParkingSession(id, "user-" + (id.hashCode() & 1023), "PL-" + id, "zone-1", "spot-1",
+                TimeOfDayBand.OFF_PEAK, DayType.WEEKDAY, ZoneType.STANDARD, START);
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (dir == null || !Files.exists(dir)) return;
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    // Run with -t <threads> to see group commit batch concurrent saves into one fsync.
+    @State(Scope.Benchmark)
+    public static class AppendState {
+        @Param({"true", "false"})
+        public boolean fsync;
+
+        JournaledParkingSessionRepository repo;
+        Path dir;
+        final AtomicLong ids = new AtomicLong();
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            dir = Files.createTempDirectory("journal-append");
+            repo = new JournaledParkingSessionRepository(dir, JournaledParkingSessionRepository.DEFAULT_SNAPSHOT_THRESHOLD_BYTES, fsync);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            repo.close();
+            deleteRecursively(dir);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+    public void appendSession(AppendState state) {
+        state.repo.save(session("s-" + state.ids.incrementAndGet()));
+    }
+
+    // "journal" replays every save from the journal; "snapshot" loads a compacted snapshot
+    // followed by a short journal tail of state changes.
+    @State(Scope.Benchmark)
+    public static class RecoveryState {
+        @Param({"1000000"})
+        public int sessions;
+
+        @Param({"journal", "snapshot"})
+        public String layout;
+
+        Path dir;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            dir = Files.createTempDirectory("journal-recovery");
+            try (JournaledParkingSessionRepository repo = new JournaledParkingSessionRepository(dir, Long.MAX_VALUE, false)) {
+                for (int i = 0; i < sessions; i++) {
+                    repo.save(session("s-" + i));
+                }
+                if (layout.equals("snapshot")) {
+                    repo.snapshot();
+                }
+                for (int i = 0; i < sessions; i += 100) {
+                    repo.findById("s-" + i).orElseThrow().markPaid();
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            deleteRecursively(dir);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    @Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+    public int recover(RecoveryState state) {
+        try (JournaledParkingSessionRepository repo = new JournaledParkingSessionRepository(state.dir, Long.MAX_VALUE, false)) {
+            return repo.findAll().size();
+        }
+    }
+}
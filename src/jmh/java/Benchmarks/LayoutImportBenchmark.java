@@ -0,0 +1,63 @@
+package Benchmarks;
+
+import Dto.Zone.LayoutImportResultDto;
+import Enum.ZoneType;
+import Model.ParkingSpot;
+import Model.ParkingZone;
+import Repository.impl.InMemoryParkingZoneRepository;
+import Service.impl.GarageLayoutImporter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Imports a whole garage into an empty repository per invocation, from CSV and from the binary format.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LayoutImportBenchmark {
+
+    private static final int ZONES = 100;
+
+    @Param({"100000"})
+    public int spots;
+
+    private String csv;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() throws IOException {
+        StringBuilder rows = new StringBuilder("zoneId,zoneType,maxOccupancyThreshold,spotId\n");
+        List<ParkingZone> zones = new ArrayList<>();
+        for (int z = 0; z < ZONES; z++) {
+            zones.add(new ParkingZone("Z" + z, ZoneType.STANDARD, 0.9));
+        }
+        for (int i = 0; i < spots; i++) {
+            ParkingZone zone = zones.get(i % ZONES);
+            zone.addSpot(new ParkingSpot("S-" + i, zone));
+            rows.append(zone.getZoneId()).append(",STANDARD,0.9,S-").append(i).append('\n');
+        }
+        csv = rows.toString();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GarageLayoutImporter.writeBinary(zones, out);
+        binary = out.toByteArray();
+    }
+
+    @Benchmark
+    public LayoutImportResultDto importCsv() {
+        return new GarageLayoutImporter(new InMemoryParkingZoneRepository()).importCsv(new StringReader(csv));
+    }
+
+    @Benchmark
+    public LayoutImportResultDto importBinary() {
+        return new GarageLayoutImporter(new InMemoryParkingZoneRepository()).importBinary(new ByteArrayInputStream(binary));
+    }
+}
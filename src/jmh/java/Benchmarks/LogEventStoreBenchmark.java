@@ -0,0 +1,77 @@
+package Benchmarks;
+
+import Model.LogEvent;
+import Repository.impl.SegmentedLogEventRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class LogEventStoreBenchmark {
+
+    private static final String[] TYPES = {
+            "GATE_ENTRY", "GATE_EXIT", "GATE_DENIED", "PAYMENT", "PENALTY", "RESERVATION", "SPOT_FREED", "ALERT"
+    };
+    private static final int DAYS = 30;
+
+    @Param({"10000000"})
+    public int events;
+
+    private final LocalDateTime start = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private List<LogEvent> list;
+    private SegmentedLogEventRepository store;
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    @Setup
+    public void setUp() {
+        list = new ArrayList<>(events);
+        store = new SegmentedLogEventRepository(Duration.ofDays(DAYS + 1));
+        long spacingNanos = Duration.ofDays(DAYS).toNanos() / events;
+        for (int i = 0; i < events; i++) {
+            LogEvent event = new LogEvent(start.plusNanos(i * spacingNanos), TYPES[i % TYPES.length], "gate-1");
+            list.add(event);
+            store.save(event);
+        }
+        // one hour in the middle of the range
+        from = start.plusDays(DAYS / 2).plusHours(8);
+        to = from.plusHours(1);
+    }
+
+    // what a caller had to do before: scan every event
+    @Benchmark
+    public List<LogEvent> typeInHourByScan() {
+        List<LogEvent> result = new ArrayList<>();
+        for (LogEvent event : list) {
+            LocalDateTime t = event.getTimestamp();
+            if (event.getType().equals("GATE_DENIED") && !t.isBefore(from) && t.isBefore(to)) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<LogEvent> typeInHour() {
+        return store.findByTypeBetween("GATE_DENIED", from, to);
+    }
+
+    @Benchmark
+    public List<LogEvent> allInHour() {
+        return store.findBetween(from, to);
+    }
+
+    @Benchmark
+    public List<LogEvent> typeInMinute() {
+        return store.findByTypeBetween("GATE_DENIED", from.plusMinutes(30), from.plusMinutes(31));
+    }
+}
@@ -0,0 +1,60 @@
+package Benchmarks;
+
+import Enum.BlacklistStatus;
+import Enum.PenaltyType;
+import Model.Penalty;
+import Model.PenaltyHistory;
+import Model.PenaltySummaryReport;
+import Model.PenaltySummaryTotals;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PenaltySummaryBenchmark {
+
+    @Param({"100", "10000"})
+    public int users;
+
+    @Param({"5"})
+    public int penaltiesPerUser;
+
+    private List<PenaltyHistory> histories;
+    private PenaltySummaryTotals totals;
+
+    @Setup
+    public void setUp() {
+        PenaltyType[] types = PenaltyType.values();
+        LocalDateTime now = LocalDateTime.now();
+        histories = new ArrayList<>(users);
+        totals = new PenaltySummaryTotals();
+        for (int u = 0; u < users; u++) {
+            PenaltyHistory history = new PenaltyHistory();
+            for (int p = 0; p < penaltiesPerUser; p++) {
+                Penalty penalty = new Penalty(types[(u + p) % types.length], BigDecimal.valueOf(10 + p), now.minusDays(p));
+                history.addPenalty(penalty);
+                totals.record("user-" + u, penalty, BlacklistStatus.NONE);
+            }
+            histories.add(history);
+        }
+    }
+
+    @Benchmark
+    public PenaltySummaryReport from() {
+        return PenaltySummaryReport.from(histories);
+    }
+
+    @Benchmark
+    public PenaltySummaryReport runningTotals() {
+        return totals.toReport();
+    }
+}
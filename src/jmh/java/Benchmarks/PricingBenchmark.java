@@ -0,0 +1,60 @@
+package Benchmarks;
+
+import Enum.DayType;
+import Enum.TimeOfDayBand;
+import Enum.ZoneType;
+import Model.DynamicPricingConfig;
+import Model.Tariff;
+import Service.impl.DefaultPricingService;
+import Service.impl.PrecomputedPricingService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingBenchmark {
+
+    @Param({"1", "8", "30"})
+    public int durationHours;
+
+    private DefaultPricingService pricingService;
+    private PrecomputedPricingService precomputedPricingService;
+    private Tariff tariff;
+    private DynamicPricingConfig config;
+
+    @Setup
+    public void setUp() {
+        pricingService = new DefaultPricingService();
+        tariff = new Tariff(ZoneType.STANDARD, BigDecimal.valueOf(2.5), BigDecimal.valueOf(20), BigDecimal.valueOf(10));
+        config = new DynamicPricingConfig(1.5, 0.8, 1.2);
+        precomputedPricingService = new PrecomputedPricingService(pricingService);
+        precomputedPricingService.onConfigSaved(config);
+        precomputedPricingService.onTariffSaved(tariff);
+    }
+
+    @Benchmark
+    public BigDecimal weekdayOffPeak() {
+        return pricingService.calculateBasePrice(durationHours, DayType.WEEKDAY, TimeOfDayBand.OFF_PEAK, 0.3, tariff, config);
+    }
+
+    @Benchmark
+    public BigDecimal weekendPeakSurge() {
+        return pricingService.calculateBasePrice(durationHours, DayType.WEEKEND, TimeOfDayBand.PEAK, 0.95, tariff, config);
+    }
+
+    @Benchmark
+    public BigDecimal weekdayOffPeakPrecomputed() {
+        return precomputedPricingService.calculateBasePrice(durationHours, DayType.WEEKDAY, TimeOfDayBand.OFF_PEAK, 0.3, tariff, config);
+    }
+
+    @Benchmark
+    public BigDecimal weekendPeakSurgePrecomputed() {
+        return precomputedPricingService.calculateBasePrice(durationHours, DayType.WEEKEND, TimeOfDayBand.PEAK, 0.95, tariff, config);
+    }
+}
@@ -0,0 +1,84 @@
+package Benchmarks;
+
+import Enum.DayType;
+import Enum.TimeOfDayBand;
+import Enum.ZoneType;
+import Model.ParkingSession;
+import Repository.ParkingSessionRepository;
+import Repository.impl.ConcurrentParkingSessionRepository;
+import Repository.impl.InMemoryParkingSessionRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SessionRepositoryBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int sessions;
+
+    @Param({"inMemory", "concurrent"})
+    public String repository;
+
+    private static final int USERS = 1_000;
+
+    private ParkingSessionRepository repo;
+    private String userId;
+    private String plate;
+
+    @Setup
+    public void setUp() {
+        repo = repository.equals("concurrent")
+                ? new ConcurrentParkingSessionRepository()
+                : new InMemoryParkingSessionRepository();
+
+        LocalDateTime start = LocalDateTime.now().minusDays(30);
+        for (int i = 0; i < sessions; i++) {
+            int user = i % USERS;
+            ParkingSession session = new ParkingSession(
+                    "S" + i, "U" + user, "P" + user, "Z" + (i % 20), "spot-" + i,
+                    TimeOfDayBand.PEAK, DayType.WEEKDAY, ZoneType.STANDARD,
+                    start.plusMinutes(i % 43_200)
+            );
+            repo.save(session);
+            // keep roughly one active session per user, the rest is history
+            if (i < sessions - USERS) {
+                session.close(session.getStartTime().plusHours(2));
+            }
+        }
+        userId = "U" + (USERS / 2);
+        plate = "P" + (USERS / 2);
+    }
+
+    @Benchmark
+    public int activeCountForUser() {
+        return repo.getActiveSessionsCountForUser(userId);
+    }
+
+    @Benchmark
+    public List<ParkingSession> activeSessionsForVehicle() {
+        return repo.findActiveSessionsForVehicle(plate);
+    }
+
+    @Benchmark
+    public boolean hasUnpaidSessions() {
+        return repo.hasUnpaidSessionsForUser(userId);
+    }
+
+    @Benchmark
+    public int hoursUsedToday() {
+        return repo.getHoursUsedTodayForUser(userId);
+    }
+
+    @Benchmark
+    public int sessionsCountForToday() {
+        return repo.getSessionsCountForToday(userId);
+    }
+}
@@ -0,0 +1,97 @@
+package Benchmarks;
+
+import Enum.ZoneType;
+import Gate.ZoneActors;
+import Model.*;
+import Service.impl.ZoneAllocationServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Spot mutation throughput: each cycle reserves a spot in one of the zones, occupies it and
+// releases it. LOCKED runs the cycles straight on a pool of `threads` workers, contending on the
+// zones' monitors and the spots' CAS as the controllers do today. ACTOR sends each cycle to its
+// zone's actor, with `threads` workers shared by the mailboxes. Run it on a machine with at least
+// `threads` cores; on fewer the numbers mostly show dispatch overhead.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZoneActorBenchmark {
+
+    private static final int CYCLES = 4_096;
+    private static final int SPOTS_PER_ZONE = 64;
+
+    @Param({"LOCKED", "ACTOR"})
+    public String mode;
+
+    @Param({"8", "64"})
+    public int threads;
+
+    @Param({"16", "256"})
+    public int zones;
+
+    private ParkingZone[] garage;
+    private ZoneAllocationServiceImpl allocationService;
+    private SpotAssignmentRequest request;
+    private ExecutorService pool;
+    private ZoneActors actors;
+
+    @Setup
+    public void setUp() {
+        garage = new ParkingZone[zones];
+        for (int z = 0; z < zones; z++) {
+            garage[z] = new ParkingZone("Z" + z, ZoneType.STANDARD, 1.0);
+            for (int s = 0; s < SPOTS_PER_ZONE; s++) {
+                garage[z].addSpot(new ParkingSpot("Z" + z + "-S" + s, garage[z]));
+            }
+        }
+        allocationService = new ZoneAllocationServiceImpl();
+        SubscriptionPlan plan = new SubscriptionPlan(
+                1, 1, 5, 8.0, false, false, false,
+                new DiscountInfo(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, false, 0)
+        );
+        request = new SpotAssignmentRequest("user-1", ZoneType.STANDARD, plan, LocalDateTime.of(2026, 5, 12, 9, 0));
+        if (mode.equals("ACTOR")) {
+            actors = new ZoneActors(threads);
+        } else {
+            pool = Executors.newFixedThreadPool(threads);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (actors != null) actors.close();
+        if (pool != null) pool.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CYCLES)
+    public int spotCycles() {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Boolean>[] cycles = new CompletableFuture[CYCLES];
+        for (int i = 0; i < CYCLES; i++) {
+            ParkingZone zone = garage[i % zones];
+            cycles[i] = actors != null
+                    ? actors.submit(zone.getZoneId(), () -> cycle(zone))
+                    : CompletableFuture.supplyAsync(() -> cycle(zone), pool);
+        }
+        CompletableFuture.allOf(cycles).join();
+        return cycles.length;
+    }
+
+    private boolean cycle(ParkingZone zone) {
+        ParkingSpot spot = allocationService.assignSpot(request, zone);
+        if (spot == null) return false;
+        spot.occupy();
+        spot.release();
+        return true;
+    }
+}
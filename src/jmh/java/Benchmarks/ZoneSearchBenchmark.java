@@ -0,0 +1,97 @@
+package Benchmarks;
+
+import Controller.ZoneAllocationController;
+import Dto.Zone.SpotAssignmentRequestDto;
+import Dto.Zone.SpotAssignmentResponseDto;
+import Enum.SpotState;
+import Enum.ZoneType;
+import Model.ParkingSpot;
+import Model.ParkingZone;
+import Model.SubscriptionPlan;
+import Repository.impl.ConcurrentParkingSessionRepository;
+import Repository.impl.InMemoryParkingZoneRepository;
+import Repository.impl.InMemorySubscriptionPlanRepository;
+import Service.impl.ZoneAllocationServiceImpl;
+import Service.impl.ZoneOccupancyServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// One spot assignment in a city-wide deployment: a quarter of the zones are of the requested type,
+// the rest are other types the search has to skip. noSpotWhenFull is the worst case: every zone of
+// the requested type is full, so every one of them is tried before the request is turned away.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZoneSearchBenchmark {
+
+    private static final int SPOTS_PER_ZONE = 50;
+    private static final SpotAssignmentRequestDto REQUEST =
+            new SpotAssignmentRequestDto("U1", ZoneType.STANDARD, LocalDateTime.of(2026, 5, 12, 9, 0));
+
+    @Param({"10", "100", "500"})
+    public int zones;
+
+    private InMemoryParkingZoneRepository zoneRepo;
+    private ZoneAllocationController controller;
+
+    @Setup
+    public void setUp() {
+        zoneRepo = garage(zones);
+        controller = controller(zoneRepo);
+    }
+
+    @State(Scope.Benchmark)
+    public static class FullGarage {
+        ZoneAllocationController controller;
+
+        @Setup
+        public void setUp(ZoneSearchBenchmark benchmark) {
+            InMemoryParkingZoneRepository zoneRepo = garage(benchmark.zones);
+            for (ParkingZone zone : zoneRepo.findByZoneType(ZoneType.STANDARD)) {
+                for (ParkingSpot spot : zone.getSpots()) {
+                    spot.occupy();
+                }
+            }
+            controller = controller(zoneRepo);
+        }
+    }
+
+    @Benchmark
+    public SpotAssignmentResponseDto assignAndFree() {
+        SpotAssignmentResponseDto response = controller.assignSpot(REQUEST);
+        // hand the spot back so every invocation sees the same garage
+        zoneRepo.findSpotById(response.spotId()).setState(SpotState.FREE);
+        return response;
+    }
+
+    @Benchmark
+    public SpotAssignmentResponseDto noSpotWhenFull(FullGarage full) {
+        return full.controller.assignSpot(REQUEST);
+    }
+
+    private static InMemoryParkingZoneRepository garage(int zones) {
+        InMemoryParkingZoneRepository zoneRepo = new InMemoryParkingZoneRepository();
+        ZoneType[] others = {ZoneType.EV, ZoneType.VIP, ZoneType.EV};
+        for (int z = 0; z < zones; z++) {
+            ZoneType type = z % 4 == 0 ? ZoneType.STANDARD : others[z % 4 - 1];
+            ParkingZone zone = new ParkingZone("Z" + z, type, 0.9);
+            for (int s = 0; s < SPOTS_PER_ZONE; s++) {
+                zone.addSpot(new ParkingSpot("Z" + z + "-S" + s, zone));
+            }
+            zoneRepo.save(zone);
+        }
+        return zoneRepo;
+    }
+
+    private static ZoneAllocationController controller(InMemoryParkingZoneRepository zoneRepo) {
+        var subscriptionRepo = new InMemorySubscriptionPlanRepository();
+        subscriptionRepo.save("U1", SubscriptionPlan.defaultPlan());
+        var occupancyService = new ZoneOccupancyServiceImpl(zoneRepo, new ConcurrentParkingSessionRepository());
+        return new ZoneAllocationController(new ZoneAllocationServiceImpl(), zoneRepo, occupancyService, subscriptionRepo);
+    }
+}
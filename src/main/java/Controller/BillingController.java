@@ -1,16 +1,19 @@
 package Controller;
 
+import Dto.Billing.BillingBatchItemResponse;
 import Dto.Billing.BillingRequest;
 import Dto.Billing.BillingResponse;
 import Enum.SessionState;
+import Enum.ZoneType;
+import Metrics.MetricsRegistry;
 import Model.*;
 import Repository.*;
 import Service.BillingService;
 import Settings.Settings;
 
 import java.math.BigDecimal;
-import java.util.NoSuchElementException;
-import java.util.Objects;
+import java.util.*;
+import java.util.stream.IntStream;
 
 public class BillingController {
 
@@ -21,6 +24,7 @@ public class BillingController {
     private final ParkingSessionRepository parkingSessionRepository;
     private final PenaltyHistoryRepository penaltyHistoryRepository;
     private final SubscriptionPlanRepository subscriptionPlanRepository;
+    private MetricsRegistry metrics;
 
     public BillingController(BillingService billingService,
                              TariffRepository tariffRepository,
@@ -40,6 +44,10 @@ public class BillingController {
     }
 
     public BillingResponse calculateBill(BillingRequest request) {
+        return MetricsRegistry.timed(metrics, "billing.calculateBill", () -> calculateBillInternal(request), r -> "OK");
+    }
+
+    private BillingResponse calculateBillInternal(BillingRequest request) {
         Objects.requireNonNull(request, "request must not be null");
 
         // 1. Load session or fail if it doesn't exist
@@ -76,10 +84,7 @@ public class BillingController {
                         new NoSuchElementException("Subscription plan not found for user: " + session.getUserId())
                 );
 
-        int effectiveMaxDurationHours = request.maxDurationHours();
-        if (plan.maxDailyHours > 0 && effectiveMaxDurationHours <= 0) {
-            effectiveMaxDurationHours = (int) Math.round(plan.maxDailyHours);
-        }
+        int effectiveMaxDurationHours = effectiveMaxDurationHours(request, plan);
 
         // 7. Other parameters (tax, price cap)
         BigDecimal maxPriceCap = Settings.MAX_PRICE_CAPACITY;
@@ -102,7 +107,8 @@ public class BillingController {
                 taxRate
         );
 
-        // 9. Persist billing record
+        // 9. Persist billing record and mark session as PAID; the session's monitor makes the
+        //    paid check and the update one step against a concurrent bill for the same session
         BillingRecord record = new BillingRecord(
                 request.sessionId(),
                 session.getUserId(),
@@ -111,15 +117,166 @@ public class BillingController {
                 request.exitTime(),
                 result
         );
-        billingRecordRepository.save(record);
+        synchronized (session) {
+            if (session.getState() == SessionState.PAID) {
+                throw new IllegalStateException("Session already paid: " + session.getId());
+            }
+            billingRecordRepository.save(record);
 
-        // 10. Mark session as PAID
-        session.markPaid();
+            // 10. Mark session as PAID
+            session.markPaid();
+        }
 
         // 11. Map to BillingResponse (record)
+        return toResponse(request.sessionId(), session.getUserId(), result);
+    }
+
+    public List<BillingBatchItemResponse> calculateBills(List<BillingRequest> requests) {
+        return MetricsRegistry.timed(metrics, "billing.calculateBills", () -> calculateBillsInternal(requests), r -> "OK");
+    }
+
+    private List<BillingBatchItemResponse> calculateBillsInternal(List<BillingRequest> requests) {
+        Objects.requireNonNull(requests, "requests must not be null");
+
+        // 1. Shared inputs are loaded once per batch
+        DynamicPricingConfig dynamicConfig = dynamicPricingConfigRepository.getActiveConfig();
+        Map<ZoneType, Tariff> tariffs = new EnumMap<>(ZoneType.class);
+        Map<String, BigDecimal> penaltiesByUser = new HashMap<>();
+        Map<String, Optional<SubscriptionPlan>> plansByUser = new HashMap<>();
+        Set<String> sessionsInBatch = new HashSet<>();
+
+        BillingBatchItemResponse[] responses = new BillingBatchItemResponse[requests.size()];
+        List<PendingBill> pending = new ArrayList<>(requests.size());
+
+        // 2. Validate each request; a failure only affects its own entry
+        for (int i = 0; i < requests.size(); i++) {
+            BillingRequest request = requests.get(i);
+            try {
+                Objects.requireNonNull(request, "request must not be null");
+                ParkingSession session = parkingSessionRepository
+                        .findById(request.sessionId())
+                        .orElseThrow(() -> new NoSuchElementException("Session not found: " + request.sessionId()));
+
+                if (session.getState() == SessionState.PAID) {
+                    throw new IllegalStateException("Session already paid: " + session.getId());
+                }
+                if (!sessionsInBatch.add(session.getId())) {
+                    throw new IllegalStateException("Session billed twice in batch: " + session.getId());
+                }
+                if (request.exitTime().isBefore(session.getStartTime())) {
+                    throw new IllegalArgumentException(
+                            "Exit time " + request.exitTime() + " cannot be before start time " + session.getStartTime()
+                    );
+                }
+
+                Tariff tariff = tariffs.computeIfAbsent(request.zoneType(), tariffRepository::findByZoneType);
+                BigDecimal penaltiesTotal = penaltiesByUser.computeIfAbsent(session.getUserId(), userId -> {
+                    PenaltyHistory history = penaltyHistoryRepository.findById(userId);
+                    return history != null ? history.getTotalPenaltyAmount() : BigDecimal.ZERO;
+                });
+                SubscriptionPlan plan = plansByUser
+                        .computeIfAbsent(session.getUserId(), subscriptionPlanRepository::getPlanForUser)
+                        .orElseThrow(() ->
+                                new NoSuchElementException("Subscription plan not found for user: " + session.getUserId())
+                        );
+
+                pending.add(new PendingBill(i, request, session, tariff, penaltiesTotal, plan,
+                        effectiveMaxDurationHours(request, plan)));
+            } catch (RuntimeException e) {
+                responses[i] = BillingBatchItemResponse.failure(
+                        request != null ? request.sessionId() : null, failureReason(e));
+            }
+        }
+
+        // 3. Bills are independent of each other, so they are computed in parallel
+        BillingResult[] results = new BillingResult[pending.size()];
+        String[] failures = new String[pending.size()];
+        IntStream.range(0, pending.size()).parallel().forEach(i -> {
+            PendingBill bill = pending.get(i);
+            try {
+                results[i] = billingService.calculateBill(
+                        bill.session().getStartTime(),
+                        bill.request().exitTime(),
+                        bill.request().zoneType(),
+                        bill.request().dayType(),
+                        bill.request().timeOfDayBand(),
+                        bill.request().occupancyRatio(),
+                        bill.tariff(),
+                        dynamicConfig,
+                        bill.plan().discountInfo,
+                        bill.penaltiesTotal(),
+                        bill.maxDurationHours(),
+                        Settings.MAX_PRICE_CAPACITY,
+                        Settings.TAX_RATIO
+                );
+            } catch (RuntimeException e) {
+                failures[i] = failureReason(e);
+            }
+        });
+
+        // 4. Mark sessions as PAID; items another biller already paid are reported as failures
+        List<BillingRecord> records = new ArrayList<>(pending.size());
+        SessionState[] previous = new SessionState[pending.size()];
+        for (int i = 0; i < pending.size(); i++) {
+            PendingBill bill = pending.get(i);
+            if (results[i] == null) {
+                responses[bill.index()] = BillingBatchItemResponse.failure(bill.request().sessionId(), failures[i]);
+                continue;
+            }
+            previous[i] = claimPayment(bill.session());
+            if (previous[i] == null) {
+                responses[bill.index()] = BillingBatchItemResponse.failure(
+                        bill.request().sessionId(), "Session already paid: " + bill.session().getId());
+                continue;
+            }
+            records.add(new BillingRecord(
+                    bill.request().sessionId(),
+                    bill.session().getUserId(),
+                    bill.request().zoneType(),
+                    bill.session().getStartTime(),
+                    bill.request().exitTime(),
+                    results[i]
+            ));
+            responses[bill.index()] = BillingBatchItemResponse.success(
+                    toResponse(bill.request().sessionId(), bill.session().getUserId(), results[i]));
+        }
+
+        // 5. Persist all billing records in one write
+        try {
+            billingRecordRepository.saveAll(records);
+        } catch (RuntimeException e) {
+            for (int i = 0; i < pending.size(); i++) {
+                if (previous[i] != null) {
+                    pending.get(i).session().compareAndSetState(SessionState.PAID, previous[i]);
+                }
+            }
+            throw e;
+        }
+
+        return Arrays.asList(responses);
+    }
+
+    // moves the session to PAID and returns the state it left, or null if another biller got there first
+    private static SessionState claimPayment(ParkingSession session) {
+        SessionState current = session.getState();
+        if (current == SessionState.PAID || !session.compareAndSetState(current, SessionState.PAID)) {
+            return null;
+        }
+        return current;
+    }
+
+    private static int effectiveMaxDurationHours(BillingRequest request, SubscriptionPlan plan) {
+        int effectiveMaxDurationHours = request.maxDurationHours();
+        if (plan.maxDailyHours > 0 && effectiveMaxDurationHours <= 0) {
+            effectiveMaxDurationHours = (int) Math.round(plan.maxDailyHours);
+        }
+        return effectiveMaxDurationHours;
+    }
+
+    private static BillingResponse toResponse(String sessionId, String userId, BillingResult result) {
         return new BillingResponse(
-                request.sessionId(),
-                session.getUserId(),
+                sessionId,
+                userId,
                 result.getBasePrice(),
                 result.getDiscountsTotal(),
                 result.getPenaltiesTotal(),
@@ -128,4 +285,22 @@ public class BillingController {
                 result.getFinalPrice()
         );
     }
+
+    private static String failureReason(RuntimeException e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+
+    private record PendingBill(
+            int index,
+            BillingRequest request,
+            ParkingSession session,
+            Tariff tariff,
+            BigDecimal penaltiesTotal,
+            SubscriptionPlan plan,
+            int maxDurationHours
+    ) { }
+
+    public void setMetrics(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
 }
@@ -1,10 +1,13 @@
 package Controller;
 
 import Dto.Eligibility.*;
+import Metrics.MetricsRegistry;
 import Model.*;
+import Record.UserUsageSnapshot;
 import Repository.*;
 import Service.EligibilityService;
 
+import java.time.LocalDateTime;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 
@@ -14,6 +17,8 @@ public class EligibilityController {
     private final UserRepository userRepository;
     private final VehicleRepository vehicleRepository;
     private final SubscriptionPlanRepository planRepository;
+    private final ParkingSessionRepository sessionRepository; // null: caller supplies usage figures
+    private MetricsRegistry metrics;
 
     public EligibilityController(
             EligibilityService eligibilityService,
@@ -25,35 +30,102 @@ public class EligibilityController {
         this.userRepository = Objects.requireNonNull(userRepository);
         this.vehicleRepository = Objects.requireNonNull(vehicleRepository);
         this.planRepository = Objects.requireNonNull(planRepository);
+        this.sessionRepository = null;
+    }
+
+    public EligibilityController(
+            EligibilityService eligibilityService,
+            UserRepository userRepository,
+            VehicleRepository vehicleRepository,
+            SubscriptionPlanRepository planRepository,
+            ParkingSessionRepository sessionRepository
+    ) {
+        this.eligibilityService = Objects.requireNonNull(eligibilityService);
+        this.userRepository = Objects.requireNonNull(userRepository);
+        this.vehicleRepository = Objects.requireNonNull(vehicleRepository);
+        this.planRepository = Objects.requireNonNull(planRepository);
+        this.sessionRepository = Objects.requireNonNull(sessionRepository);
     }
 
     public EligibilityResponseDto checkEligibility(EligibilityRequestDto dto) {
+        return MetricsRegistry.timed(metrics, "eligibility.checkEligibility", () -> checkEligibilityInternal(dto), r -> r.allowed() ? "ALLOWED" : r.reason());
+    }
+
+    private EligibilityResponseDto checkEligibilityInternal(EligibilityRequestDto dto) {
         Objects.requireNonNull(dto);
 
-        User user = userRepository.findById(dto.userId())
-                .orElseThrow(() -> new NoSuchElementException("User not found: " + dto.userId()));
+        return evaluate(
+                dto.userId(),
+                dto.vehiclePlate(),
+                dto.activeSessionsForVehicle(),
+                dto.totalActiveSessionsForUser(),
+                dto.sessionsStartedToday(),
+                dto.hoursUsedToday(),
+                dto.hasUnpaidSessions(),
+                dto.now()
+        );
+    }
+
+    // Gathers the usage figures with one repository lookup instead of asking the caller for them.
+    public EligibilityResponseDto checkEligibility(String userId, String vehiclePlate, LocalDateTime now) {
+        return MetricsRegistry.timed(metrics, "eligibility.checkEligibility", () -> checkEligibilityInternal(userId, vehiclePlate, now), r -> r.allowed() ? "ALLOWED" : r.reason());
+    }
+
+    private EligibilityResponseDto checkEligibilityInternal(String userId, String vehiclePlate, LocalDateTime now) {
+        if (sessionRepository == null) {
+            throw new IllegalStateException("Controller was built without a session repository");
+        }
+        UserUsageSnapshot usage = sessionRepository.getUsageSnapshot(userId, vehiclePlate);
+
+        return evaluate(
+                userId,
+                vehiclePlate,
+                usage.activeSessionsForVehicle(),
+                usage.totalActiveSessionsForUser(),
+                usage.sessionsStartedToday(),
+                usage.hoursUsedToday(),
+                usage.hasUnpaidSessions(),
+                now
+        );
+    }
+
+    private EligibilityResponseDto evaluate(String userId,
+                                            String vehiclePlate,
+                                            int activeSessionsForVehicle,
+                                            int totalActiveSessionsForUser,
+                                            int sessionsStartedToday,
+                                            double hoursUsedToday,
+                                            boolean hasUnpaidSessions,
+                                            LocalDateTime now) {
 
-        Vehicle vehicle = vehicleRepository.findByPlate(dto.vehiclePlate())
-                .orElseThrow(() -> new NoSuchElementException("Vehicle not found: " + dto.vehiclePlate()));
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NoSuchElementException("User not found: " + userId));
 
-        SubscriptionPlan plan = planRepository.getPlanForUser(dto.userId())
-                .orElseThrow(() -> new NoSuchElementException("No subscription plan for user: " + dto.userId()));
+        Vehicle vehicle = vehicleRepository.findByPlate(vehiclePlate)
+                .orElseThrow(() -> new NoSuchElementException("Vehicle not found: " + vehiclePlate));
+
+        SubscriptionPlan plan = planRepository.getPlanForUser(userId)
+                .orElseThrow(() -> new NoSuchElementException("No subscription plan for user: " + userId));
 
 
         EligibilityResult result = eligibilityService.canStartSession(
                 user,
                 vehicle,
-                dto.activeSessionsForVehicle(),
-                dto.totalActiveSessionsForUser(),
-                dto.sessionsStartedToday(),
-                dto.hoursUsedToday(),
+                activeSessionsForVehicle,
+                totalActiveSessionsForUser,
+                sessionsStartedToday,
+                hoursUsedToday,
                 plan,
-                dto.hasUnpaidSessions(),
-                dto.now()
+                hasUnpaidSessions,
+                now
         );
 
         Objects.requireNonNull(result, "Something went wrong!");
 
         return new EligibilityResponseDto(result.isAllowed(), result.getReason());
     }
-}
\ No newline at end of file
+
+    public void setMetrics(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+}
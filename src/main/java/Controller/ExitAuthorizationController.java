@@ -1,6 +1,7 @@
 package Controller;
 
 import Dto.Exit.*;
+import Metrics.MetricsRegistry;
 import Model.*;
 import Repository.ParkingSessionRepository;
 import Repository.ParkingZoneRepository;
@@ -8,6 +9,7 @@ import Repository.UserRepository;
 import Service.ExitAuthorizationService;
 import Enum.ExitFailureReason;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.Objects;
 public class ExitAuthorizationController {
@@ -16,20 +18,38 @@ public class ExitAuthorizationController {
     private final UserRepository userRepository;
     private final ParkingSessionRepository sessionRepository;
     private final ParkingZoneRepository zoneRepository;
+    private MetricsRegistry metrics;
+    private final Clock clock;
 
     public ExitAuthorizationController(
             ExitAuthorizationService exitAuthorizationService,
             UserRepository userRepository,
             ParkingSessionRepository sessionRepository,
             ParkingZoneRepository zoneRepository
+    ) {
+        this(exitAuthorizationService, userRepository, sessionRepository, zoneRepository, Clock.systemDefaultZone());
+    }
+
+    // the clock stamps the end time of sessions closed on exit
+    public ExitAuthorizationController(
+            ExitAuthorizationService exitAuthorizationService,
+            UserRepository userRepository,
+            ParkingSessionRepository sessionRepository,
+            ParkingZoneRepository zoneRepository,
+            Clock clock
     ) {
         this.exitAuthorizationService = Objects.requireNonNull(exitAuthorizationService);
         this.userRepository = Objects.requireNonNull(userRepository);
         this.sessionRepository = Objects.requireNonNull(sessionRepository);
         this.zoneRepository = Objects.requireNonNull(zoneRepository);
+        this.clock = Objects.requireNonNull(clock);
     }
 
     public ExitAuthorizationResponseDto authorizeExit(ExitAuthorizationRequestDto dto) {
+        return MetricsRegistry.timed(metrics, "exit.authorizeExit", () -> authorizeExitInternal(dto), r -> r.allowed() ? "ALLOWED" : String.valueOf(r.reason()));
+    }
+
+    private ExitAuthorizationResponseDto authorizeExitInternal(ExitAuthorizationRequestDto dto) {
 
         User user = userRepository.findById(dto.userId()).orElse(null);
         if (user == null) {
@@ -51,7 +71,7 @@ public class ExitAuthorizationController {
 
         if (decision.isAllowed()) {
 
-            session.close(LocalDateTime.now());
+            session.close(LocalDateTime.now(clock));
             sessionRepository.save(session);
 
             ParkingZone zone = zoneRepository.findById(session.getZoneId());
@@ -71,4 +91,8 @@ public class ExitAuthorizationController {
                 decision.getReason()
         );
     }
-}
\ No newline at end of file
+
+    public void setMetrics(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+}
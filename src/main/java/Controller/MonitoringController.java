@@ -8,11 +8,15 @@ import Model.LogEvent;
 import Model.ParkingZone;
 import Model.PenaltyHistory;
 import Model.PenaltySummaryReport;
+import Model.PenaltySummaryTotals;
 import Model.ZoneOccupancyReport;
+import Repository.LogEventRepository;
 import Repository.ParkingZoneRepository;
 import Repository.PenaltyHistoryRepository;
 import Service.MonitoringService;
+import Service.impl.ReservationExpiryScheduler;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 
@@ -21,6 +25,9 @@ public class MonitoringController {
     private final MonitoringService monitoringService;
     private final PenaltyHistoryRepository penaltyHistoryRepository;
     private final ParkingZoneRepository parkingZoneRepository;
+    private PenaltySummaryTotals summaryTotals;
+    private LogEventRepository logEventRepository;
+    private ReservationExpiryScheduler reservationExpiry;
 
     public MonitoringController(
             MonitoringService monitoringService,
@@ -37,12 +44,37 @@ public class MonitoringController {
 
         LogEvent event = new LogEvent(dto.timestamp(), dto.type(), dto.details());
         monitoringService.logEvent(event);
+        if (logEventRepository != null) {
+            logEventRepository.save(event);
+        }
     }
 
-    public PenaltySummaryResponseDto generatePenaltySummary() {
-        List<PenaltyHistory> histories = penaltyHistoryRepository.findAll();
+    // type == null returns events of every type; the range is from inclusive, to exclusive
+    public List<LogEventDto> findEvents(String type, LocalDateTime from, LocalDateTime to) {
+        if (logEventRepository == null) {
+            throw new IllegalStateException("No log event repository configured");
+        }
+        List<LogEvent> events = type == null
+                ? logEventRepository.findBetween(from, to)
+                : logEventRepository.findByTypeBetween(type, from, to);
+
+        return events.stream()
+                .map(e -> new LogEventDto(e.getTimestamp(), e.getType(), e.getDetails()))
+                .toList();
+    }
 
-        PenaltySummaryReport report = monitoringService.generatePenaltySummary(histories);
+    public void setLogEventRepository(LogEventRepository logEventRepository) {
+        this.logEventRepository = logEventRepository;
+    }
+
+    public PenaltySummaryResponseDto generatePenaltySummary() {
+        PenaltySummaryReport report;
+        if (summaryTotals != null) {
+            report = summaryTotals.toReport();
+        } else {
+            List<PenaltyHistory> histories = penaltyHistoryRepository.findAll();
+            report = monitoringService.generatePenaltySummary(histories);
+        }
 
         return new PenaltySummaryResponseDto(
                 report.getTotalOverstay(),
@@ -52,20 +84,36 @@ public class MonitoringController {
         );
     }
 
+    public void setSummaryTotals(PenaltySummaryTotals summaryTotals) {
+        this.summaryTotals = summaryTotals;
+    }
+
+    public void setReservationExpiry(ReservationExpiryScheduler reservationExpiry) {
+        this.reservationExpiry = reservationExpiry;
+    }
+
     public ZoneOccupancyReportResponseDto generateZoneReport(ZoneReportRequestDto dto) {
         Objects.requireNonNull(dto, "dto must not be null");
 
         ParkingZone zone = parkingZoneRepository.findById(dto.zoneId());
 
+        // with an expiry scheduler the reservation counts are the ones it observed, not the caller's
+        int totalReservations = reservationExpiry == null
+                ? dto.totalReservations()
+                : (int) reservationExpiry.getReservationCount(zone.getZoneId());
+        int noShowReservations = reservationExpiry == null
+                ? dto.noShowReservations()
+                : (int) reservationExpiry.getNoShowCount(zone.getZoneId());
+
         double averageOccupancy = dto.totalTimeSlotsObserved() == 0
                 ? 0.0
-                : (double) dto.totalReservations() / (double) dto.totalTimeSlotsObserved();
+                : (double) totalReservations / (double) dto.totalTimeSlotsObserved();
 
         ZoneOccupancyReport report = monitoringService.generateZoneReport(
                 zone.getZoneType(),
                 averageOccupancy,
-                dto.totalReservations(),
-                dto.noShowReservations()
+                totalReservations,
+                noShowReservations
         );
 
         return new ZoneOccupancyReportResponseDto(
@@ -4,6 +4,8 @@ import Dto.Session.StartSessionRequestDto;
 import Dto.Session.StartSessionResponseDto;
 import Enum.TimeOfDayBand;
 import Enum.DayType;
+import Events.SessionLifecycleEvent;
+import Metrics.MetricsRegistry;
 import Model.ParkingSession;
 import Model.ParkingSpot;
 import Model.ParkingZone;
@@ -29,6 +31,7 @@ public class ParkingSessionController {
     private EligibilityService eligibilityService;
     private ZoneAllocationService zoneAllocationService;
     private DurationCalculator durationCalculator;
+    private MetricsRegistry metrics;
 
     public ParkingSessionController(ParkingSessionRepository sessionRepo, ParkingZoneRepository zoneRepo) {
         this.sessionRepo = Objects.requireNonNull(sessionRepo);
@@ -36,16 +39,50 @@ public class ParkingSessionController {
     }
 
     public StartSessionResponseDto startSession(StartSessionRequestDto dto) {
-        Objects.requireNonNull(dto);
+        return MetricsRegistry.timed(metrics, "session.startSession", () -> startSessionInternal(dto), r -> "STARTED");
+    }
+
+    private StartSessionResponseDto startSessionInternal(StartSessionRequestDto dto) {
+        SessionLifecycleEvent event = new SessionLifecycleEvent();
+        event.begin();
+        StartSessionResponseDto response = null;
+        String failure = null;
+        try {
+            response = openSession(dto);
+            return response;
+        } catch (RuntimeException e) {
+            failure = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.action = "START";
+                event.sessionId = response == null ? null : response.sessionId();
+                event.zoneId = dto == null ? null : dto.zoneId();
+                event.zoneType = dto == null ? null : String.valueOf(dto.zoneType());
+                event.outcome = failure != null ? failure : "STARTED";
+                event.commit();
+            }
+        }
+    }
 
-        ParkingZone zone = zoneRepo.findById(dto.zoneId());
+    private StartSessionResponseDto openSession(StartSessionRequestDto dto) {
+        Objects.requireNonNull(dto);
 
-        ParkingSpot spot = zone.getSpots().stream()
-                .filter(s -> s.getSpotId().equals(dto.spotId()))
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("Spot not found"));
+        ParkingSpot spot = zoneRepo.findSpotById(dto.spotId());
+        if (spot == null) {
+            throw new IllegalStateException("Spot not found");
+        }
+        ParkingZone zone = spot.getParkingZone();
+        if (zone == null || !zone.getZoneId().equals(dto.zoneId())) {
+            throw new IllegalStateException("Spot " + dto.spotId() + " is not in zone " + dto.zoneId());
+        }
 
-        spot.occupy();
+        if (dto.reservationId() == 0) {
+            spot.occupy();
+        } else if (!spot.occupyReservation(dto.reservationId())) {
+            throw new IllegalStateException("Reservation " + dto.reservationId() + " for spot " + spot.getSpotId() + " expired");
+        }
 
         String sessionId = UUID.randomUUID().toString();
 
@@ -76,15 +113,44 @@ public class ParkingSessionController {
     }
 
     public boolean closeSession(String sessionId, LocalDateTime endTime) {
+        return MetricsRegistry.timed(metrics, "session.closeSession", () -> closeSessionInternal(sessionId, endTime), closed -> closed ? "CLOSED" : "NOT_FOUND");
+    }
+
+    private boolean closeSessionInternal(String sessionId, LocalDateTime endTime) {
         Objects.requireNonNull(sessionId);
         Objects.requireNonNull(endTime);
 
-        ParkingSession session = sessionRepo.findById(sessionId).orElse(null);
-        if (session == null) return false;
-
-        session.close(endTime);
-        sessionRepo.save(session);
-        return true;
+        SessionLifecycleEvent event = new SessionLifecycleEvent();
+        event.begin();
+        ParkingSession session = null;
+        String outcome = null;
+        try {
+            session = sessionRepo.findById(sessionId).orElse(null);
+            if (session == null) {
+                outcome = "NOT_FOUND";
+                return false;
+            }
+
+            session.close(endTime);
+            sessionRepo.save(session);
+            outcome = "CLOSED";
+            return true;
+        } catch (RuntimeException e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.action = "CLOSE";
+                event.sessionId = sessionId;
+                if (session != null) {
+                    event.zoneId = session.getZoneId();
+                    event.zoneType = String.valueOf(session.getZoneType());
+                }
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
     }
 
     public TimeOfDayBand getTimeOfDayBand(LocalDateTime startTime) {
@@ -129,4 +195,8 @@ public class ParkingSessionController {
     public void setDurationCalculator(DurationCalculator durationCalculator) {
         this.durationCalculator = durationCalculator;
     }
-}
\ No newline at end of file
+
+    public void setMetrics(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+}
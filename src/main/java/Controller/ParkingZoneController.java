@@ -1,11 +1,16 @@
 package Controller;
 
+import Dto.Zone.LayoutImportResultDto;
 import Dto.Zone.ParkingSpotDto;
 import Dto.Zone.ParkingZoneDto;
 import Model.ParkingSpot;
 import Model.ParkingZone;
 import Repository.ParkingZoneRepository;
 import Enum.ZoneType;
+import Service.impl.GarageLayoutImporter;
+
+import java.nio.file.Path;
+
 public class ParkingZoneController {
     private final ParkingZoneRepository parkingZoneRepository;
 
@@ -34,4 +39,9 @@ public class ParkingZoneController {
 
         zone.addSpot(spot);
     }
+
+    // Bulk alternative to createParkingZone/addSpot; ".csv" files are read as CSV, others as binary.
+    public LayoutImportResultDto importLayout(Path file) {
+        return new GarageLayoutImporter(parkingZoneRepository).importFile(file);
+    }
 }
@@ -5,8 +5,10 @@ import Dto.Penalty.ApplyPenaltyResponseDto;
 import Dto.Penalty.PenaltyCalculationRequestDto;
 import Dto.Penalty.PenaltyCalculationResponseDto;
 import Enum.BlacklistStatus;
+import Metrics.MetricsRegistry;
 import Model.Penalty;
 import Model.PenaltyHistory;
+import Model.PenaltySummaryTotals;
 import Repository.PenaltyHistoryRepository;
 import Service.MonitoringService;
 import Service.PenaltyService;
@@ -21,6 +23,8 @@ public class PenaltyController {
     private final PenaltyService penaltyService;
     private final MonitoringService monitoringService;
     private final PenaltyHistoryRepository penaltyHistoryRepository;
+    private PenaltySummaryTotals summaryTotals;
+    private MetricsRegistry metrics;
 
     public PenaltyController(
             PenaltyService penaltyService,
@@ -49,6 +53,10 @@ public class PenaltyController {
         return new PenaltyCalculationResponseDto(total);
     }
     public ApplyPenaltyResponseDto applyPenalty(ApplyPenaltyRequestDto dto) {
+        return MetricsRegistry.timed(metrics, "penalty.applyPenalty", () -> applyPenaltyInternal(dto), r -> r.blacklistStatus().name());
+    }
+
+    private ApplyPenaltyResponseDto applyPenaltyInternal(ApplyPenaltyRequestDto dto) {
         Objects.requireNonNull(dto, "dto must not be null");
 
         PenaltyHistory history = penaltyHistoryRepository.getOrCreate(dto.userId());
@@ -70,6 +78,10 @@ public class PenaltyController {
 
         penaltyHistoryRepository.save(dto.userId(), history);
 
+        if (summaryTotals != null) {
+            summaryTotals.record(dto.userId(), penalty, status);
+        }
+
         return new ApplyPenaltyResponseDto(
                 dto.userId(),
                 history.getTotalPenaltyAmount(),
@@ -77,4 +89,12 @@ public class PenaltyController {
                 status
         );
     }
-}
\ No newline at end of file
+
+    public void setSummaryTotals(PenaltySummaryTotals summaryTotals) {
+        this.summaryTotals = summaryTotals;
+    }
+
+    public void setMetrics(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+}
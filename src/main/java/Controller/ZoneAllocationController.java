@@ -2,13 +2,19 @@ package Controller;
 
 import Dto.Zone.SpotAssignmentRequestDto;
 import Dto.Zone.SpotAssignmentResponseDto;
+import Enum.ZoneType;
 import Exceptions.NoSpotsAvailableException;
+import Metrics.MetricsRegistry;
 import Model.*;
 import Repository.ParkingZoneRepository;
 import Repository.SubscriptionPlanRepository;
 import Service.ZoneAllocationService;
 import Service.ZoneOccupancyService;
+import Service.impl.ReservationExpiryScheduler;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 
@@ -18,6 +24,8 @@ public class ZoneAllocationController {
     private final ParkingZoneRepository parkingZoneRepository;
     private final ZoneOccupancyService occupancyService;
     private final SubscriptionPlanRepository subscriptionPlanRepository;
+    private MetricsRegistry metrics;
+    private ReservationExpiryScheduler reservationExpiry;
 
     public ZoneAllocationController(
             ZoneAllocationService zoneAllocationService,
@@ -30,43 +38,117 @@ public class ZoneAllocationController {
         this.subscriptionPlanRepository = subscriptionPlanRepository;
     }
 
-    public SpotAssignmentResponseDto assignSpot(SpotAssignmentRequestDto dto){
+    public SpotAssignmentResponseDto assignSpot(SpotAssignmentRequestDto dto) {
+        return MetricsRegistry.timed(metrics, "allocation.assignSpot", () -> assignSpotInternal(dto), r -> r == null ? "NO_SPOT" : "ASSIGNED");
+    }
+
+    // Tries one zone the caller has already picked, e.g. from inside that zone's actor; null when
+    // the zone is at its threshold or has no spot for the request.
+    public SpotAssignmentResponseDto assignSpotInZone(SpotAssignmentRequestDto dto, ParkingZone zone) {
+        return MetricsRegistry.timed(metrics, "allocation.assignSpot", () -> {
+            Objects.requireNonNull(zone);
+            return tryZone(toRequest(dto), zone);
+        }, r -> r == null ? "NO_SPOT" : "ASSIGNED");
+    }
+
+    // Frees a spot still held by this reservation, e.g. when its session could not be started.
+    // False if the reservation already lapsed or the spot was taken under it.
+    public boolean releaseReservation(String spotId, long reservationId) {
+        ParkingSpot spot = parkingZoneRepository.findSpotById(spotId);
+        return spot != null && spot.expireReservation(reservationId);
+    }
+
+    // The zones of a type in the order assignSpot tries them: most headroom first.
+    public List<ParkingZone> rankZones(ZoneType zoneType) {
+        return byHeadroom(parkingZoneRepository.findByZoneType(zoneType));
+    }
+
+    private SpotAssignmentResponseDto assignSpotInternal(SpotAssignmentRequestDto dto) {
+        SpotAssignmentRequest request = toRequest(dto);
+
+        // most headroom first: a zone other gates are filling up is tried last, which spreads
+        // concurrent requests over the zones
+        for (ParkingZone zone : byHeadroom(parkingZoneRepository.findByZoneType(dto.requestedZoneType()))) {
+            SpotAssignmentResponseDto response = tryZone(request, zone);
+            if (response != null) {
+                return response;
+            }
+        }
+
+        return null;
+    }
+
+    private SpotAssignmentRequest toRequest(SpotAssignmentRequestDto dto) {
         Objects.requireNonNull(dto);
 
         // checks also if user does not exist
         SubscriptionPlan subscriptionPlan= subscriptionPlanRepository.getPlanForUser(dto.userId()).orElseThrow(()-> new NoSuchElementException("This user does not exist!"));
 
-        SpotAssignmentRequest request = new SpotAssignmentRequest(
+        return new SpotAssignmentRequest(
                 dto.userId(),
                 dto.requestedZoneType(),
                 subscriptionPlan,
                 dto.requestedStartTime()
         );
+    }
 
-        for (ParkingZone zone : parkingZoneRepository.findAll()) {
-
-            if (!zone.getZoneType().equals(dto.requestedZoneType())) {
-                continue;
-            }
+    private SpotAssignmentResponseDto tryZone(SpotAssignmentRequest request, ParkingZone zone) {
+        double occupancy = occupancyService
+                .calculateOccupancyRatioForZone(zone.getZoneId());
 
-            double occupancy = occupancyService
-                    .calculateOccupancyRatioForZone(zone.getZoneId());
+        if (occupancy >= zone.getMaxOccupancyThreshold()) {
+            return null;
+        }
 
-            if (occupancy >= zone.getMaxOccupancyThreshold()) {
-                continue;
-            }
+        ParkingSpot spot = zoneAllocationService.assignSpot(request, zone);
+        if (spot == null) {
+            return null;
+        }
+        ParkingSpot.Reservation reservation = spot.getReservation();
+        if (reservationExpiry != null && reservation != null) {
+            reservationExpiry.schedule(spot, reservation);
+        }
+        return new SpotAssignmentResponseDto(
+                spot.getSpotId(),
+                spot.getParkingZone().getZoneType(),
+                spot.getState(),
+                zone.getZoneId(),
+                reservation == null ? 0 : reservation.id(),
+                reservation == null ? null : reservation.until()
+        );
+    }
 
-            ParkingSpot spot = zoneAllocationService.assignSpot(request, zone);
-            if (spot != null) {
-                return new SpotAssignmentResponseDto(
-                        spot.getSpotId(),
-                        spot.getParkingZone().getZoneType(),
-                        spot.getState(),
-                        zone.getZoneId()
-                );
-            }
+    // Sorts once, most headroom first, on a snapshot of each zone's headroom: other gates keep
+    // changing the counts, and a comparator reading them live could see an inconsistent order.
+    // Ties keep the repository's order.
+    private static List<ParkingZone> byHeadroom(List<ParkingZone> zones) {
+        double[] headroom = new double[zones.size()];
+        Integer[] order = new Integer[zones.size()];
+        for (int i = 0; i < order.length; i++) {
+            headroom[i] = headroom(zones.get(i));
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(headroom[b], headroom[a]));
+        List<ParkingZone> ranked = new ArrayList<>(order.length);
+        for (int i : order) {
+            ranked.add(zones.get(i));
         }
+        return ranked;
+    }
 
-        return null;
+    // share of the zone that can still be taken before its threshold, from the zone's free-spot
+    // count (reserved and occupied spots both count as taken); no locks, no session lookups
+    private static double headroom(ParkingZone zone) {
+        int total = zone.getTotalSpots();
+        if (total == 0) return -1.0;
+        return zone.getMaxOccupancyThreshold() - (double) (total - zone.getFreeSpotsCount()) / total;
+    }
+
+    public void setMetrics(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+
+    public void setReservationExpiry(ReservationExpiryScheduler reservationExpiry) {
+        this.reservationExpiry = reservationExpiry;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,19 @@
+package Dto.Billing;
+
+public record BillingBatchItemResponse(
+        String sessionId,
+        BillingResponse response,
+        String failureReason
+) {
+    public static BillingBatchItemResponse success(BillingResponse response) {
+        return new BillingBatchItemResponse(response.sessionId(), response, null);
+    }
+
+    public static BillingBatchItemResponse failure(String sessionId, String failureReason) {
+        return new BillingBatchItemResponse(sessionId, null, failureReason);
+    }
+
+    public boolean succeeded() {
+        return response != null;
+    }
+}
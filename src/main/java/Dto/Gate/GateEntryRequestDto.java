@@ -0,0 +1,13 @@
+package Dto.Gate;
+
+import Enum.ZoneType;
+
+import java.time.LocalDateTime;
+
+public record GateEntryRequestDto(
+        String userId,
+        String vehiclePlate,
+        ZoneType zoneType,
+        boolean isHoliday,
+        LocalDateTime arrivalTime
+) {}
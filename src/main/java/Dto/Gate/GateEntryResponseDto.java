@@ -0,0 +1,13 @@
+package Dto.Gate;
+
+import Dto.Session.StartSessionResponseDto;
+
+// reason is the eligibility reason or "NO_SPOT" when admitted is false; zoneId, spotId and session
+// are only set for an admitted vehicle
+public record GateEntryResponseDto(
+        boolean admitted,
+        String reason,
+        String zoneId,
+        String spotId,
+        StartSessionResponseDto session
+) {}
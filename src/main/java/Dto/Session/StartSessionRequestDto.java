@@ -3,6 +3,7 @@ package Dto.Session;
 import Enum.ZoneType;
 import java.time.LocalDateTime;
 
+// reservationId: the reservation the spot was assigned under, 0 for a walk-in start
 public record StartSessionRequestDto(
         String userId,
         String vehiclePlate,
@@ -10,5 +11,11 @@ public record StartSessionRequestDto(
         String spotId,
         ZoneType zoneType,
         boolean isHoliday,
-        LocalDateTime startTime
-) {}
\ No newline at end of file
+        LocalDateTime startTime,
+        long reservationId
+) {
+    public StartSessionRequestDto(String userId, String vehiclePlate, String zoneId, String spotId,
+                                  ZoneType zoneType, boolean isHoliday, LocalDateTime startTime) {
+        this(userId, vehiclePlate, zoneId, spotId, zoneType, isHoliday, startTime, 0);
+    }
+}
\ No newline at end of file
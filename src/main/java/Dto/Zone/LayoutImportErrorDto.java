@@ -0,0 +1,8 @@
+package Dto.Zone;
+
+// line is the 1-based line of a CSV layout, or the 1-based record number of a binary one
+// (record 0 being the file header)
+public record LayoutImportErrorDto(
+        long line,
+        String message
+) {}
@@ -0,0 +1,11 @@
+package Dto.Zone;
+
+import java.util.List;
+
+// errors holds the first Settings.LAYOUT_IMPORT_MAX_REPORTED_ERRORS problems; errorCount counts all
+public record LayoutImportResultDto(
+        int zonesCreated,
+        int spotsCreated,
+        long errorCount,
+        List<LayoutImportErrorDto> errors
+) {}
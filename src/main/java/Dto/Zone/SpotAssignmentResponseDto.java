@@ -3,9 +3,15 @@ package Dto.Zone;
 import Enum.SpotState;
 import Enum.ZoneType;
 
+import java.time.LocalDateTime;
+
+// reservationId: the reservation behind this assignment (0 if none); pass it on when starting the
+// session. reservedUntil: when that reservation lapses.
 public record SpotAssignmentResponseDto(
         String spotId,
         ZoneType zoneType,
         SpotState state,
-        String zoneId
+        String zoneId,
+        long reservationId,
+        LocalDateTime reservedUntil
 ) {}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package Enum;
+
+// What the event log does with a new event while its buffer is full of unwritten events.
+public enum BackPressurePolicy {
+    DROP,   // discard the new event
+    BLOCK,  // wait for the writer to make room
+    SAMPLE  // keep one in every EVENT_LOG_SAMPLE_EVERY new events, evicting the oldest unwritten one
+}
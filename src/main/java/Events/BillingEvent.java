@@ -0,0 +1,23 @@
+package Events;
+
+import jdk.jfr.*;
+
+@Name("parking.Billing")
+@Label("Bill Calculation")
+@Category({"Parking", "Billing"})
+@Description("Pricing, discounts and tax for one session")
+@StackTrace(false)
+public class BillingEvent extends Event {
+
+    @Label("Zone Type")
+    public String zoneType;
+
+    @Label("Billed Hours")
+    public int billedHours;
+
+    @Label("Total Amount")
+    public double totalAmount;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,23 @@
+package Events;
+
+import jdk.jfr.*;
+
+@Name("parking.ExitAuthorization")
+@Label("Exit Authorization")
+@Category({"Parking", "Exit"})
+@Description("The decision whether a vehicle may leave")
+@StackTrace(false)
+public class ExitAuthorizationEvent extends Event {
+
+    @Label("Session Id")
+    public String sessionId;
+
+    @Label("Zone")
+    public String zoneId;
+
+    @Label("Zone Type")
+    public String zoneType;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,26 @@
+package Events;
+
+import jdk.jfr.*;
+
+@Name("parking.SessionLifecycle")
+@Label("Parking Session")
+@Category({"Parking", "Sessions"})
+@Description("A parking session being started or closed")
+@StackTrace(false)
+public class SessionLifecycleEvent extends Event {
+
+    @Label("Action")
+    public String action;
+
+    @Label("Session Id")
+    public String sessionId;
+
+    @Label("Zone")
+    public String zoneId;
+
+    @Label("Zone Type")
+    public String zoneType;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,23 @@
+package Events;
+
+import jdk.jfr.*;
+
+@Name("parking.SpotAllocation")
+@Label("Spot Allocation")
+@Category({"Parking", "Allocation"})
+@Description("One attempt to reserve a spot in a zone")
+@StackTrace(false)
+public class SpotAllocationEvent extends Event {
+
+    @Label("Zone")
+    public String zoneId;
+
+    @Label("Zone Type")
+    public String zoneType;
+
+    @Label("Spot Id")
+    public String spotId;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,7 @@
+package Exceptions;
+
+public class GateBusyException extends RuntimeException {
+    public GateBusyException(String zoneKey) {
+        super("Too many requests in flight for " + zoneKey + ", try again");
+    }
+}
@@ -0,0 +1,274 @@
+package Gate;
+
+import Controller.*;
+import Dto.Billing.BillingRequest;
+import Dto.Billing.BillingResponse;
+import Dto.Eligibility.EligibilityResponseDto;
+import Dto.Exit.ExitAuthorizationRequestDto;
+import Dto.Exit.ExitAuthorizationResponseDto;
+import Dto.Gate.GateEntryRequestDto;
+import Dto.Gate.GateEntryResponseDto;
+import Dto.Session.StartSessionRequestDto;
+import Dto.Session.StartSessionResponseDto;
+import Dto.Zone.SpotAssignmentRequestDto;
+import Dto.Zone.SpotAssignmentResponseDto;
+import Exceptions.GateBusyException;
+import Model.ParkingSession;
+import Model.ParkingZone;
+import Repository.ParkingSessionRepository;
+import Settings.Settings;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Gate-facing front end that runs every entry, billing and exit request on its own thread and
+// hands back a CompletableFuture. On Java 21+ each request gets a virtual thread; on older
+// runtimes it falls back to a cached pool of platform threads, so the code still builds for 17.
+//
+// Each zone admits at most maxInFlightPerZone requests at a time; the rest wait up to the
+// admission timeout and then fail with GateBusyException, so a burst at one zone cannot take
+// every thread or lock from the others. Billing and exit requests are admitted under the zone of
+// their session. An entry has no zone until a spot is assigned, so it is admitted under its
+// requested zone type instead; the two kinds of key are prefixed so a zone id can never share a
+// limit with a zone type name.
+//
+// Built with ZoneActors, the steps that change a zone's spots and sessions (spot assignment and
+// session start, billing, exit) run on that zone's actor instead of the request thread. The
+// request thread waits for the actor; eligibility checks and zone ranking stay on it.
+public class GateRequestExecutor implements AutoCloseable {
+
+    private static final String UNKNOWN_SESSION = "UNKNOWN_SESSION";
+    private static final String ZONE_TYPE_KEY = "type:";
+    private static final String ZONE_ID_KEY = "zone:";
+
+    private final EligibilityController eligibilityController;
+    private final ZoneAllocationController zoneController;
+    private final ParkingSessionController sessionController;
+    private final BillingController billingController;
+    private final ExitAuthorizationController exitController;
+    private final ParkingSessionRepository sessionRepository;
+
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    private final int maxInFlightPerZone;
+    private final long admissionTimeoutNanos;
+    private final ConcurrentHashMap<String, Semaphore> admissions = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+    // null runs each zone's mutations on the request thread
+    private final ZoneActors zoneActors;
+
+    public GateRequestExecutor(EligibilityController eligibilityController,
+                               ZoneAllocationController zoneController,
+                               ParkingSessionController sessionController,
+                               BillingController billingController,
+                               ExitAuthorizationController exitController,
+                               ParkingSessionRepository sessionRepository) {
+        this(eligibilityController, zoneController, sessionController, billingController, exitController,
+                sessionRepository, null, Settings.GATE_MAX_IN_FLIGHT_PER_ZONE, Settings.GATE_ADMISSION_TIMEOUT);
+    }
+
+    // A null executor means one virtual thread per request where the runtime has them.
+    public GateRequestExecutor(EligibilityController eligibilityController,
+                               ZoneAllocationController zoneController,
+                               ParkingSessionController sessionController,
+                               BillingController billingController,
+                               ExitAuthorizationController exitController,
+                               ParkingSessionRepository sessionRepository,
+                               ExecutorService executor,
+                               int maxInFlightPerZone,
+                               Duration admissionTimeout) {
+        this(eligibilityController, zoneController, sessionController, billingController, exitController,
+                sessionRepository, executor, maxInFlightPerZone, admissionTimeout, null);
+    }
+
+    // With zoneActors, each zone's mutations are serialized through its actor.
+    public GateRequestExecutor(EligibilityController eligibilityController,
+                               ZoneAllocationController zoneController,
+                               ParkingSessionController sessionController,
+                               BillingController billingController,
+                               ExitAuthorizationController exitController,
+                               ParkingSessionRepository sessionRepository,
+                               ExecutorService executor,
+                               int maxInFlightPerZone,
+                               Duration admissionTimeout,
+                               ZoneActors zoneActors) {
+        this.eligibilityController = Objects.requireNonNull(eligibilityController);
+        this.zoneController = Objects.requireNonNull(zoneController);
+        this.sessionController = Objects.requireNonNull(sessionController);
+        this.billingController = Objects.requireNonNull(billingController);
+        this.exitController = Objects.requireNonNull(exitController);
+        this.sessionRepository = Objects.requireNonNull(sessionRepository);
+        if (maxInFlightPerZone <= 0) {
+            throw new IllegalArgumentException("maxInFlightPerZone must be positive");
+        }
+        this.maxInFlightPerZone = maxInFlightPerZone;
+        this.admissionTimeoutNanos = Objects.requireNonNull(admissionTimeout, "admissionTimeout must not be null").toNanos();
+        this.zoneActors = zoneActors;
+
+        if (executor != null) {
+            this.executor = executor;
+            this.virtualThreads = false;
+        } else {
+            ExecutorService virtual = newVirtualThreadPerTaskExecutor();
+            this.virtualThreads = virtual != null;
+            this.executor = virtual != null ? virtual : newCachedPlatformExecutor();
+        }
+    }
+
+    // Eligibility, spot assignment and session start for one arriving vehicle.
+    public CompletableFuture<GateEntryResponseDto> submitEntry(GateEntryRequestDto request) {
+        Objects.requireNonNull(request, "request must not be null");
+        return submit(ZONE_TYPE_KEY + request.zoneType(), () -> enter(request));
+    }
+
+    public CompletableFuture<BillingResponse> submitBilling(BillingRequest request) {
+        Objects.requireNonNull(request, "request must not be null");
+        return submitForSession(request.sessionId(), () -> billingController.calculateBill(request));
+    }
+
+    public CompletableFuture<ExitAuthorizationResponseDto> submitExit(ExitAuthorizationRequestDto request) {
+        Objects.requireNonNull(request, "request must not be null");
+        return submitForSession(request.sessionId(), () -> exitController.authorizeExit(request));
+    }
+
+    // Runs any gate call under the admission limit of zoneKey.
+    public <T> CompletableFuture<T> submit(String zoneKey, Supplier<T> call) {
+        Objects.requireNonNull(zoneKey, "zoneKey must not be null");
+        Objects.requireNonNull(call, "call must not be null");
+        return CompletableFuture.supplyAsync(() -> admitted(zoneKey, call), executor);
+    }
+
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public int getInFlight(String zoneKey) {
+        Semaphore permits = admissions.get(zoneKey);
+        return permits == null ? 0 : maxInFlightPerZone - permits.availablePermits();
+    }
+
+    // Requests that gave up waiting for admission.
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (executor.awaitTermination(1, TimeUnit.MINUTES)) break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    private GateEntryResponseDto enter(GateEntryRequestDto request) {
+        EligibilityResponseDto eligibility = eligibilityController.checkEligibility(
+                request.userId(), request.vehiclePlate(), request.arrivalTime());
+        if (!eligibility.allowed()) {
+            return new GateEntryResponseDto(false, eligibility.reason(), null, null, null);
+        }
+
+        SpotAssignmentRequestDto spotRequest = new SpotAssignmentRequestDto(request.userId(), request.zoneType(), request.arrivalTime());
+        if (zoneActors == null) {
+            SpotAssignmentResponseDto spot = zoneController.assignSpot(spotRequest);
+            return spot == null ? new GateEntryResponseDto(false, "NO_SPOT", null, null, null) : startSession(request, spot);
+        }
+
+        for (ParkingZone zone : zoneController.rankZones(request.zoneType())) {
+            GateEntryResponseDto entry = zoneActors.submit(zone.getZoneId(), () -> {
+                SpotAssignmentResponseDto spot = zoneController.assignSpotInZone(spotRequest, zone);
+                return spot == null ? null : startSession(request, spot);
+            }).join();
+            if (entry != null) {
+                return entry;
+            }
+        }
+        return new GateEntryResponseDto(false, "NO_SPOT", null, null, null);
+    }
+
+    private GateEntryResponseDto startSession(GateEntryRequestDto request, SpotAssignmentResponseDto spot) {
+        StartSessionResponseDto session;
+        try {
+            session = sessionController.startSession(new StartSessionRequestDto(
+                    request.userId(),
+                    request.vehiclePlate(),
+                    spot.zoneId(),
+                    spot.spotId(),
+                    request.zoneType(),
+                    request.isHoliday(),
+                    request.arrivalTime(),
+                    spot.reservationId()
+            ));
+        } catch (RuntimeException e) {
+            // hand the spot back rather than leave it reserved until the reservation expires
+            if (spot.reservationId() != 0) {
+                zoneController.releaseReservation(spot.spotId(), spot.reservationId());
+            }
+            throw e;
+        }
+        return new GateEntryResponseDto(true, null, spot.zoneId(), spot.spotId(), session);
+    }
+
+    private <T> CompletableFuture<T> submitForSession(String sessionId, Supplier<T> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            String zoneId = sessionId == null ? null : sessionRepository.findById(sessionId)
+                    .map(ParkingSession::getZoneId)
+                    .orElse(null);
+            if (zoneId == null) {
+                return admitted(UNKNOWN_SESSION, call);
+            }
+            if (zoneActors == null) {
+                return admitted(ZONE_ID_KEY + zoneId, call);
+            }
+            return admitted(ZONE_ID_KEY + zoneId, () -> zoneActors.submit(zoneId, call).join());
+        }, executor);
+    }
+
+    private <T> T admitted(String zoneKey, Supplier<T> call) {
+        Semaphore permits = admissions.computeIfAbsent(zoneKey, k -> new Semaphore(maxInFlightPerZone));
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(admissionTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for admission to " + zoneKey);
+        }
+        if (!acquired) {
+            rejected.increment();
+            throw new GateBusyException(zoneKey);
+        }
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() exists from Java 21; looked up reflectively so
+    // this class still compiles and runs on 17. Returns null when the runtime has no virtual threads.
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static ExecutorService newCachedPlatformExecutor() {
+        AtomicInteger ids = new AtomicInteger();
+        return Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "gate-request-" + ids.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+}
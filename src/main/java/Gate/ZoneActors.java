@@ -0,0 +1,127 @@
+package Gate;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+// One single-threaded actor per zone. Work sent to a zone is queued in that zone's mailbox and run
+// strictly one at a time, in arrival order, so every spot and session mutation for the zone is
+// serialized without the callers contending for the zone's locks. Mailboxes share a small worker
+// pool: a mailbox with work is scheduled on the pool, drains up to a batch and, if still not empty,
+// reschedules itself behind the other zones. Different zones therefore run in parallel, one worker
+// each at most, and a busy zone cannot starve the others.
+public class ZoneActors implements AutoCloseable {
+
+    static final int MAILBOX_BATCH = 64;
+
+    private final ExecutorService workers;
+    private final ConcurrentHashMap<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final LongAdder processed = new LongAdder();
+
+    public ZoneActors(int workerThreads) {
+        if (workerThreads <= 0) {
+            throw new IllegalArgumentException("workerThreads must be positive");
+        }
+        AtomicInteger ids = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerThreads, r -> {
+            Thread t = new Thread(r, "zone-actor-" + ids.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // Runs call on the actor of zoneId; the future completes with its result or exception.
+    public <T> CompletableFuture<T> submit(String zoneId, Supplier<T> call) {
+        Objects.requireNonNull(zoneId, "zoneId must not be null");
+        Objects.requireNonNull(call, "call must not be null");
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Mailbox mailbox = mailboxes.computeIfAbsent(zoneId, k -> new Mailbox());
+        mailbox.queue.add(new Message<>(call, result));
+        mailbox.schedule();
+        return result;
+    }
+
+    public int getMailboxSize(String zoneId) {
+        Mailbox mailbox = zoneId == null ? null : mailboxes.get(zoneId);
+        return mailbox == null ? 0 : mailbox.queue.size();
+    }
+
+    public long getProcessedCount() {
+        return processed.sum();
+    }
+
+    // Lets every mailbox drain, then stops the workers. Work submitted after close fails with
+    // RejectedExecutionException.
+    @Override
+    public void close() {
+        // a mailbox that still has work after a batch needs the pool to reschedule itself
+        while (mailboxes.values().stream().anyMatch(Mailbox::busy)) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        workers.shutdown();
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (workers.awaitTermination(1, TimeUnit.MINUTES)) break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    private record Message<T>(Supplier<T> call, CompletableFuture<T> result) {
+        void run() {
+            try {
+                result.complete(call.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private final class Mailbox implements Runnable {
+        private final Queue<Message<?>> queue = new ConcurrentLinkedQueue<>();
+        // set while the mailbox is queued on or running in the pool; guarantees a single runner
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private void schedule() {
+            if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+                try {
+                    workers.execute(this);
+                } catch (RejectedExecutionException e) {
+                    // closed: nothing will run this mailbox again
+                    for (Message<?> message; (message = queue.poll()) != null; ) {
+                        message.result().completeExceptionally(e);
+                    }
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private boolean busy() {
+            return scheduled.get() || !queue.isEmpty();
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int i = 0; i < MAILBOX_BATCH; i++) {
+                    Message<?> message = queue.poll();
+                    if (message == null) break;
+                    message.run();
+                    processed.increment();
+                }
+            } finally {
+                scheduled.set(false);
+            }
+            // a message may have arrived after the last poll but before scheduled was cleared
+            schedule();
+        }
+    }
+}
@@ -8,11 +8,13 @@ import Dto.Penalty.*;
 import Dto.Session.*;
 import Dto.Zone.*;
 import Enum.*;
+import Metrics.MetricsRegistry;
 import Model.*;
 import Repository.*;
 import Repository.impl.*;
 import Service.ZoneOccupancyService;
 import Service.impl.*;
+import Settings.Settings;
 
 
 import java.math.BigDecimal;
@@ -36,10 +38,28 @@ public class Main {
         // ============================================================
         UserRepository userRepo = new InMemoryUserRepository();
         VehicleRepository vehicleRepo = new InMemoryVehicleRepository();
-        InMemoryParkingSessionRepository sessionRepo = new InMemoryParkingSessionRepository();
         ParkingZoneRepository zoneRepo = new InMemoryParkingZoneRepository();
         PenaltyHistoryRepository penaltyRepo = new InMemoryPenaltyHistoryRepository();
-        BillingRecordRepository billingRepo = new InMemoryBillingRecordRepository();
+
+        // -Dparking.dataDir=<dir> keeps sessions and billing records on disk across restarts
+        String dataDir = System.getProperty("parking.dataDir");
+        ParkingSessionRepository sessionRepo;
+        BillingRecordRepository billingRepo;
+        JournaledParkingSessionRepository journaledSessions = null;
+        if (dataDir != null) {
+            journaledSessions = new JournaledParkingSessionRepository(java.nio.file.Path.of(dataDir));
+            var journaledBilling = new JournaledBillingRecordRepository(java.nio.file.Path.of(dataDir));
+            var sessionsToClose = journaledSessions;
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                sessionsToClose.close();
+                journaledBilling.close();
+            }));
+            sessionRepo = journaledSessions;
+            billingRepo = journaledBilling;
+        } else {
+            sessionRepo = new InMemoryParkingSessionRepository();
+            billingRepo = new InMemoryBillingRecordRepository();
+        }
         InMemorySubscriptionPlanRepository subscriptionRepo = new InMemorySubscriptionPlanRepository();
 
 
@@ -66,15 +86,30 @@ public class Main {
         var eligibilityService = new EligibilityServiceImpl();
         var zoneAllocationService = new ZoneAllocationServiceImpl();
         var penaltyService = new PenaltyServiceImpl();
-        var monitoringService = new MonitoringServiceImpl();
+        // with a data directory, log events are also written to rolling files under <dataDir>/events
+        EventLog eventLog;
+        if (dataDir != null) {
+            var policy = BackPressurePolicy.valueOf(System.getProperty("parking.eventLogPolicy", "DROP"));
+            eventLog = new EventLog(Settings.EVENT_LOG_CAPACITY, policy, java.nio.file.Path.of(dataDir, "events"));
+            Runtime.getRuntime().addShutdownHook(new Thread(eventLog::close));
+        } else {
+            // memory-only: the ring keeps the latest events and nothing is written anywhere
+            eventLog = new EventLog(Settings.EVENT_LOG_CAPACITY);
+        }
+        var monitoringService = new MonitoringServiceImpl(eventLog);
         var exitService = new ExitAuthorizationServiceImpl();
         var parkingZoneController = new ParkingZoneController(zoneRepo);
-        var billingService = new DefaultBillingService(
+        var pricingService = new PrecomputedPricingService(new DefaultPricingService());
+        pricingService.onConfigSaved(pricingRepo.getActiveConfig());
+        tariffRepo.addSaveListener(pricingService::onTariffSaved);
+        pricingRepo.addSaveListener(pricingService::onConfigSaved);
+        var referenceBilling = new DefaultBillingService(
                 new DefaultDurationCalculator(),
-                new DefaultPricingService(),
+                pricingService,
                 new DefaultDiscountAndCapService(),
                 new DefaultTaxService()
         );
+        var billingService = new FixedPointBillingService(new DefaultDurationCalculator(), referenceBilling);
         var userServiceImpl = new UserServiceImpl(userRepo, subscriptionRepo);
         var vehicleService = new VehicleServiceImpl(vehicleRepo, userRepo);
 
@@ -84,21 +119,46 @@ public class Main {
         // ============================================================
         // CONTROLLERS
         // ============================================================
-        var eligibilityController = new EligibilityController(eligibilityService, userRepo, vehicleRepo, subscriptionRepo);
+        var eligibilityController = new EligibilityController(eligibilityService, userRepo, vehicleRepo, subscriptionRepo, sessionRepo);
         var zoneController = new ZoneAllocationController(zoneAllocationService, zoneRepo, occupancyService, subscriptionRepo);
         var sessionController = new ParkingSessionController(sessionRepo, zoneRepo);
         var billingController = new BillingController(billingService, tariffRepo, pricingRepo, billingRepo, sessionRepo, penaltyRepo, subscriptionRepo);
         var penaltyController = new PenaltyController(penaltyService, monitoringService, penaltyRepo);
         var exitController = new ExitAuthorizationController(exitService, userRepo, sessionRepo, zoneRepo);
         var monitoringController = new MonitoringController(monitoringService, penaltyRepo, zoneRepo);
+        var penaltySummaryTotals = new PenaltySummaryTotals(penaltyRepo.findAll());
+        penaltyController.setSummaryTotals(penaltySummaryTotals);
+        monitoringController.setSummaryTotals(penaltySummaryTotals);
+        monitoringController.setLogEventRepository(new SegmentedLogEventRepository());
+        var reservationExpiry = new ReservationExpiryScheduler(java.time.Clock.systemDefaultZone(), monitoringService);
+        reservationExpiry.start();
+        zoneController.setReservationExpiry(reservationExpiry);
+        monitoringController.setReservationExpiry(reservationExpiry);
         var discountController = new DiscountInfoController(subscriptionRepo);
         var userController= new UserController(userServiceImpl);
         var vehicleController= new VehicleController(vehicleService);
 
+        var metrics = new MetricsRegistry();
+        eligibilityController.setMetrics(metrics);
+        zoneController.setMetrics(metrics);
+        sessionController.setMetrics(metrics);
+        billingController.setMetrics(metrics);
+        penaltyController.setMetrics(metrics);
+        exitController.setMetrics(metrics);
+
         // ============================================================
         // SEED DATA
         // ============================================================
-        seedZones(zoneRepo);
+        String layoutFile = System.getProperty("parking.layout");
+        if (layoutFile != null) {
+            importLayout(parkingZoneController, layoutFile);
+        } else {
+            seedZones(zoneRepo);
+        }
+        if (journaledSessions != null) {
+            // sessions still open from the last run keep their spots
+            journaledSessions.restoreSpotOccupancy(zoneRepo);
+        }
         seedUsersAndVehicles(userRepo, vehicleRepo, subscriptionRepo);
 
 
@@ -118,7 +178,7 @@ public class Main {
                 case 4 -> updateAccountStanding(userRepo, penaltyRepo);
 
                 // FR-7: Check eligibility
-                case 5 -> checkEligibility(eligibilityController, sessionRepo);
+                case 5 -> checkEligibility(eligibilityController);
 
                 // FR-5: Zones & Spots
                 case 6 -> createParkingZone(parkingZoneController);
@@ -143,6 +203,7 @@ public class Main {
                 // FR-13: Monitoring & Reports
                 case 14 -> viewPenaltySummary(monitoringController);
                 case 15 -> viewZoneOccupancy(occupancyService);
+                case 24 -> viewMetrics(metrics);
 
                 // FR-14: Exit authorization
                 case 17 -> exitParking(exitController);
@@ -245,24 +306,13 @@ public class Main {
     // ============================================================
     // FR-7: ELIGIBILITY TO START SESSION
     // ============================================================
-    private static void checkEligibility(EligibilityController eligibilityController, InMemoryParkingSessionRepository sessionRepo) {
+    private static void checkEligibility(EligibilityController eligibilityController) {
         String userId = read("User ID");
         String plate = read("Vehicle plate");
 
 
         try {
-            EligibilityRequestDto dto = new EligibilityRequestDto(
-                    userId, plate,
-                    sessionRepo.getActiveSessionsCountForVehicle(plate),
-                    sessionRepo.getActiveSessionsCountForUser(userId),
-                    sessionRepo.getSessionsCountForToday(userId),
-                    sessionRepo.getHoursUsedTodayForUser(userId),
-                    sessionRepo.hasUnpaidSessionsForUser(userId),
-                    LocalDateTime.now()
-            );
-
-
-            EligibilityResponseDto res = eligibilityController.checkEligibility(dto);
+            EligibilityResponseDto res = eligibilityController.checkEligibility(userId, plate, LocalDateTime.now());
             System.out.println("✅ Eligibility: " + (res.allowed() ? "ALLOWED" : "DENIED"));
             if (!res.allowed()) {
                 System.out.println("   Reason: " + res.reason());
@@ -381,7 +431,8 @@ public class Main {
                             lastAssignedSpot.spotId(),
                             lastAssignedSpot.zoneType(),
                             isHoliday,
-                            LocalDateTime.now()
+                            LocalDateTime.now(),
+                            lastAssignedSpot.reservationId()
                     )
             );
 
@@ -398,7 +449,7 @@ public class Main {
     // ============================================================
     // FR-9 & FR-10: BILLING CALCULATION
     // ============================================================
-    private static void calculateBilling(BillingController billingController, InMemoryParkingSessionRepository sessionRepo, ZoneOccupancyService occupancyService) {
+    private static void calculateBilling(BillingController billingController, ParkingSessionRepository sessionRepo, ZoneOccupancyService occupancyService) {
        String sessionId = read("Session ID");
         try {
 
@@ -543,6 +594,12 @@ public class Main {
     }
 
 
+    private static void viewMetrics(MetricsRegistry metrics) {
+        String format = read("Format (text/json)").toLowerCase();
+        System.out.println(format.equals("json") ? metrics.dumpJson() : metrics.dumpText());
+    }
+
+
     private static void viewZoneOccupancy(ZoneOccupancyService zoneOccupancyService) {
         String zoneId = read("Zone ID");
 
@@ -604,7 +661,7 @@ public class Main {
     // ============================================================
     // FR-6: SESSION MANAGEMENT
     // ============================================================
-    private static void viewSessionDetails(InMemoryParkingSessionRepository sessionRepo) {
+    private static void viewSessionDetails(ParkingSessionRepository sessionRepo) {
         String sessionId = read("Session ID");
 
 
@@ -779,6 +836,18 @@ public class Main {
     }
 
 
+    private static void importLayout(ParkingZoneController parkingZoneController, String layoutFile) {
+        LayoutImportResultDto result = parkingZoneController.importLayout(java.nio.file.Path.of(layoutFile));
+        System.out.println("✅ Layout imported: " + result.zonesCreated() + " zones, " + result.spotsCreated() + " spots");
+        if (result.errorCount() > 0) {
+            System.out.println("❌ " + result.errorCount() + " layout lines rejected");
+            for (LayoutImportErrorDto error : result.errors()) {
+                System.out.println("   line " + error.line() + ": " + error.message());
+            }
+        }
+    }
+
+
     private static void seedUsersAndVehicles(UserRepository userRepo, VehicleRepository vehicleRepo, InMemorySubscriptionPlanRepository subscriptionRepo) {
         userRepo.save(new User("U1", UserStatus.ACTIVE));
         vehicleRepo.save(new Vehicle("AA-111", "U1"));
@@ -836,6 +905,7 @@ public class Main {
            FR-13: MONITORING & REPORTS
             14. View penalty summary
             15. View zone occupancy
+            24. View operation metrics
 
            FR-14: EXIT AUTHORIZATION
             17. Exit parking
@@ -0,0 +1,158 @@
+package Metrics;
+
+import Record.OperationStats;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// In-process latency histograms per (operation, outcome) plus named counters. Controllers time
+// their entry points through timed(), which does nothing extra when no registry is configured.
+// Snapshots can be taken at any time while recording continues.
+public class MetricsRegistry {
+
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, LatencyHistogram>> timers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public static <T> T timed(MetricsRegistry metrics, String operation, Supplier<T> call,
+                              Function<? super T, String> outcome) {
+        if (metrics == null) return call.get();
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error e) {
+            metrics.record(operation, e.getClass().getSimpleName(), System.nanoTime() - start);
+            throw e;
+        }
+        metrics.record(operation, outcome.apply(result), System.nanoTime() - start);
+        return result;
+    }
+
+    public void record(String operation, String outcome, long nanos) {
+        histogram(operation, outcome == null ? "UNKNOWN" : outcome).record(nanos);
+    }
+
+    public void increment(String counter) {
+        counters.computeIfAbsent(counter, c -> new LongAdder()).increment();
+    }
+
+    public void add(String counter, long delta) {
+        counters.computeIfAbsent(counter, c -> new LongAdder()).add(delta);
+    }
+
+    public long getCounter(String counter) {
+        LongAdder adder = counters.get(counter);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public LatencyHistogram histogram(String operation, String outcome) {
+        Objects.requireNonNull(operation, "operation must not be null");
+        ConcurrentHashMap<String, LatencyHistogram> byOutcome = timers.get(operation);
+        if (byOutcome == null) {
+            byOutcome = timers.computeIfAbsent(operation, o -> new ConcurrentHashMap<>());
+        }
+        LatencyHistogram histogram = byOutcome.get(outcome);
+        if (histogram == null) {
+            histogram = byOutcome.computeIfAbsent(outcome, o -> new LatencyHistogram());
+        }
+        return histogram;
+    }
+
+    // Sorted by operation, then outcome.
+    public List<OperationStats> snapshot() {
+        List<OperationStats> stats = new ArrayList<>();
+        for (var operation : new TreeMap<>(timers).entrySet()) {
+            for (var outcome : new TreeMap<>(operation.getValue()).entrySet()) {
+                LatencyHistogram h = outcome.getValue();
+                stats.add(new OperationStats(
+                        operation.getKey(),
+                        outcome.getKey(),
+                        h.getCount(),
+                        h.valueAtPercentile(50),
+                        h.valueAtPercentile(99),
+                        h.valueAtPercentile(99.9),
+                        h.getMax(),
+                        h.getMean()
+                ));
+            }
+        }
+        return stats;
+    }
+
+    public Map<String, Long> counters() {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, adder) -> values.put(name, adder.sum()));
+        return values;
+    }
+
+    public String dumpText() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-32s %-28s %10s %10s %10s %10s %10s%n",
+                "operation", "outcome", "count", "p50(us)", "p99(us)", "p999(us)", "max(us)"));
+        for (OperationStats s : snapshot()) {
+            sb.append(String.format("%-32s %-28s %10d %10.1f %10.1f %10.1f %10.1f%n",
+                    s.operation(), s.outcome(), s.count(),
+                    s.p50() / 1000.0, s.p99() / 1000.0, s.p999() / 1000.0, s.max() / 1000.0));
+        }
+        Map<String, Long> counters = counters();
+        if (!counters.isEmpty()) {
+            sb.append(System.lineSeparator());
+            counters.forEach((name, value) -> sb.append(String.format("%-61s %10d%n", name, value)));
+        }
+        return sb.toString();
+    }
+
+    public String dumpJson() {
+        StringBuilder sb = new StringBuilder("{\"operations\":[");
+        List<OperationStats> stats = snapshot();
+        for (int i = 0; i < stats.size(); i++) {
+            OperationStats s = stats.get(i);
+            if (i > 0) sb.append(',');
+            sb.append("{\"operation\":");
+            appendJsonString(sb, s.operation());
+            sb.append(",\"outcome\":");
+            appendJsonString(sb, s.outcome());
+            sb.append(",\"count\":").append(s.count())
+                    .append(",\"p50Nanos\":").append(s.p50())
+                    .append(",\"p99Nanos\":").append(s.p99())
+                    .append(",\"p999Nanos\":").append(s.p999())
+                    .append(",\"maxNanos\":").append(s.max())
+                    .append(",\"meanNanos\":").append(Math.round(s.mean()))
+                    .append('}');
+        }
+        sb.append("],\"counters\":{");
+        boolean first = true;
+        for (var counter : counters().entrySet()) {
+            if (!first) sb.append(',');
+            first = false;
+            appendJsonString(sb, counter.getKey());
+            sb.append(':').append(counter.getValue());
+        }
+        return sb.append("}}").toString();
+    }
+
+    private static void appendJsonString(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+}
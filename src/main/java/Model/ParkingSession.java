@@ -7,6 +7,8 @@ import Enum.DayType;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 public class ParkingSession {
 
@@ -20,9 +22,13 @@ public class ParkingSession {
     private final ZoneType zoneType;
 
     private final LocalDateTime startTime;
-    private LocalDateTime endTime;
+    private volatile LocalDateTime endTime;
 
-    private SessionState state;
+    // transitions are synchronized on the session, reads stay lock-free
+    private volatile SessionState state;
+
+    // notified after every state change so repositories can keep their indexes current
+    private final CopyOnWriteArrayList<Consumer<ParkingSession>> stateListeners = new CopyOnWriteArrayList<>();
 
     public ParkingSession(
             String id,
@@ -47,13 +53,15 @@ public class ParkingSession {
         this.state = SessionState.OPEN;
     }
 
-    public void markPaid() {
+    public synchronized void markPaid() {
         this.state = SessionState.PAID;
+        fireStateChanged();
     }
 
-    public void close(LocalDateTime endTime) {
+    public synchronized void close(LocalDateTime endTime) {
         this.state = SessionState.CLOSED;
         this.endTime = endTime;
+        fireStateChanged();
     }
 
     public boolean isActive() {
@@ -96,8 +104,33 @@ public class ParkingSession {
         return state;
     }
 
-    public void setState(SessionState state) {
+    public synchronized void setState(SessionState state) {
         this.state = state;
+        fireStateChanged();
+    }
+
+    public synchronized boolean compareAndSetState(SessionState expected, SessionState next) {
+        if (this.state != expected) {
+            return false;
+        }
+        this.state = next;
+        fireStateChanged();
+        return true;
+    }
+
+    public void addStateListener(Consumer<ParkingSession> listener) {
+        Objects.requireNonNull(listener, "listener must not be null");
+        stateListeners.addIfAbsent(listener);
+    }
+
+    public void removeStateListener(Consumer<ParkingSession> listener) {
+        stateListeners.remove(listener);
+    }
+
+    private void fireStateChanged() {
+        for (Consumer<ParkingSession> listener : stateListeners) {
+            listener.accept(this);
+        }
     }
     public TimeOfDayBand getTimeOfDayBand() {
         return timeOfDayBand;
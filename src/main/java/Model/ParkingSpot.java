@@ -3,11 +3,31 @@ package Model;
 import Enum.SpotState;
 import Enum.ZoneType;
 
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
 public class ParkingSpot {
 
+    private static final AtomicLong RESERVATION_IDS = new AtomicLong();
+
+    // One reservation of a spot. The id tells reservations apart even when their deadlines are equal;
+    // until is null for a reservation that never lapses.
+    public record Reservation(long id, LocalDateTime until) {
+    }
+
+    // state and reservation change together in one compare-and-set, so concurrent gates cannot
+    // double-book a spot and a late writer cannot clear another caller's reservation
+    private record Status(SpotState state, Reservation reservation) {
+    }
+
     private final String spotId;
     private final ParkingZone parkingZone;
-    private SpotState state;
+    private final AtomicReference<Status> status = new AtomicReference<>(new Status(SpotState.FREE, null));
+
+    // zone whose free-spot index tracks this spot, and the spot's position in it
+    private volatile ParkingZone owner;
+    private volatile int ownerIndex = -1;
 
     public ParkingSpot(String spotId, ParkingZone parkingZone) {
         if (spotId == null || spotId.isBlank()) {
@@ -19,37 +39,70 @@ public class ParkingSpot {
 
         this.spotId = spotId;
         this.parkingZone = parkingZone;
-        this.state = SpotState.FREE;
     }
 
 
     public void reserve() {
-        if (state != SpotState.FREE) {
+        if (!tryReserve()) {
             throw new IllegalStateException(
                     "Spot can only be reserved if it is FREE"
             );
         }
-        this.state = SpotState.RESERVED;
     }
 
+    public boolean tryReserve() {
+        return tryReserve(null);
+    }
 
-    public void occupy() {
-        if (state == SpotState.OCCUPIED) {
-            throw new IllegalStateException(
-                    "Spot is already OCCUPIED"
-            );
+    public boolean tryReserve(LocalDateTime reservedUntil) {
+        Status current = status.get();
+        if (current.state() != SpotState.FREE) {
+            return false;
+        }
+        Reservation reservation = new Reservation(RESERVATION_IDS.incrementAndGet(), reservedUntil);
+        if (!status.compareAndSet(current, new Status(SpotState.RESERVED, reservation))) {
+            return false;
         }
-        this.state = SpotState.OCCUPIED;
+        notifyOwner();
+        return true;
+    }
+
+    // Frees the spot if it is still RESERVED under the given reservation. A spot that was occupied, or
+    // released and reserved again, is left alone.
+    public boolean expireReservation(long reservationId) {
+        return endReservation(reservationId, SpotState.FREE);
+    }
+
+
+    // Occupies the spot under the given reservation. Returns false if that reservation has lapsed:
+    // the spot was freed, or reserved again by someone else.
+    public boolean occupyReservation(long reservationId) {
+        return endReservation(reservationId, SpotState.OCCUPIED);
+    }
+
+    public void occupy() {
+        Status current;
+        do {
+            current = status.get();
+            if (current.state() == SpotState.OCCUPIED) {
+                throw new IllegalStateException(
+                        "Spot is already OCCUPIED"
+                );
+            }
+        } while (!status.compareAndSet(current, new Status(SpotState.OCCUPIED, null)));
+        notifyOwner();
     }
 
 
     public void release() {
-        if (state != SpotState.OCCUPIED) {
+        Status current = status.get();
+        if (current.state() != SpotState.OCCUPIED
+                || !status.compareAndSet(current, new Status(SpotState.FREE, null))) {
             throw new IllegalStateException(
                     "Spot can only be released if it is OCCUPIED"
             );
         }
-        this.state = SpotState.FREE;
+        notifyOwner();
     }
 
     public String getSpotId() {
@@ -61,19 +114,62 @@ public class ParkingSpot {
     }
 
     public SpotState getState() {
-        return state;
+        return status.get().state();
+    }
+
+    // the reservation currently holding the spot, or null when it is not RESERVED by one
+    public Reservation getReservation() {
+        return status.get().reservation();
+    }
+
+    public LocalDateTime getReservedUntil() {
+        Reservation reservation = status.get().reservation();
+        return reservation == null ? null : reservation.until();
     }
 
 
     public boolean isFree() {
-        return state == SpotState.FREE;
+        return getState() == SpotState.FREE;
     }
 
     public boolean isOccupied() {
-        return state == SpotState.OCCUPIED;
+        return getState() == SpotState.OCCUPIED;
     }
 
     public void setState(SpotState state) {
-        this.state = state;
+        // a manual change ends any reservation; a manual RESERVED has no reservation and never expires
+        Status previous = status.getAndSet(new Status(state, null));
+        if (previous.state() != state) {
+            notifyOwner();
+        }
+    }
+
+    void attachTo(ParkingZone zone, int index) {
+        this.owner = zone;
+        this.ownerIndex = index;
+    }
+
+    int indexIn(ParkingZone zone) {
+        return owner == zone ? ownerIndex : -1;
+    }
+
+    private boolean endReservation(long reservationId, SpotState next) {
+        Status current = status.get();
+        if (current.state() != SpotState.RESERVED || current.reservation() == null
+                || current.reservation().id() != reservationId) {
+            return false;
+        }
+        if (!status.compareAndSet(current, new Status(next, null))) {
+            return false;
+        }
+        notifyOwner();
+        return true;
+    }
+
+    private void notifyOwner() {
+        ParkingZone zone = owner;
+        if (zone != null) {
+            zone.onSpotStateChanged(ownerIndex);
+        }
     }
 }
\ No newline at end of file
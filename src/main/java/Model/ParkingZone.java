@@ -3,15 +3,27 @@ package Model;
 import Enum.ZoneType;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
 
 public class ParkingZone {
 
     private final String zoneId;
     private final ZoneType zoneType;
     private final double maxOccupancyThreshold; // 0.0 – 1.0
-    private final List<ParkingSpot> spots = new ArrayList<>();
+    private final ArrayList<ParkingSpot> spots = new ArrayList<>();
+
+    // bit i is set while spots.get(i) is FREE; kept current by ParkingSpot state changes.
+    // Guarded by the zone's monitor, the count is also published for lock-free reads.
+    private final BitSet freeSpots = new BitSet();
+    private volatile int freeSpotsCount;
+
+    // told about every spot added after registration, so repositories can index spots by id
+    private final CopyOnWriteArrayList<BiConsumer<ParkingZone, ParkingSpot>> spotListeners = new CopyOnWriteArrayList<>();
 
     public ParkingZone(String zoneId, ZoneType zoneType, double maxOccupancyThreshold) {
         if (zoneId == null || zoneId.isBlank()) {
@@ -29,7 +41,7 @@ public class ParkingZone {
         this.maxOccupancyThreshold = maxOccupancyThreshold;
     }
 
-    public void addSpot(ParkingSpot spot) {
+    public synchronized void addSpot(ParkingSpot spot) {
         if (spot == null) {
             throw new IllegalArgumentException("Parking spot cannot be null");
         }
@@ -38,18 +50,51 @@ public class ParkingZone {
                     "Spot zone type does not match parking zone type"
             );
         }
+        int index = spots.size();
         spots.add(spot);
+        spot.attachTo(this, index);
+        onSpotStateChanged(index);
+        for (BiConsumer<ParkingZone, ParkingSpot> listener : spotListeners) {
+            listener.accept(this, spot);
+        }
+    }
+
+    // lets bulk loaders that know the spot count grow the spot list once
+    public synchronized void ensureSpotCapacity(int totalSpots) {
+        spots.ensureCapacity(totalSpots);
+    }
+
+    public void addSpotListener(BiConsumer<ParkingZone, ParkingSpot> listener) {
+        Objects.requireNonNull(listener, "listener must not be null");
+        spotListeners.addIfAbsent(listener);
+    }
+
+    public void removeSpotListener(BiConsumer<ParkingZone, ParkingSpot> listener) {
+        spotListeners.remove(listener);
     }
 
     public boolean hasFreeSpot() {
-        return spots.stream().anyMatch(ParkingSpot::isFree);
+        return freeSpotsCount > 0;
+    }
+
+    public synchronized ParkingSpot getFirstFreeSpot() {
+        int index = freeSpots.nextSetBit(0);
+        return index < 0 ? null : spots.get(index);
+    }
+
+    public synchronized ParkingSpot getNextFreeSpot(ParkingSpot previous) {
+        int from = previous == null ? 0 : previous.indexIn(this) + 1;
+        int index = freeSpots.nextSetBit(from);
+        return index < 0 ? null : spots.get(index);
     }
 
-    public ParkingSpot getFirstFreeSpot() {
-        return spots.stream()
-                .filter(ParkingSpot::isFree)
-                .findFirst()
-                .orElse(null);
+    // re-reads the spot instead of trusting the transition, so out-of-order notifications
+    // from racing threads still converge on the spot's latest state
+    synchronized void onSpotStateChanged(int index) {
+        boolean free = spots.get(index).isFree();
+        if (free == freeSpots.get(index)) return;
+        freeSpots.set(index, free);
+        freeSpotsCount += free ? 1 : -1;
     }
 
     public List<ParkingSpot> getSpots() {
@@ -73,6 +118,6 @@ public class ParkingZone {
     }
 
     public int getFreeSpotsCount() {
-        return (int) spots.stream().filter(ParkingSpot::isFree).count();
+        return freeSpotsCount;
     }
 }
\ No newline at end of file
@@ -1,36 +1,77 @@
 package Model;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 public class PenaltyHistory {
 
     private final List<Penalty> penalties = new ArrayList<>();
 
-    public void addPenalty(Penalty penalty) {
+    // timestamps newer than windowCutoff, oldest first; older ones are dropped as the cutoff advances
+    private final ArrayDeque<LocalDateTime> window = new ArrayDeque<>();
+    private LocalDateTime windowCutoff;
+
+    public synchronized void addPenalty(Penalty penalty) {
         if (penalty == null) {
             throw new IllegalArgumentException("Penalty cannot be null");
         }
         penalties.add(penalty);
+        addToWindow(penalty.getTimestamp());
+    }
+
+    public synchronized int countPenaltiesAfter(LocalDateTime cutoff) {
+        if (cutoff == null) {
+            throw new IllegalArgumentException("Cutoff cannot be null");
+        }
+        if (windowCutoff != null && cutoff.isBefore(windowCutoff)) {
+            // entries before this cutoff were already evicted, so answer from the full history
+            return (int) penalties.stream()
+                    .filter(p -> p.getTimestamp().isAfter(cutoff))
+                    .count();
+        }
+        windowCutoff = cutoff;
+        while (!window.isEmpty() && !window.peekFirst().isAfter(cutoff)) {
+            window.pollFirst();
+        }
+        return window.size();
+    }
+
+    private void addToWindow(LocalDateTime timestamp) {
+        if (windowCutoff != null && !timestamp.isAfter(windowCutoff)) {
+            return;
+        }
+        if (window.isEmpty() || !timestamp.isBefore(window.peekLast())) {
+            window.addLast(timestamp);
+            return;
+        }
+        // late arrival: step back from the tail to keep the deque ordered
+        ArrayDeque<LocalDateTime> newer = new ArrayDeque<>();
+        while (!window.isEmpty() && timestamp.isBefore(window.peekLast())) {
+            newer.addFirst(window.pollLast());
+        }
+        window.addLast(timestamp);
+        window.addAll(newer);
     }
 
-    public List<Penalty> getPenalties() {
-        return Collections.unmodifiableList(penalties);
+    // a copy, so callers can iterate while penalties are being added
+    public synchronized List<Penalty> getPenalties() {
+        return List.copyOf(penalties);
     }
 
-    public BigDecimal getTotalPenaltyAmount() {
+    public synchronized BigDecimal getTotalPenaltyAmount() {
         return penalties.stream()
                 .map(Penalty::getAmount)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
 
-    public boolean isEmpty() {
+    public synchronized boolean isEmpty() {
         return penalties.isEmpty();
     }
 
-    public int getPenaltyCount() {
+    public synchronized int getPenaltyCount() {
         return penalties.size();
     }
 }
\ No newline at end of file
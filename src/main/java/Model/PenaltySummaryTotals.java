@@ -0,0 +1,94 @@
+package Model;
+
+import Enum.BlacklistStatus;
+import Enum.PenaltyType;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+// Running penalty totals, updated as penalties are applied, so the summary is read without
+// walking every history. A user counts as a blacklist candidate while their latest
+// evaluation returned anything other than NONE.
+public class PenaltySummaryTotals {
+
+    // amounts with at most this many decimals are added to a striped counter of 1/10000 units
+    private static final int UNIT_SCALE = 4;
+
+    private final Map<PenaltyType, Total> totals = new EnumMap<>(PenaltyType.class);
+    private final ConcurrentHashMap<String, BlacklistStatus> latestStatus = new ConcurrentHashMap<>();
+    private final AtomicInteger blacklistCandidates = new AtomicInteger();
+
+    public PenaltySummaryTotals() {
+        for (PenaltyType type : PenaltyType.values()) {
+            totals.put(type, new Total());
+        }
+    }
+
+    // Starts from the penalties already in the histories. Their blacklist status is not stored,
+    // so, as in PenaltySummaryReport.from, nobody counts as a candidate until penalised again.
+    public PenaltySummaryTotals(Collection<PenaltyHistory> histories) {
+        this();
+        for (PenaltyHistory history : histories) {
+            for (Penalty penalty : history.getPenalties()) {
+                totals.get(penalty.getType()).add(penalty.getAmount());
+            }
+        }
+    }
+
+    public void record(String userId, Penalty penalty, BlacklistStatus status) {
+        Objects.requireNonNull(userId, "userId must not be null");
+        Objects.requireNonNull(penalty, "penalty must not be null");
+        totals.get(penalty.getType()).add(penalty.getAmount());
+
+        BlacklistStatus current = status != null ? status : BlacklistStatus.NONE;
+        latestStatus.compute(userId, (id, previous) -> {
+            boolean wasCandidate = previous != null && previous != BlacklistStatus.NONE;
+            boolean isCandidate = current != BlacklistStatus.NONE;
+            if (isCandidate && !wasCandidate) blacklistCandidates.incrementAndGet();
+            if (!isCandidate && wasCandidate) blacklistCandidates.decrementAndGet();
+            return current;
+        });
+    }
+
+    public PenaltySummaryReport toReport() {
+        return new PenaltySummaryReport(
+                totals.get(PenaltyType.OVERSTAY).sum(),
+                totals.get(PenaltyType.LOST_TICKET).sum(),
+                totals.get(PenaltyType.MISUSE).sum(),
+                blacklistCandidates.get()
+        );
+    }
+
+    private static final class Total {
+        private final LongAdder units = new LongAdder();
+        private final AtomicReference<BigDecimal> overflow = new AtomicReference<>(BigDecimal.ZERO);
+        // the summed total carries the largest scale seen, as BigDecimal.add would
+        private final AtomicInteger maxScale = new AtomicInteger();
+
+        private void add(BigDecimal amount) {
+            maxScale.accumulateAndGet(amount.scale(), Math::max);
+            if (amount.scale() <= UNIT_SCALE) {
+                try {
+                    units.add(amount.movePointRight(UNIT_SCALE).longValueExact());
+                    return;
+                } catch (ArithmeticException e) {
+                    // too large for the counter, kept exactly below
+                }
+            }
+            overflow.accumulateAndGet(amount, BigDecimal::add);
+        }
+
+        private BigDecimal sum() {
+            return BigDecimal.valueOf(units.sum(), UNIT_SCALE)
+                    .add(overflow.get())
+                    .setScale(maxScale.get());
+        }
+    }
+}
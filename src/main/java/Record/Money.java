@@ -19,6 +19,10 @@ public record Money(BigDecimal amount) {
         return new Money(BigDecimal.valueOf(value));
     }
 
+    public static Money ofMinorUnits(long cents) {
+        return new Money(BigDecimal.valueOf(cents, 2));
+    }
+
     public Money plus(Money other) {
         Objects.requireNonNull(other, "other must not be null");
         return new Money(this.amount.add(other.amount));
@@ -0,0 +1,13 @@
+package Record;
+
+// Latencies are in nanoseconds.
+public record OperationStats(
+        String operation,
+        String outcome,
+        long count,
+        long p50,
+        long p99,
+        long p999,
+        long max,
+        double mean
+) { }
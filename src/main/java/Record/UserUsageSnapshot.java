@@ -0,0 +1,9 @@
+package Record;
+
+public record UserUsageSnapshot(
+        int activeSessionsForVehicle,
+        int totalActiveSessionsForUser,
+        int sessionsStartedToday,
+        int hoursUsedToday,
+        boolean hasUnpaidSessions
+) { }
@@ -3,9 +3,11 @@ package Repository;
 import Model.BillingRecord;
 import Model.BillingResult;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface BillingRecordRepository {
     void save(BillingRecord record);
+    void saveAll(Collection<BillingRecord> records);
     Optional<BillingRecord> findBySessionId(String sessionId);
 }
@@ -2,7 +2,10 @@ package Repository;
 
 import Model.DynamicPricingConfig;
 
+import java.util.function.Consumer;
+
 public interface DynamicPricingConfigRepository {
     DynamicPricingConfig getActiveConfig();
     void save(DynamicPricingConfig config);
+    void addSaveListener(Consumer<DynamicPricingConfig> listener);
 }
@@ -0,0 +1,17 @@
+package Repository;
+
+import Model.LogEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface LogEventRepository {
+    void save(LogEvent event);
+
+    // events with from <= timestamp < to, oldest first
+    List<LogEvent> findBetween(LocalDateTime from, LocalDateTime to);
+
+    List<LogEvent> findByTypeBetween(String type, LocalDateTime from, LocalDateTime to);
+
+    long count();
+}
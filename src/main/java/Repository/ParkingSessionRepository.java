@@ -1,10 +1,12 @@
 package Repository;
 
 import Model.ParkingSession;
+import Record.UserUsageSnapshot;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ParkingSessionRepository {
 
@@ -15,14 +17,23 @@ public interface ParkingSessionRepository {
 
     List<ParkingSession> findActiveSessionsForVehicle(String plate);
 
+    List<ParkingSession> findActiveSessionsForZone(String zoneId);
+
     void save(ParkingSession session);
 
     void delete(ParkingSession session);
 
+    // called after a session is stored, and after a session leaves the repository (deleted, or
+    // replaced by another instance with the same id)
+    void addSaveListener(Consumer<ParkingSession> listener);
+    void addDeleteListener(Consumer<ParkingSession> listener);
+
     int getActiveSessionsCountForUser(String userId);
     int getActiveSessionsCountForVehicle(String plate);
+    int getActiveSessionsCountForZone(String zoneId);
     int getSessionsCountForToday(String userId);
     int getHoursUsedTodayForUser(String userId);
     boolean hasUnpaidSessionsForUser(String userId);
+    UserUsageSnapshot getUsageSnapshot(String userId, String plate);
 
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package Repository;
 
+import Enum.ZoneType;
 import Model.ParkingSpot;
 import Model.ParkingZone;
 
@@ -12,10 +13,15 @@ public interface ParkingZoneRepository {
 
     List<ParkingZone> findAll();
 
+    // zones of one type in the order they were first saved; an unmodifiable snapshot, not a copy
+    List<ParkingZone> findByZoneType(ZoneType zoneType);
+
     void save(ParkingZone zone);
 
     boolean spotExists(String zoneId);
     ParkingZone findZoneById(String zoneId);
 
     ParkingSpot findSpotById(String spotId);
+
+    ParkingZone findZoneBySpotId(String spotId);
 }
\ No newline at end of file
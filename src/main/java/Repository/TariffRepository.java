@@ -3,7 +3,10 @@ package Repository;
 import Enum.ZoneType;
 import Model.Tariff;
 
+import java.util.function.Consumer;
+
 public interface TariffRepository {
     Tariff findByZoneType(ZoneType zoneType);
     void save(Tariff tariff);
+    void addSaveListener(Consumer<Tariff> listener);
 }
@@ -0,0 +1,237 @@
+package Repository.impl;
+
+import Enum.SessionState;
+import Model.ParkingSession;
+import Record.UserUsageSnapshot;
+import Repository.ParkingSessionRepository;
+
+import java.time.Clock;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Thread-safe variant for many gates sharing one JVM: reads never block and writes for the
+// same session id are serialized by the backing map. Session state transitions are atomic on
+// ParkingSession itself, so active queries filter the per-key buckets at read time.
+public class ConcurrentParkingSessionRepository implements ParkingSessionRepository {
+
+    private final ConcurrentHashMap<String, ParkingSession> sessions = new ConcurrentHashMap<>();
+
+    // secondary indexes: key -> sessions sharing that key
+    private final ConcurrentHashMap<String, Set<ParkingSession>> byUser = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<ParkingSession>> byPlate = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<ParkingSession>> byZone = new ConcurrentHashMap<>();
+
+    private final DailyUsageCounters dailyUsage;
+    private final Consumer<ParkingSession> stateListener = this::onStateChanged;
+
+    private final List<Consumer<ParkingSession>> saveListeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<ParkingSession>> deleteListeners = new CopyOnWriteArrayList<>();
+
+    public ConcurrentParkingSessionRepository() {
+        this(Clock.systemDefaultZone());
+    }
+
+    public ConcurrentParkingSessionRepository(Clock clock) {
+        this.dailyUsage = new DailyUsageCounters(Objects.requireNonNull(clock, "clock must not be null"));
+    }
+
+    @Override
+    public Optional<ParkingSession> findById(String sessionId) {
+        if (sessionId == null) return Optional.empty();
+        return Optional.ofNullable(sessions.get(sessionId));
+    }
+
+    @Override
+    public Collection<ParkingSession> findAll() {
+        return Collections.unmodifiableCollection(sessions.values());
+    }
+
+    @Override
+    public List<ParkingSession> findActiveSessionsForUser(String userId) {
+        return activeIn(byUser, userId);
+    }
+
+    @Override
+    public List<ParkingSession> findActiveSessionsForVehicle(String plate) {
+        return activeIn(byPlate, plate);
+    }
+
+    @Override
+    public List<ParkingSession> findActiveSessionsForZone(String zoneId) {
+        return activeIn(byZone, zoneId);
+    }
+
+    @Override
+    public void save(ParkingSession session) {
+        Objects.requireNonNull(session, "session must not be null");
+        Objects.requireNonNull(session.getId(), "session id must not be null");
+        ParkingSession[] replaced = new ParkingSession[1];
+        sessions.compute(session.getId(), (id, previous) -> {
+            if (previous != null && previous != session) {
+                unindex(previous);
+                dailyUsage.remove(previous);
+                previous.removeStateListener(stateListener);
+                replaced[0] = previous;
+            }
+            index(session);
+            return session;
+        });
+        session.addStateListener(stateListener);
+        dailyUsage.update(session);
+        if (replaced[0] != null) {
+            publish(deleteListeners, replaced[0]);
+        }
+        publish(saveListeners, session);
+    }
+
+    @Override
+    public void delete(ParkingSession session) {
+        Objects.requireNonNull(session);
+        if (session.getId() == null) return;
+        ParkingSession[] removed = new ParkingSession[1];
+        sessions.computeIfPresent(session.getId(), (id, existing) -> {
+            unindex(existing);
+            existing.removeStateListener(stateListener);
+            dailyUsage.remove(existing);
+            removed[0] = existing;
+            return null;
+        });
+        if (removed[0] != null) {
+            publish(deleteListeners, removed[0]);
+        }
+    }
+
+    @Override
+    public void addSaveListener(Consumer<ParkingSession> listener) {
+        saveListeners.add(Objects.requireNonNull(listener));
+    }
+
+    @Override
+    public void addDeleteListener(Consumer<ParkingSession> listener) {
+        deleteListeners.add(Objects.requireNonNull(listener));
+    }
+
+    private static void publish(List<Consumer<ParkingSession>> listeners, ParkingSession session) {
+        for (Consumer<ParkingSession> listener : listeners) {
+            listener.accept(session);
+        }
+    }
+
+    @Override
+    public int getActiveSessionsCountForUser(String userId) {
+        return countActive(byUser, userId);
+    }
+
+    @Override
+    public int getActiveSessionsCountForVehicle(String plate) {
+        return countActive(byPlate, plate);
+    }
+
+    @Override
+    public int getActiveSessionsCountForZone(String zoneId) {
+        return countActive(byZone, zoneId);
+    }
+
+    @Override
+    public int getSessionsCountForToday(String userId) {
+        return dailyUsage.sessionsStartedToday(userId, () -> bucket(byUser, userId));
+    }
+
+    @Override
+    public int getHoursUsedTodayForUser(String userId) {
+        return dailyUsage.hoursUsedToday(userId, () -> bucket(byUser, userId));
+    }
+
+    @Override
+    public boolean hasUnpaidSessionsForUser(String userId) {
+        for (ParkingSession session : bucket(byUser, userId)) {
+            if (session.getState() == SessionState.OPEN) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public UserUsageSnapshot getUsageSnapshot(String userId, String plate) {
+        int activeForUser = 0;
+        boolean unpaid = false;
+        for (ParkingSession session : bucket(byUser, userId)) {
+            SessionState state = session.getState();
+            if (state == SessionState.OPEN || state == SessionState.PAID) {
+                activeForUser++;
+                unpaid |= state == SessionState.OPEN;
+            }
+        }
+        DailyUsageCounters.Today today = dailyUsage.today(userId, () -> bucket(byUser, userId));
+        return new UserUsageSnapshot(
+                countActive(byPlate, plate),
+                activeForUser,
+                today.sessionsStarted(),
+                today.hoursUsed(),
+                unpaid
+        );
+    }
+
+    private void onStateChanged(ParkingSession session) {
+        if (sessions.get(session.getId()) != session) return;
+        dailyUsage.update(session);
+    }
+
+    private void index(ParkingSession session) {
+        put(byUser, session.getUserId(), session);
+        put(byPlate, session.getVehiclePlate(), session);
+        put(byZone, session.getZoneId(), session);
+    }
+
+    private void unindex(ParkingSession session) {
+        remove(byUser, session.getUserId(), session);
+        remove(byPlate, session.getVehiclePlate(), session);
+        remove(byZone, session.getZoneId(), session);
+    }
+
+    private static void put(ConcurrentHashMap<String, Set<ParkingSession>> index, String key, ParkingSession session) {
+        if (key == null) return;
+        index.compute(key, (k, bucket) -> {
+            Set<ParkingSession> target = bucket != null ? bucket : ConcurrentHashMap.newKeySet();
+            target.add(session);
+            return target;
+        });
+    }
+
+    private static void remove(ConcurrentHashMap<String, Set<ParkingSession>> index, String key, ParkingSession session) {
+        if (key == null) return;
+        // dropping the bucket inside compute keeps a concurrent put from adding to a detached set
+        index.computeIfPresent(key, (k, bucket) -> {
+            bucket.remove(session);
+            return bucket.isEmpty() ? null : bucket;
+        });
+    }
+
+    private static Set<ParkingSession> bucket(ConcurrentHashMap<String, Set<ParkingSession>> index, String key) {
+        if (key == null) return Collections.emptySet();
+        return index.getOrDefault(key, Collections.emptySet());
+    }
+
+    private static List<ParkingSession> activeIn(ConcurrentHashMap<String, Set<ParkingSession>> index, String key) {
+        List<ParkingSession> result = new ArrayList<>();
+        for (ParkingSession session : bucket(index, key)) {
+            if (session.isActive()) {
+                result.add(session);
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    private static int countActive(ConcurrentHashMap<String, Set<ParkingSession>> index, String key) {
+        int count = 0;
+        for (ParkingSession session : bucket(index, key)) {
+            if (session.isActive()) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,160 @@
+package Repository.impl;
+
+import Model.ParkingSession;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Per-user usage for the current local day, kept current as sessions are saved, change state
+// or are deleted. A user's entry is rebuilt from their sessions the first time it is read on a
+// new day, so nothing has to run at midnight and sessions still open carry over from 00:00.
+final class DailyUsageCounters {
+
+    private final Clock clock;
+    private final ConcurrentHashMap<String, UserDay> byUser = new ConcurrentHashMap<>();
+
+    DailyUsageCounters(Clock clock) {
+        this.clock = clock;
+    }
+
+    void update(ParkingSession session) {
+        String userId = session.getUserId();
+        if (userId == null) return;
+        UserDay day = byUser.get(userId);
+        if (day == null) return;
+        synchronized (day) {
+            if (!day.date.equals(LocalDate.now(clock))) {
+                byUser.remove(userId, day);
+                return;
+            }
+            day.apply(session);
+        }
+    }
+
+    void remove(ParkingSession session) {
+        String userId = session.getUserId();
+        if (userId == null) return;
+        UserDay day = byUser.get(userId);
+        if (day == null) return;
+        synchronized (day) {
+            day.withdraw(session.getId());
+        }
+    }
+
+    record Today(int sessionsStarted, int hoursUsed) { }
+
+    Today today(String userId, Supplier<? extends Iterable<ParkingSession>> sessions) {
+        if (userId == null) return new Today(0, 0);
+        UserDay day = current(userId, sessions);
+        synchronized (day) {
+            return new Today(day.started, day.hoursUsed(LocalDateTime.now(clock)));
+        }
+    }
+
+    int sessionsStartedToday(String userId, Supplier<? extends Iterable<ParkingSession>> sessions) {
+        if (userId == null) return 0;
+        UserDay day = current(userId, sessions);
+        synchronized (day) {
+            return day.started;
+        }
+    }
+
+    int hoursUsedToday(String userId, Supplier<? extends Iterable<ParkingSession>> sessions) {
+        if (userId == null) return 0;
+        UserDay day = current(userId, sessions);
+        synchronized (day) {
+            return day.hoursUsed(LocalDateTime.now(clock));
+        }
+    }
+
+    private UserDay current(String userId, Supplier<? extends Iterable<ParkingSession>> sessions) {
+        LocalDate today = LocalDate.now(clock);
+        UserDay day = byUser.get(userId);
+        if (day != null && day.date.equals(today)) return day;
+
+        UserDay fresh = new UserDay(today);
+        // published before it is filled, so updates racing with the rebuild wait for it and reapply
+        synchronized (fresh) {
+            UserDay winner = byUser.compute(userId, (id, existing) ->
+                    existing != null && existing.date.equals(today) ? existing : fresh);
+            if (winner != fresh) return winner;
+            for (ParkingSession session : sessions.get()) {
+                fresh.apply(session);
+            }
+        }
+        return fresh;
+    }
+
+    private record Contribution(boolean startedToday, boolean open, long openFromMillis, long closedMinutes) { }
+
+    private static final class UserDay {
+        private final LocalDate date;
+        private final LocalDateTime midnight;
+        private final Map<String, Contribution> bySession = new HashMap<>();
+
+        private int started;
+        private long closedMinutes;
+        // open sessions count as (now - start) each, so only their number and start sum are kept
+        private int open;
+        private long openFromMillisSum;
+
+        private UserDay(LocalDate date) {
+            this.date = date;
+            this.midnight = date.atStartOfDay();
+        }
+
+        private void apply(ParkingSession session) {
+            withdraw(session.getId());
+            Contribution contribution = contributionOf(session);
+            if (contribution == null) return;
+            bySession.put(session.getId(), contribution);
+            if (contribution.startedToday()) started++;
+            if (contribution.open()) {
+                open++;
+                openFromMillisSum += contribution.openFromMillis();
+            }
+            closedMinutes += contribution.closedMinutes();
+        }
+
+        private void withdraw(String sessionId) {
+            Contribution contribution = bySession.remove(sessionId);
+            if (contribution == null) return;
+            if (contribution.startedToday()) started--;
+            if (contribution.open()) {
+                open--;
+                openFromMillisSum -= contribution.openFromMillis();
+            }
+            closedMinutes -= contribution.closedMinutes();
+        }
+
+        private int hoursUsed(LocalDateTime now) {
+            long openMillis = open * Duration.between(midnight, now).toMillis() - openFromMillisSum;
+            long minutes = closedMinutes + Math.max(0, openMillis) / 60_000;
+            return (int) Math.ceil(minutes / 60.0);
+        }
+
+        private Contribution contributionOf(ParkingSession session) {
+            LocalDateTime start = session.getStartTime();
+            if (start == null || start.toLocalDate().isAfter(date)) return null;
+
+            boolean startedToday = start.toLocalDate().equals(date);
+            LocalDateTime from = start.isAfter(midnight) ? start : midnight;
+            LocalDateTime end = session.getEndTime();
+            if (end == null) {
+                return new Contribution(startedToday, true, Duration.between(midnight, from).toMillis(), 0);
+            }
+
+            LocalDateTime nextMidnight = midnight.plusDays(1);
+            LocalDateTime to = end.isBefore(nextMidnight) ? end : nextMidnight;
+            long minutes = to.isAfter(from) ? Duration.between(from, to).toMinutes() : 0;
+            if (!startedToday && minutes == 0) return null;
+            return new Contribution(startedToday, false, 0, minutes);
+        }
+    }
+}
@@ -3,20 +3,31 @@ package Repository.impl;
 import Model.BillingRecord;
 import Repository.BillingRecordRepository;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class InMemoryBillingRecordRepository implements BillingRecordRepository {
-    private final Map<String, BillingRecord> storage = new HashMap<>();
+    private final Map<String, BillingRecord> storage = new ConcurrentHashMap<>();
 
     @Override
     public void save(BillingRecord record) {
         storage.put(record.getSessionId(), record);
     }
 
+    @Override
+    public void saveAll(Collection<BillingRecord> records) {
+        Map<String, BillingRecord> batch = new HashMap<>(records.size() * 2);
+        for (BillingRecord record : records) {
+            batch.put(record.getSessionId(), record);
+        }
+        storage.putAll(batch);
+    }
+
     @Override
     public Optional<BillingRecord> findBySessionId(String sessionId) {
-        return Optional.ofNullable(storage.get(sessionId));
+        return sessionId == null ? Optional.empty() : Optional.ofNullable(storage.get(sessionId));
     }
 }
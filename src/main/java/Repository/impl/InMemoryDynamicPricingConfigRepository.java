@@ -4,9 +4,12 @@ import Model.DynamicPricingConfig;
 import Repository.DynamicPricingConfigRepository;
 
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 public class InMemoryDynamicPricingConfigRepository implements DynamicPricingConfigRepository {
     private DynamicPricingConfig currentConfig;
+    private final CopyOnWriteArrayList<Consumer<DynamicPricingConfig>> saveListeners = new CopyOnWriteArrayList<>();
 
     public InMemoryDynamicPricingConfigRepository(DynamicPricingConfig initialConfig) {
         this.currentConfig = Objects.requireNonNull(initialConfig, "initialConfig must not be null");
@@ -20,5 +23,14 @@ public class InMemoryDynamicPricingConfigRepository implements DynamicPricingCon
     @Override
     public void save(DynamicPricingConfig config) {
         this.currentConfig = Objects.requireNonNull(config, "config must not be null");
+        for (Consumer<DynamicPricingConfig> listener : saveListeners) {
+            listener.accept(config);
+        }
+    }
+
+    @Override
+    public void addSaveListener(Consumer<DynamicPricingConfig> listener) {
+        Objects.requireNonNull(listener, "listener must not be null");
+        saveListeners.addIfAbsent(listener);
     }
 }
@@ -2,15 +2,43 @@ package Repository.impl;
 
 import Enum.SessionState;
 import Model.ParkingSession;
+import Record.UserUsageSnapshot;
 import Repository.ParkingSessionRepository;
 
-import java.time.LocalDateTime;
+import java.time.Clock;
 import java.util.*;
+import java.util.function.Consumer;
 
 public class InMemoryParkingSessionRepository implements ParkingSessionRepository {
 
     private final Map<String, ParkingSession> sessions = new HashMap<>();
 
+    // secondary indexes: key -> (sessionId -> session)
+    private final Map<String, Map<String, ParkingSession>> byUser = new HashMap<>();
+    private final Map<String, Map<String, ParkingSession>> byPlate = new HashMap<>();
+    private final Map<String, Map<String, ParkingSession>> byZone = new HashMap<>();
+
+    // active (OPEN or PAID) sessions only, kept current through the session state listener
+    private final Map<String, ParkingSession> active = new HashMap<>();
+    private final Map<String, Map<String, ParkingSession>> activeByUser = new HashMap<>();
+    private final Map<String, Map<String, ParkingSession>> activeByPlate = new HashMap<>();
+    private final Map<String, Map<String, ParkingSession>> activeByZone = new HashMap<>();
+
+    private final DailyUsageCounters dailyUsage;
+
+    private final Consumer<ParkingSession> stateListener = this::onStateChanged;
+
+    private final List<Consumer<ParkingSession>> saveListeners = new ArrayList<>();
+    private final List<Consumer<ParkingSession>> deleteListeners = new ArrayList<>();
+
+    public InMemoryParkingSessionRepository() {
+        this(Clock.systemDefaultZone());
+    }
+
+    public InMemoryParkingSessionRepository(Clock clock) {
+        this.dailyUsage = new DailyUsageCounters(Objects.requireNonNull(clock, "clock must not be null"));
+    }
+
     @Override
     public Optional<ParkingSession> findById(String sessionId) {
         return Optional.ofNullable(sessions.get(sessionId));
@@ -23,82 +51,177 @@ public class InMemoryParkingSessionRepository implements ParkingSessionRepositor
 
     @Override
     public List<ParkingSession> findActiveSessionsForUser(String userId) {
-        return sessions.values().stream()
-                .filter(ParkingSession::isActive)
-                .filter(s -> s.getUserId().equals(userId))
-                .toList();
+        return List.copyOf(bucket(activeByUser, userId).values());
     }
 
     @Override
     public List<ParkingSession> findActiveSessionsForVehicle(String plate) {
-        return sessions.values().stream()
-                .filter(ParkingSession::isActive)
-                .filter(s -> s.getVehiclePlate().equals(plate))
-                .toList();
+        return List.copyOf(bucket(activeByPlate, plate).values());
+    }
+
+    @Override
+    public List<ParkingSession> findActiveSessionsForZone(String zoneId) {
+        return List.copyOf(bucket(activeByZone, zoneId).values());
     }
 
     @Override
     public void save(ParkingSession session) {
-        sessions.put(session.getId(), session);
+        ParkingSession previous = sessions.put(session.getId(), session);
+        if (previous != null) {
+            unindex(previous);
+            dailyUsage.remove(previous);
+            if (previous != session) {
+                previous.removeStateListener(stateListener);
+            }
+        }
+        index(session);
+        dailyUsage.update(session);
+        session.addStateListener(stateListener);
+        if (previous != null && previous != session) {
+            publish(deleteListeners, previous);
+        }
+        publish(saveListeners, session);
     }
 
     @Override
     public void delete(ParkingSession session) {
         Objects.requireNonNull(session);
-        sessions.remove(session.getId());
+        ParkingSession removed = sessions.remove(session.getId());
+        if (removed != null) {
+            unindex(removed);
+            dailyUsage.remove(removed);
+            removed.removeStateListener(stateListener);
+            publish(deleteListeners, removed);
+        }
+    }
+
+    @Override
+    public void addSaveListener(Consumer<ParkingSession> listener) {
+        saveListeners.add(Objects.requireNonNull(listener));
+    }
+
+    @Override
+    public void addDeleteListener(Consumer<ParkingSession> listener) {
+        deleteListeners.add(Objects.requireNonNull(listener));
+    }
+
+    private static void publish(List<Consumer<ParkingSession>> listeners, ParkingSession session) {
+        for (Consumer<ParkingSession> listener : listeners) {
+            listener.accept(session);
+        }
     }
 
     @Override
     public int getActiveSessionsCountForUser(String userId) {
-        return (int) sessions.values().stream()
-                .filter(ParkingSession::isActive)
-                .filter(s -> s.getUserId().equals(userId))
-                .count();
+        return bucket(activeByUser, userId).size();
     }
 
     @Override
     public int getActiveSessionsCountForVehicle(String plate) {
-        return (int) sessions.values().stream()
-                .filter(ParkingSession::isActive)
-                .filter(s -> s.getVehiclePlate().equals(plate))
-                .count();
+        return bucket(activeByPlate, plate).size();
+    }
+
+    @Override
+    public int getActiveSessionsCountForZone(String zoneId) {
+        return bucket(activeByZone, zoneId).size();
     }
 
     @Override
     public int getSessionsCountForToday(String userId) {
-        LocalDateTime today = LocalDateTime.now();
-        return (int) sessions.values().stream()
-                .filter(s -> s.getUserId().equals(userId))
-                .filter(s -> s.getStartTime().toLocalDate().equals(today.toLocalDate()))
-                .count();
+        return dailyUsage.sessionsStartedToday(userId, () -> bucket(byUser, userId).values());
     }
 
     @Override
     public int getHoursUsedTodayForUser(String userId) {
-        LocalDateTime now = LocalDateTime.now();
-        int minutes = 0;
-
-        for (ParkingSession session : sessions.values()) {
-            if (session.getUserId().equals(userId)) {
-                LocalDateTime end = session.getEndTime() != null
-                        ? session.getEndTime()
-                        : now;
-
-                minutes += java.time.Duration
-                        .between(session.getStartTime(), end)
-                        .toMinutes();
+        return dailyUsage.hoursUsedToday(userId, () -> bucket(byUser, userId).values());
+    }
+
+    @Override
+    public boolean hasUnpaidSessionsForUser(String userId) {
+        return bucket(activeByUser, userId).values().stream()
+                .anyMatch(s -> s.getState() == SessionState.OPEN);
+    }
+
+    @Override
+    public UserUsageSnapshot getUsageSnapshot(String userId, String plate) {
+        Map<String, ParkingSession> activeForUser = bucket(activeByUser, userId);
+        boolean unpaid = false;
+        for (ParkingSession session : activeForUser.values()) {
+            if (session.getState() == SessionState.OPEN) {
+                unpaid = true;
+                break;
             }
         }
+        DailyUsageCounters.Today today = dailyUsage.today(userId, () -> bucket(byUser, userId).values());
+        return new UserUsageSnapshot(
+                bucket(activeByPlate, plate).size(),
+                activeForUser.size(),
+                today.sessionsStarted(),
+                today.hoursUsed(),
+                unpaid
+        );
+    }
 
-        return (int) Math.ceil(minutes / 60.0);
+    private void onStateChanged(ParkingSession session) {
+        if (sessions.get(session.getId()) != session) return;
+        dailyUsage.update(session);
+        if (session.isActive()) {
+            addActive(session, session.getUserId(), session.getVehiclePlate(), session.getZoneId());
+        } else {
+            removeActive(session, session.getUserId(), session.getVehiclePlate(), session.getZoneId());
+        }
     }
 
-    @Override
-    public boolean hasUnpaidSessionsForUser(String userId) {
-        return sessions.values().stream()
-                .anyMatch(s ->
-                        s.getUserId().equals(userId) &&
-                                s.getState() == SessionState.OPEN
-                );
+    private void index(ParkingSession session) {
+        String userId = session.getUserId();
+        String plate = session.getVehiclePlate();
+        String zoneId = session.getZoneId();
+        put(byUser, userId, session);
+        put(byPlate, plate, session);
+        put(byZone, zoneId, session);
+        if (session.isActive()) {
+            addActive(session, userId, plate, zoneId);
+        }
+    }
+
+    private void unindex(ParkingSession session) {
+        String userId = session.getUserId();
+        String plate = session.getVehiclePlate();
+        String zoneId = session.getZoneId();
+        remove(byUser, userId, session);
+        remove(byPlate, plate, session);
+        remove(byZone, zoneId, session);
+        removeActive(session, userId, plate, zoneId);
+    }
+
+    private void addActive(ParkingSession session, String userId, String plate, String zoneId) {
+        active.put(session.getId(), session);
+        put(activeByUser, userId, session);
+        put(activeByPlate, plate, session);
+        put(activeByZone, zoneId, session);
+    }
+
+    private void removeActive(ParkingSession session, String userId, String plate, String zoneId) {
+        if (active.remove(session.getId()) == null) return;
+        remove(activeByUser, userId, session);
+        remove(activeByPlate, plate, session);
+        remove(activeByZone, zoneId, session);
+    }
+
+    private static void put(Map<String, Map<String, ParkingSession>> index, String key, ParkingSession session) {
+        index.computeIfAbsent(key, k -> new LinkedHashMap<>()).put(session.getId(), session);
+    }
+
+    private static void remove(Map<String, Map<String, ParkingSession>> index, String key, ParkingSession session) {
+        Map<String, ParkingSession> bucket = index.get(key);
+        if (bucket == null) return;
+        bucket.remove(session.getId());
+        if (bucket.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static Map<String, ParkingSession> bucket(Map<String, Map<String, ParkingSession>> index, String key) {
+        return index.getOrDefault(key, Collections.emptyMap());
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,25 @@
 package Repository.impl;
 
+import Enum.ZoneType;
 import Model.ParkingSpot;
 import Model.ParkingZone;
 import Repository.ParkingZoneRepository;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
 public class InMemoryParkingZoneRepository implements ParkingZoneRepository {
 
-    private final Map<String, ParkingZone> zones = new HashMap<>();
+    private final Map<String, ParkingZone> zones = new ConcurrentHashMap<>();
+
+    // zones grouped by type for allocation; each list is immutable and replaced by save()
+    private final Map<ZoneType, List<ParkingZone>> zonesByType = new ConcurrentHashMap<>();
+
+    // every spot of every saved zone by spot id, with the zone that holds it; filled by save()
+    // and kept current by ParkingZone.addSpot through the zone's spot listener
+    private final Map<String, IndexedSpot> spotsById = new ConcurrentHashMap<>();
+    private final BiConsumer<ParkingZone, ParkingSpot> spotListener = this::onSpotAdded;
 
     public InMemoryParkingZoneRepository() {
 
@@ -16,7 +27,7 @@ public class InMemoryParkingZoneRepository implements ParkingZoneRepository {
 
     @Override
     public boolean zoneExists(String id) {
-        return zones.containsKey(id);
+        return id != null && zones.containsKey(id);
     }
 
     @Override
@@ -35,43 +46,90 @@ public class InMemoryParkingZoneRepository implements ParkingZoneRepository {
     }
 
     @Override
-    public void save(ParkingZone zone) {
-        Objects.requireNonNull(zone, "zone must not be null");
-        Objects.requireNonNull(zone.getZoneId(), "zoneId must not be null");
-        zones.put(zone.getZoneId(), zone);
+    public List<ParkingZone> findByZoneType(ZoneType zoneType) {
+        return zoneType == null ? List.of() : zonesByType.getOrDefault(zoneType, List.of());
     }
 
     @Override
-    public boolean spotExists(String spotId) {
-        for(ParkingZone zone : zones.values()){
-            for (ParkingSpot spot: zone.getSpots()){
-                if(spot.getSpotId().equals(spotId)){
-                    return true;
+    public synchronized void save(ParkingZone zone) {
+        Objects.requireNonNull(zone, "zone must not be null");
+        Objects.requireNonNull(zone.getZoneId(), "zoneId must not be null");
+        ParkingZone previous = zones.put(zone.getZoneId(), zone);
+        if (previous == zone) return;
+        indexByType(previous, zone);
+
+        if (previous != null) {
+            previous.removeSpotListener(spotListener);
+            for (ParkingSpot spot : previous.getSpots()) {
+                String spotId = spot.getSpotId();
+                if (spotId != null) {
+                    spotsById.computeIfPresent(spotId, (id, indexed) -> indexed.zone() == previous ? null : indexed);
                 }
             }
         }
-        return false;
+
+        // listen first so a spot added while the existing ones are indexed is not missed
+        zone.addSpotListener(spotListener);
+        for (ParkingSpot spot : zone.getSpots()) {
+            index(zone, spot);
+        }
+    }
+
+    @Override
+    public boolean spotExists(String spotId) {
+        return spotId != null && spotsById.containsKey(spotId);
     }
 
     @Override
     public ParkingZone findZoneById(String zoneId) {
-        for(ParkingZone zone : zones.values()){
-            if(zone.getZoneId().equals(zoneId)){
-                return zone;
-            }
-        }
-        return null;
+        return zoneId == null ? null : zones.get(zoneId);
     }
 
     @Override
     public ParkingSpot findSpotById(String spotId) {
-        for(ParkingZone zone : zones.values()){
-            for (ParkingSpot spot: zone.getSpots()){
-                if(spot.getSpotId().equals(spotId)){
-                    return spot;
-                }
-            }
+        IndexedSpot indexed = spotId == null ? null : spotsById.get(spotId);
+        return indexed == null ? null : indexed.spot();
+    }
+
+    @Override
+    public ParkingZone findZoneBySpotId(String spotId) {
+        IndexedSpot indexed = spotId == null ? null : spotsById.get(spotId);
+        return indexed == null ? null : indexed.zone();
+    }
+
+    // a replacement keeps the position of the zone it replaces, unless its type changed
+    private void indexByType(ParkingZone previous, ParkingZone zone) {
+        if (previous != null && previous.getZoneType() != zone.getZoneType() && previous.getZoneType() != null) {
+            List<ParkingZone> old = new ArrayList<>(findByZoneType(previous.getZoneType()));
+            old.remove(previous);
+            zonesByType.put(previous.getZoneType(), List.copyOf(old));
+            previous = null;
+        }
+        if (zone.getZoneType() == null) return;
+        List<ParkingZone> sameType = new ArrayList<>(findByZoneType(zone.getZoneType()));
+        int index = previous == null ? -1 : sameType.indexOf(previous);
+        if (index < 0) {
+            sameType.add(zone);
+        } else {
+            sameType.set(index, zone);
         }
-        return null;
+        zonesByType.put(zone.getZoneType(), List.copyOf(sameType));
+    }
+
+    private void onSpotAdded(ParkingZone zone, ParkingSpot spot) {
+        // a zone replaced by a later save no longer feeds the index
+        if (zones.get(zone.getZoneId()) == zone) {
+            index(zone, spot);
+        }
+    }
+
+    private void index(ParkingZone zone, ParkingSpot spot) {
+        String spotId = spot.getSpotId();
+        if (spotId != null) {
+            spotsById.put(spotId, new IndexedSpot(spot, zone));
+        }
+    }
+
+    private record IndexedSpot(ParkingSpot spot, ParkingZone zone) {
     }
-}
\ No newline at end of file
+}
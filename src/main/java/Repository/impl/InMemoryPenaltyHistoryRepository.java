@@ -4,14 +4,15 @@ import Model.PenaltyHistory;
 import Repository.PenaltyHistoryRepository;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class InMemoryPenaltyHistoryRepository implements PenaltyHistoryRepository {
 
-    private final Map<String, PenaltyHistory> byUser = new HashMap<>();
+    private final Map<String, PenaltyHistory> byUser = new ConcurrentHashMap<>();
 
     @Override
     public PenaltyHistory findById(String id) {
-        return byUser.get(id);
+        return id == null ? null : byUser.get(id);
     }
 
     @Override
@@ -7,9 +7,12 @@ import Enum.*;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 public class InMemoryTariffRepository implements TariffRepository {
     private final Map<ZoneType, Tariff> tariffs = new EnumMap<>(ZoneType.class);
+    private final CopyOnWriteArrayList<Consumer<Tariff>> saveListeners = new CopyOnWriteArrayList<>();
 
     public InMemoryTariffRepository(Map<ZoneType, Tariff> initialTariffs) {
         Objects.requireNonNull(initialTariffs, "initialTariffs must not be null");
@@ -30,5 +33,14 @@ public class InMemoryTariffRepository implements TariffRepository {
     public void save(Tariff tariff) {
         Objects.requireNonNull(tariff, "tariff must not be null");
         tariffs.put(tariff.getZoneType(), tariff);
+        for (Consumer<Tariff> listener : saveListeners) {
+            listener.accept(tariff);
+        }
+    }
+
+    @Override
+    public void addSaveListener(Consumer<Tariff> listener) {
+        Objects.requireNonNull(listener, "listener must not be null");
+        saveListeners.addIfAbsent(listener);
     }
 }
@@ -0,0 +1,380 @@
+package Repository.impl;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+// Append-only binary journal with group commit and compacting snapshots.
+//
+// Files in the directory are "<name>-<generation>.journal" and "<name>-<generation>.snapshot".
+// A snapshot of generation N holds the full state as of the end of journal N-1, so recovery
+// loads the newest complete snapshot and replays every journal from its generation onwards.
+// Each record is framed as [length][crc32][payload]; a torn tail on the last journal is cut off.
+final class Journal implements Closeable {
+
+    private static final int SNAPSHOT_MAGIC = 0x504D5331; // "PMS1"
+    private static final int SNAPSHOT_END = -1;
+    private static final int MAX_RECORD_BYTES = 16 * 1024 * 1024;
+
+    private final Path directory;
+    private final String name;
+    private final Pattern fileNames;
+    private final boolean fsync;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushed = lock.newCondition();
+
+    // guarded by lock
+    private FileChannel channel;
+    private long generation;
+    private byte[] pending = new byte[64 * 1024];
+    private int pendingSize;
+    private byte[] spare = new byte[64 * 1024];
+    private long appendedSeq;
+    private long durableSeq;
+    private boolean flushing;
+    private long bytesSinceSnapshot;
+    private IOException failure;
+    private boolean closed;
+
+    Journal(Path directory, String name, boolean fsync, Consumer<byte[]> replay) {
+        this.directory = Objects.requireNonNull(directory, "directory must not be null");
+        this.name = Objects.requireNonNull(name, "name must not be null");
+        this.fileNames = Pattern.compile(Pattern.quote(name) + "-(\\d+)\\.(journal|snapshot)");
+        this.fsync = fsync;
+        try {
+            Files.createDirectories(directory);
+            recover(Objects.requireNonNull(replay, "replay must not be null"));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open journal " + name + " in " + directory, e);
+        }
+    }
+
+    long append(byte[] payload) {
+        if (payload.length > MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("Journal record too large: " + payload.length + " bytes");
+        }
+        lock.lock();
+        try {
+            ensureUsable();
+            ensurePendingCapacity(8 + payload.length);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            ByteBuffer.wrap(pending, pendingSize, 8).putInt(payload.length).putInt((int) crc.getValue());
+            System.arraycopy(payload, 0, pending, pendingSize + 8, payload.length);
+            pendingSize += 8 + payload.length;
+            bytesSinceSnapshot += 8 + payload.length;
+            return ++appendedSeq;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Blocks until the record with the given sequence number is on disk. The first waiter
+    // writes everything appended so far in one go, so concurrent callers share a single fsync.
+    void awaitDurable(long seq) {
+        lock.lock();
+        try {
+            while (durableSeq < seq) {
+                ensureUsable();
+                if (flushing) {
+                    flushed.awaitUninterruptibly();
+                    continue;
+                }
+                flushing = true;
+                byte[] batch = pending;
+                int batchSize = pendingSize;
+                long upTo = appendedSeq;
+                pending = spare;
+                pendingSize = 0;
+                FileChannel target = channel;
+
+                lock.unlock();
+                IOException error = null;
+                try {
+                    write(target, batch, batchSize);
+                } catch (IOException e) {
+                    error = e;
+                } finally {
+                    lock.lock();
+                }
+
+                spare = batch;
+                flushing = false;
+                if (error != null) {
+                    failure = error;
+                } else {
+                    durableSeq = upTo;
+                }
+                flushed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long bytesSinceSnapshot() {
+        lock.lock();
+        try {
+            return bytesSinceSnapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long generation() {
+        lock.lock();
+        try {
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // The caller must stop appends while this runs (and while producing the records),
+    // otherwise the snapshot would not match the point where the journal was rotated.
+    void snapshot(Collection<byte[]> records) {
+        lock.lock();
+        try {
+            ensureUsable();
+            long next = rotate();
+            Path target = file(next, "snapshot");
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+            try (FileChannel out = FileChannel.open(temp,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                DataOutputStream data = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(out), 1 << 16));
+                data.writeInt(SNAPSHOT_MAGIC);
+                CRC32 crc = new CRC32();
+                for (byte[] record : records) {
+                    crc.reset();
+                    crc.update(record);
+                    data.writeInt(record.length);
+                    data.writeInt((int) crc.getValue());
+                    data.write(record);
+                }
+                data.writeInt(SNAPSHOT_END);
+                data.writeLong(records.size());
+                data.flush();
+                out.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            syncDirectory();
+            deleteGenerationsBefore(next);
+            bytesSinceSnapshot = 0;
+        } catch (IOException e) {
+            failure = e;
+            throw new UncheckedIOException("Could not write snapshot for journal " + name, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) return;
+            while (flushing) {
+                flushed.awaitUninterruptibly();
+            }
+            try {
+                if (failure == null) {
+                    write(channel, pending, pendingSize);
+                    pendingSize = 0;
+                    durableSeq = appendedSeq;
+                }
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not close journal " + name, e);
+            } finally {
+                closed = true;
+                flushed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // flushes the current journal and continues in a fresh one; returns the new generation
+    private long rotate() throws IOException {
+        while (flushing) {
+            flushed.awaitUninterruptibly();
+        }
+        write(channel, pending, pendingSize);
+        pendingSize = 0;
+        durableSeq = appendedSeq;
+        channel.close();
+
+        generation++;
+        channel = openForAppend(file(generation, "journal"));
+        syncDirectory();
+        flushed.signalAll();
+        return generation;
+    }
+
+    private void write(FileChannel target, byte[] data, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(data, 0, size);
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+        if (fsync) {
+            target.force(false);
+        }
+    }
+
+    private void recover(Consumer<byte[]> replay) throws IOException {
+        TreeMap<Long, Path> snapshots = new TreeMap<>();
+        TreeMap<Long, Path> journals = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (fileName.startsWith(name + "-") && fileName.endsWith(".snapshot.tmp")) {
+                    Files.deleteIfExists(file);
+                    continue;
+                }
+                Matcher matcher = fileNames.matcher(fileName);
+                if (!matcher.matches()) continue;
+                long gen = Long.parseLong(matcher.group(1));
+                (matcher.group(2).equals("snapshot") ? snapshots : journals).put(gen, file);
+            }
+        }
+
+        long base = 0;
+        for (Map.Entry<Long, Path> snapshot : snapshots.descendingMap().entrySet()) {
+            if (readSnapshot(snapshot.getValue(), replay)) {
+                base = snapshot.getKey();
+                break;
+            }
+        }
+
+        SortedMap<Long, Path> tail = journals.tailMap(base);
+        long position = 0;
+        for (Map.Entry<Long, Path> journal : tail.entrySet()) {
+            boolean last = journal.getKey().equals(tail.lastKey());
+            position = readJournal(journal.getValue(), replay, last);
+        }
+
+        generation = tail.isEmpty() ? base : tail.lastKey();
+        Path current = file(generation, "journal");
+        channel = openForAppend(current);
+        if (channel.size() > position) {
+            channel.truncate(position);
+            channel.force(false);
+        }
+        channel.position(position);
+        bytesSinceSnapshot = position;
+        for (long gen = base; gen < generation; gen++) {
+            Path older = file(gen, "journal");
+            if (Files.exists(older)) {
+                bytesSinceSnapshot += Files.size(older);
+            }
+        }
+    }
+
+    private boolean readSnapshot(Path file, Consumer<byte[]> replay) throws IOException {
+        // decode fully before replaying anything, so an incomplete snapshot has no effect
+        List<byte[]> records = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) return false;
+            while (true) {
+                int length = in.readInt();
+                if (length == SNAPSHOT_END) {
+                    if (in.readLong() != records.size()) return false;
+                    break;
+                }
+                byte[] record = readFrame(in, length);
+                if (record == null) return false;
+                records.add(record);
+            }
+        } catch (EOFException e) {
+            return false;
+        }
+        records.forEach(replay);
+        return true;
+    }
+
+    // returns the end position of the last complete record
+    private long readJournal(Path file, Consumer<byte[]> replay, boolean last) throws IOException {
+        long position = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            while (true) {
+                byte[] record;
+                try {
+                    record = readFrame(in, in.readInt());
+                } catch (EOFException e) {
+                    record = null;
+                }
+                if (record == null) break;
+                replay.accept(record);
+                position += 8 + record.length;
+            }
+        }
+        if (!last && position < Files.size(file)) {
+            throw new IllegalStateException("Corrupt journal " + file + " at offset " + position);
+        }
+        return position;
+    }
+
+    private static byte[] readFrame(DataInputStream in, int length) throws IOException {
+        if (length < 0 || length > MAX_RECORD_BYTES) return null;
+        int checksum = in.readInt();
+        byte[] record = new byte[length];
+        in.readFully(record);
+        CRC32 crc = new CRC32();
+        crc.update(record);
+        return (int) crc.getValue() == checksum ? record : null;
+    }
+
+    private void deleteGenerationsBefore(long gen) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Matcher matcher = fileNames.matcher(file.getFileName().toString());
+                if (matcher.matches() && Long.parseLong(matcher.group(1)) < gen) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private FileChannel openForAppend(Path file) throws IOException {
+        FileChannel opened = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        opened.position(opened.size());
+        return opened;
+    }
+
+    private void syncDirectory() {
+        if (!fsync) return;
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            // not every platform can open a directory for syncing
+        }
+    }
+
+    private Path file(long gen, String kind) {
+        return directory.resolve(String.format("%s-%019d.%s", name, gen, kind));
+    }
+
+    private void ensurePendingCapacity(int extra) {
+        if (pendingSize + extra <= pending.length) return;
+        pending = Arrays.copyOf(pending, Math.max(pending.length * 2, pendingSize + extra));
+    }
+
+    private void ensureUsable() {
+        if (closed) {
+            throw new IllegalStateException("Journal " + name + " is closed");
+        }
+        if (failure != null) {
+            throw new UncheckedIOException("Journal " + name + " failed earlier", failure);
+        }
+    }
+}
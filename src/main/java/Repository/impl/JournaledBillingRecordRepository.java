@@ -0,0 +1,138 @@
+package Repository.impl;
+
+import Enum.ZoneType;
+import Model.BillingRecord;
+import Model.BillingResult;
+import Repository.BillingRecordRepository;
+
+import java.io.*;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Durable billing store on the same journal format as JournaledParkingSessionRepository.
+// saveAll appends the whole batch and waits for a single fsync.
+public class JournaledBillingRecordRepository implements BillingRecordRepository, Closeable {
+
+    public static final long DEFAULT_SNAPSHOT_THRESHOLD_BYTES = 64L * 1024 * 1024;
+
+    private final ConcurrentHashMap<String, BillingRecord> storage = new ConcurrentHashMap<>();
+    private final Journal journal;
+    private final long snapshotThresholdBytes;
+
+    public JournaledBillingRecordRepository(Path directory) {
+        this(directory, DEFAULT_SNAPSHOT_THRESHOLD_BYTES, true);
+    }
+
+    public JournaledBillingRecordRepository(Path directory, long snapshotThresholdBytes, boolean fsync) {
+        if (snapshotThresholdBytes <= 0) {
+            throw new IllegalArgumentException("snapshotThresholdBytes must be > 0");
+        }
+        this.snapshotThresholdBytes = snapshotThresholdBytes;
+        this.journal = new Journal(directory, "billing", fsync, record -> {
+            BillingRecord decoded = decode(record);
+            storage.put(decoded.getSessionId(), decoded);
+        });
+    }
+
+    @Override
+    public void save(BillingRecord record) {
+        Objects.requireNonNull(record, "record must not be null");
+        long seq;
+        synchronized (this) {
+            seq = journal.append(encode(record));
+            storage.put(record.getSessionId(), record);
+            snapshotIfDue();
+        }
+        journal.awaitDurable(seq);
+    }
+
+    @Override
+    public void saveAll(Collection<BillingRecord> records) {
+        List<byte[]> encoded = new ArrayList<>(records.size());
+        for (BillingRecord record : records) {
+            encoded.add(encode(Objects.requireNonNull(record, "record must not be null")));
+        }
+        if (encoded.isEmpty()) return;
+
+        long seq = 0;
+        synchronized (this) {
+            for (byte[] record : encoded) {
+                seq = journal.append(record);
+            }
+            for (BillingRecord record : records) {
+                storage.put(record.getSessionId(), record);
+            }
+            snapshotIfDue();
+        }
+        journal.awaitDurable(seq);
+    }
+
+    @Override
+    public Optional<BillingRecord> findBySessionId(String sessionId) {
+        if (sessionId == null) return Optional.empty();
+        return Optional.ofNullable(storage.get(sessionId));
+    }
+
+    public synchronized void snapshot() {
+        List<byte[]> records = new ArrayList<>(storage.size());
+        for (BillingRecord record : storage.values()) {
+            records.add(encode(record));
+        }
+        journal.snapshot(records);
+    }
+
+    @Override
+    public synchronized void close() {
+        journal.close();
+    }
+
+    private void snapshotIfDue() {
+        if (journal.bytesSinceSnapshot() >= snapshotThresholdBytes) {
+            snapshot();
+        }
+    }
+
+    private static byte[] encode(BillingRecord record) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(record.getSessionId());
+            out.writeUTF(record.getUserId());
+            JournalCodec.writeEnum(out, record.getZoneType());
+            JournalCodec.writeTime(out, record.getEntryTime());
+            JournalCodec.writeTime(out, record.getExitTime());
+            BillingResult result = record.getBillingResult();
+            JournalCodec.writeDecimal(out, result.getBasePrice());
+            JournalCodec.writeDecimal(out, result.getDiscountsTotal());
+            JournalCodec.writeDecimal(out, result.getPenaltiesTotal());
+            JournalCodec.writeDecimal(out, result.getNetPrice());
+            JournalCodec.writeDecimal(out, result.getTaxAmount());
+            JournalCodec.writeDecimal(out, result.getFinalPrice());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static BillingRecord decode(byte[] record) {
+        try (DataInputStream in = JournalCodec.reader(record)) {
+            return new BillingRecord(
+                    in.readUTF(),
+                    in.readUTF(),
+                    JournalCodec.readEnum(in, ZoneType.values()),
+                    JournalCodec.readTime(in),
+                    JournalCodec.readTime(in),
+                    new BillingResult(
+                            JournalCodec.readDecimal(in),
+                            JournalCodec.readDecimal(in),
+                            JournalCodec.readDecimal(in),
+                            JournalCodec.readDecimal(in),
+                            JournalCodec.readDecimal(in),
+                            JournalCodec.readDecimal(in)
+                    )
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package Repository.impl;
+
+import Enum.DayType;
+import Enum.SessionState;
+import Enum.TimeOfDayBand;
+import Enum.ZoneType;
+import Model.ParkingSession;
+import Model.ParkingSpot;
+import Record.UserUsageSnapshot;
+import Repository.ParkingSessionRepository;
+import Repository.ParkingZoneRepository;
+
+import java.io.*;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+
+// Durable session store: every save, delete and state change is appended to a journal on
+// local disk before the call returns, and the journal is compacted into a snapshot once it
+// grows past the configured size. Queries are answered from memory.
+public class JournaledParkingSessionRepository implements ParkingSessionRepository, Closeable {
+
+    public static final long DEFAULT_SNAPSHOT_THRESHOLD_BYTES = 64L * 1024 * 1024;
+
+    private static final byte SAVE = 1;
+    private static final byte STATE = 2;
+    private static final byte DELETE = 3;
+
+    private final ConcurrentParkingSessionRepository sessions = new ConcurrentParkingSessionRepository();
+    private final Journal journal;
+    private final long snapshotThresholdBytes;
+
+    private final Consumer<ParkingSession> stateListener = this::onStateChanged;
+
+    public JournaledParkingSessionRepository(Path directory) {
+        this(directory, DEFAULT_SNAPSHOT_THRESHOLD_BYTES, true);
+    }
+
+    public JournaledParkingSessionRepository(Path directory, long snapshotThresholdBytes, boolean fsync) {
+        if (snapshotThresholdBytes <= 0) {
+            throw new IllegalArgumentException("snapshotThresholdBytes must be > 0");
+        }
+        this.snapshotThresholdBytes = snapshotThresholdBytes;
+
+        Map<String, ParkingSession> recovered = new LinkedHashMap<>();
+        this.journal = new Journal(directory, "sessions", fsync, record -> replay(record, recovered));
+        for (ParkingSession session : recovered.values()) {
+            sessions.save(session);
+            session.addStateListener(stateListener);
+        }
+    }
+
+    // Spot state is not journaled, so zones come back with every spot FREE. Once the zones are loaded,
+    // marks the spot of every active session occupied again; returns how many spots were restored.
+    public int restoreSpotOccupancy(ParkingZoneRepository zoneRepo) {
+        Objects.requireNonNull(zoneRepo);
+        int restored = 0;
+        for (ParkingSession session : sessions.findAll()) {
+            if (!session.isActive()) continue;
+            ParkingSpot spot = zoneRepo.findSpotById(session.getSpotId());
+            if (spot != null && !spot.isOccupied()) {
+                spot.occupy();
+                restored++;
+            }
+        }
+        return restored;
+    }
+
+    @Override
+    public Optional<ParkingSession> findById(String sessionId) {
+        return sessions.findById(sessionId);
+    }
+
+    @Override
+    public Collection<ParkingSession> findAll() {
+        return sessions.findAll();
+    }
+
+    @Override
+    public List<ParkingSession> findActiveSessionsForUser(String userId) {
+        return sessions.findActiveSessionsForUser(userId);
+    }
+
+    @Override
+    public List<ParkingSession> findActiveSessionsForVehicle(String plate) {
+        return sessions.findActiveSessionsForVehicle(plate);
+    }
+
+    @Override
+    public List<ParkingSession> findActiveSessionsForZone(String zoneId) {
+        return sessions.findActiveSessionsForZone(zoneId);
+    }
+
+    @Override
+    public void save(ParkingSession session) {
+        Objects.requireNonNull(session, "session must not be null");
+        long seq;
+        synchronized (this) {
+            ParkingSession previous = sessions.findById(session.getId()).orElse(null);
+            // listen before encoding: a transition in between is journaled once we release the monitor
+            session.addStateListener(stateListener);
+            seq = journal.append(encodeSave(session));
+            sessions.save(session);
+            if (previous != null && previous != session) {
+                previous.removeStateListener(stateListener);
+            }
+            snapshotIfDue();
+        }
+        journal.awaitDurable(seq);
+    }
+
+    @Override
+    public void delete(ParkingSession session) {
+        Objects.requireNonNull(session);
+        long seq;
+        synchronized (this) {
+            ParkingSession removed = sessions.findById(session.getId()).orElse(null);
+            if (removed == null) return;
+            seq = journal.append(encodeDelete(session.getId()));
+            sessions.delete(removed);
+            removed.removeStateListener(stateListener);
+            snapshotIfDue();
+        }
+        journal.awaitDurable(seq);
+    }
+
+    @Override
+    public void addSaveListener(Consumer<ParkingSession> listener) {
+        sessions.addSaveListener(listener);
+    }
+
+    @Override
+    public void addDeleteListener(Consumer<ParkingSession> listener) {
+        sessions.addDeleteListener(listener);
+    }
+
+    @Override
+    public int getActiveSessionsCountForUser(String userId) {
+        return sessions.getActiveSessionsCountForUser(userId);
+    }
+
+    @Override
+    public int getActiveSessionsCountForVehicle(String plate) {
+        return sessions.getActiveSessionsCountForVehicle(plate);
+    }
+
+    @Override
+    public int getActiveSessionsCountForZone(String zoneId) {
+        return sessions.getActiveSessionsCountForZone(zoneId);
+    }
+
+    @Override
+    public int getSessionsCountForToday(String userId) {
+        return sessions.getSessionsCountForToday(userId);
+    }
+
+    @Override
+    public int getHoursUsedTodayForUser(String userId) {
+        return sessions.getHoursUsedTodayForUser(userId);
+    }
+
+    @Override
+    public boolean hasUnpaidSessionsForUser(String userId) {
+        return sessions.hasUnpaidSessionsForUser(userId);
+    }
+
+    @Override
+    public UserUsageSnapshot getUsageSnapshot(String userId, String plate) {
+        return sessions.getUsageSnapshot(userId, plate);
+    }
+
+    public synchronized void snapshot() {
+        List<byte[]> records = new ArrayList<>();
+        for (ParkingSession session : sessions.findAll()) {
+            records.add(encodeSave(session));
+        }
+        journal.snapshot(records);
+    }
+
+    @Override
+    public synchronized void close() {
+        journal.close();
+    }
+
+    private void onStateChanged(ParkingSession session) {
+        long seq;
+        synchronized (this) {
+            if (sessions.findById(session.getId()).orElse(null) != session) return;
+            seq = journal.append(encodeState(session));
+            snapshotIfDue();
+        }
+        journal.awaitDurable(seq);
+    }
+
+    // called with the monitor held, after the change is applied in memory
+    private void snapshotIfDue() {
+        if (journal.bytesSinceSnapshot() >= snapshotThresholdBytes) {
+            snapshot();
+        }
+    }
+
+    private static void replay(byte[] record, Map<String, ParkingSession> recovered) {
+        try (DataInputStream in = JournalCodec.reader(record)) {
+            byte type = in.readByte();
+            String id = in.readUTF();
+            switch (type) {
+                case SAVE -> {
+                    ParkingSession session = new ParkingSession(
+                            id,
+                            in.readUTF(),
+                            in.readUTF(),
+                            in.readUTF(),
+                            in.readUTF(),
+                            JournalCodec.readEnum(in, TimeOfDayBand.values()),
+                            JournalCodec.readEnum(in, DayType.values()),
+                            JournalCodec.readEnum(in, ZoneType.values()),
+                            JournalCodec.readTime(in)
+                    );
+                    restoreState(session, in);
+                    recovered.put(id, session);
+                }
+                case STATE -> {
+                    ParkingSession session = recovered.get(id);
+                    if (session != null) {
+                        restoreState(session, in);
+                    }
+                }
+                case DELETE -> recovered.remove(id);
+                default -> throw new IllegalStateException("Unknown session journal record type " + type);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void restoreState(ParkingSession session, DataInputStream in) throws IOException {
+        SessionState state = JournalCodec.readEnum(in, SessionState.values());
+        LocalDateTime endTime = JournalCodec.readTime(in);
+        if (endTime != null) {
+            session.close(endTime);
+        }
+        session.setState(state);
+    }
+
+    private static byte[] encodeSave(ParkingSession session) {
+        return encode(out -> {
+            out.writeByte(SAVE);
+            out.writeUTF(session.getId());
+            out.writeUTF(session.getUserId());
+            out.writeUTF(session.getVehiclePlate());
+            out.writeUTF(session.getZoneId());
+            out.writeUTF(session.getSpotId());
+            JournalCodec.writeEnum(out, session.getTimeOfDayBand());
+            JournalCodec.writeEnum(out, session.getDayType());
+            JournalCodec.writeEnum(out, session.getZoneType());
+            JournalCodec.writeTime(out, session.getStartTime());
+            writeState(out, session);
+        });
+    }
+
+    private static byte[] encodeState(ParkingSession session) {
+        return encode(out -> {
+            out.writeByte(STATE);
+            out.writeUTF(session.getId());
+            writeState(out, session);
+        });
+    }
+
+    private static byte[] encodeDelete(String id) {
+        return encode(out -> {
+            out.writeByte(DELETE);
+            out.writeUTF(id);
+        });
+    }
+
+    private static void writeState(DataOutputStream out, ParkingSession session) throws IOException {
+        // a transition racing with this read appends its own STATE record afterwards
+        JournalCodec.writeEnum(out, session.getState());
+        JournalCodec.writeTime(out, session.getEndTime());
+    }
+
+    private static byte[] encode(RecordWriter writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
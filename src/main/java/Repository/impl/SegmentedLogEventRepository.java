@@ -0,0 +1,180 @@
+package Repository.impl;
+
+import Model.LogEvent;
+import Repository.LogEventRepository;
+import Settings.Settings;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Log events partitioned into one segment per hour. Each segment records its min/max timestamp
+// and keeps its events per type, so a query only opens the segments overlapping its range and
+// only reads the column of the type it asks for. Retention is measured back from the newest
+// event seen and drops whole segments at once.
+public class SegmentedLogEventRepository implements LogEventRepository {
+
+    private final Duration retention;
+    private final ConcurrentSkipListMap<LocalDateTime, Segment> segments = new ConcurrentSkipListMap<>();
+    private final AtomicReference<LocalDateTime> newestHour = new AtomicReference<>();
+    private final AtomicLong count = new AtomicLong();
+
+    public SegmentedLogEventRepository() {
+        this(Settings.EVENT_STORE_RETENTION);
+    }
+
+    public SegmentedLogEventRepository(Duration retention) {
+        Objects.requireNonNull(retention, "retention must not be null");
+        if (retention.compareTo(Duration.ofHours(1)) < 0) {
+            throw new IllegalArgumentException("retention must be at least one hour");
+        }
+        this.retention = retention;
+    }
+
+    @Override
+    public void save(LogEvent event) {
+        Objects.requireNonNull(event, "event must not be null");
+        LocalDateTime hour = event.getTimestamp().truncatedTo(ChronoUnit.HOURS);
+
+        Segment segment = segments.get(hour);
+        if (segment == null) {
+            LocalDateTime newest = newestHour.get();
+            if (newest != null && !hour.isAfter(newest.minus(retention))) {
+                return; // already past retention
+            }
+            Segment created = new Segment();
+            segment = segments.putIfAbsent(hour, created);
+            if (segment == null) {
+                segment = created;
+                if (hour.equals(newestHour.accumulateAndGet(hour, SegmentedLogEventRepository::later))) {
+                    dropSegmentsBefore(hour.plusHours(1).minus(retention));
+                }
+            }
+        }
+
+        synchronized (segment) {
+            // a segment dropped by retention while this event was on its way stays dropped
+            if (segment.dropped) return;
+            segment.add(event);
+        }
+        count.incrementAndGet();
+    }
+
+    @Override
+    public List<LogEvent> findBetween(LocalDateTime from, LocalDateTime to) {
+        return find(null, from, to);
+    }
+
+    @Override
+    public List<LogEvent> findByTypeBetween(String type, LocalDateTime from, LocalDateTime to) {
+        return find(Objects.requireNonNull(type, "type must not be null"), from, to);
+    }
+
+    @Override
+    public long count() {
+        return count.get();
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    // Drops every segment that ends at or before the cutoff; returns how many were dropped.
+    public int dropSegmentsBefore(LocalDateTime cutoff) {
+        Objects.requireNonNull(cutoff, "cutoff must not be null");
+        int dropped = 0;
+        var expired = segments.headMap(cutoff.minusHours(1), true);
+        for (var entry : expired.entrySet()) {
+            Segment segment = entry.getValue();
+            if (!segments.remove(entry.getKey(), segment)) continue;
+            synchronized (segment) {
+                segment.dropped = true;
+                count.addAndGet(-segment.all.size);
+            }
+            dropped++;
+        }
+        return dropped;
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        return a == null || b.isAfter(a) ? b : a;
+    }
+
+    private List<LogEvent> find(String type, LocalDateTime from, LocalDateTime to) {
+        Objects.requireNonNull(from, "from must not be null");
+        Objects.requireNonNull(to, "to must not be null");
+        List<LogEvent> result = new ArrayList<>();
+        if (!from.isBefore(to)) return result;
+
+        for (Segment segment : segments.subMap(from.truncatedTo(ChronoUnit.HOURS), true, to, false).values()) {
+            synchronized (segment) {
+                if (segment.dropped || segment.min == null || segment.max.isBefore(from) || !segment.min.isBefore(to)) continue;
+                Column column = type == null ? segment.all : segment.byType.get(type);
+                if (column != null) column.collect(from, to, result);
+            }
+        }
+        return result;
+    }
+
+    private static final class Segment {
+        private final Column all = new Column();
+        private final Map<String, Column> byType = new HashMap<>();
+        private LocalDateTime min;
+        private LocalDateTime max;
+        private boolean dropped;
+
+        private void add(LogEvent event) {
+            LocalDateTime timestamp = event.getTimestamp();
+            if (min == null || timestamp.isBefore(min)) min = timestamp;
+            if (max == null || timestamp.isAfter(max)) max = timestamp;
+            all.add(event);
+            byType.computeIfAbsent(event.getType(), t -> new Column()).add(event);
+        }
+    }
+
+    // Events of one segment in timestamp order; late arrivals are sorted in on the next read.
+    private static final class Column {
+        private LogEvent[] events = new LogEvent[16];
+        private int size;
+        private boolean sorted = true;
+
+        private void add(LogEvent event) {
+            if (size == events.length) {
+                events = Arrays.copyOf(events, size * 2);
+            }
+            if (size > 0 && events[size - 1].getTimestamp().isAfter(event.getTimestamp())) {
+                sorted = false;
+            }
+            events[size++] = event;
+        }
+
+        private void collect(LocalDateTime from, LocalDateTime to, List<LogEvent> out) {
+            if (!sorted) {
+                // stable, so events with equal timestamps keep their arrival order
+                Arrays.sort(events, 0, size, Comparator.comparing(LogEvent::getTimestamp));
+                sorted = true;
+            }
+            for (int i = lowerBound(from); i < size && events[i].getTimestamp().isBefore(to); i++) {
+                out.add(events[i]);
+            }
+        }
+
+        private int lowerBound(LocalDateTime timestamp) {
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (events[mid].getTimestamp().isBefore(timestamp)) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package Service;
 
+import java.util.Map;
+
 public interface ZoneOccupancyService {
     double calculateOccupancyRatioForZone(String zoneId);
-}
\ No newline at end of file
+
+    // rebuilds the live counters from the repositories; returns counter - actual per drifted zone
+    Map<String, Integer> reconcileOccupancyCounters();
+}
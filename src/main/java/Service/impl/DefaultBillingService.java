@@ -1,5 +1,6 @@
 package Service.impl;
 
+import Events.BillingEvent;
 import Model.*;
 import Service.*;
 import Enum.*;
@@ -40,47 +41,70 @@ public class DefaultBillingService implements BillingService {
                                        BigDecimal maxPriceCap,
                                        BigDecimal taxRate) {
 
-        //duration
-        DurationInfo durationInfo = durationCalculator.calculateDuration(entryTime, exitTime, maxDurationHours);
-        int durationHours = durationInfo.hours();
+        BillingEvent event = new BillingEvent();
+        event.begin();
+        String outcome = null;
+        int billedHours = 0;
+        BigDecimal finalPrice = null;
+        try {
+            //duration
+            DurationInfo durationInfo = durationCalculator.calculateDuration(entryTime, exitTime, maxDurationHours);
+            int durationHours = durationInfo.hours();
+            billedHours = durationHours;
 
-        //base price
-        BigDecimal basePrice = pricingService.calculateBasePrice(
-                durationHours,
-                dayType,
-                timeOfDayBand,
-                occupancyRatio,
-                tariff,
-                dynamicConfig
-        );
+            //base price
+            BigDecimal basePrice = pricingService.calculateBasePrice(
+                    durationHours,
+                    dayType,
+                    timeOfDayBand,
+                    occupancyRatio,
+                    tariff,
+                    dynamicConfig
+            );
 
-        //discounts and caps
-        BigDecimal netPrice = discountAndCapService.applyDiscountAndCaps(
-                basePrice,
-                discountInfo,
-                penalties
-        );
+            //discounts and caps
+            BigDecimal netPrice = discountAndCapService.applyDiscountAndCaps(
+                    basePrice,
+                    discountInfo,
+                    penalties
+            );
 
-        //compute total discount
-        BigDecimal basePlusPenalties = basePrice.add(penalties);
-        BigDecimal discountsTotal = basePlusPenalties.subtract(netPrice);
-        if (discountsTotal.signum() < 0) {
-            discountsTotal = BigDecimal.ZERO;
-        }
+            //compute total discount
+            BigDecimal basePlusPenalties = basePrice.add(penalties);
+            BigDecimal discountsTotal = basePlusPenalties.subtract(netPrice);
+            if (discountsTotal.signum() < 0) {
+                discountsTotal = BigDecimal.ZERO;
+            }
 
-        //VAT/tax
-        BigDecimal taxAmount = taxService.calculateTax(netPrice, taxRate);
-        BigDecimal grossPrice = netPrice.add(taxAmount);
+            //VAT/tax
+            BigDecimal taxAmount = taxService.calculateTax(netPrice, taxRate);
+            BigDecimal grossPrice = netPrice.add(taxAmount);
 
 
-        return new BillingResult(
-                basePrice,
-                discountsTotal,
-                penalties,
-                netPrice,
-                taxAmount,
-                grossPrice
-        );
+            BillingResult result = new BillingResult(
+                    basePrice,
+                    discountsTotal,
+                    penalties,
+                    netPrice,
+                    taxAmount,
+                    grossPrice
+            );
+            outcome = "BILLED";
+            finalPrice = result.getFinalPrice();
+            return result;
+        } catch (RuntimeException e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.zoneType = String.valueOf(zoneType);
+                event.billedHours = billedHours;
+                event.totalAmount = finalPrice == null ? 0 : finalPrice.doubleValue();
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
 
     }
 
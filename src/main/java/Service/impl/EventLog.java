@@ -0,0 +1,298 @@
+package Service.impl;
+
+import Enum.BackPressurePolicy;
+import Model.LogEvent;
+import Settings.Settings;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Bounded ring buffer of log events. With a directory, a single background writer takes the
+// unwritten events in batches and appends them to rolling files; while the ring is full of
+// unwritten events the back-pressure policy decides what happens to a new one. Without a
+// directory (or other sink) the log is memory-only: no writer thread runs, flush() returns at
+// once and the ring simply keeps the most recent events until they are overwritten.
+//
+// size()/get() read the most recent events still held in the ring, oldest first. After close()
+// new events are refused and counted as dropped, with or without a sink.
+public class EventLog implements Closeable {
+
+    private final LogEvent[] slots;
+    private final int mask;
+    private final int batchSize;
+    private final BackPressurePolicy policy;
+    private final Sink sink;
+    private final long flushIntervalNanos;
+    private final Thread writer;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Condition progress = lock.newCondition();
+
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+
+    // guarded by lock; sequences count admitted events from 0
+    private long written;
+    private long taken;      // handed to the writer or evicted
+    private long done;       // written out or evicted
+    private long sampleCounter;
+    private boolean flushRequested;
+    private boolean closed;
+
+    public EventLog(int capacity) {
+        this(capacity, BackPressurePolicy.DROP, (Sink) null);
+    }
+
+    public EventLog(int capacity, BackPressurePolicy policy, Path directory) {
+        this(capacity, policy, directory, Settings.EVENT_LOG_MAX_FILE_BYTES, Settings.EVENT_LOG_MAX_FILES);
+    }
+
+    public EventLog(int capacity, BackPressurePolicy policy, Path directory, long maxFileBytes, int maxFiles) {
+        this(capacity, policy, new RollingEventFile(
+                Objects.requireNonNull(directory, "directory must not be null"), maxFileBytes, maxFiles));
+    }
+
+    // Where the writer puts each batch; a null sink keeps the events in memory only.
+    public interface Sink extends Closeable {
+        void write(List<LogEvent> batch) throws IOException;
+    }
+
+    public EventLog(int capacity, BackPressurePolicy policy, Sink sink) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) size <<= 1;
+        this.slots = new LogEvent[size];
+        this.mask = size - 1;
+        this.batchSize = Math.max(1, size / 4);
+        this.policy = Objects.requireNonNull(policy, "policy must not be null");
+        this.flushIntervalNanos = Settings.EVENT_LOG_FLUSH_INTERVAL.toNanos();
+
+        this.sink = sink;
+        if (sink == null) {
+            this.writer = null;
+        } else {
+            this.writer = new Thread(this::runWriter, "event-log-writer");
+            this.writer.setDaemon(true);
+            this.writer.start();
+        }
+    }
+
+    public boolean offer(LogEvent event) {
+        if (event == null) return false;
+        lock.lock();
+        try {
+            if (closed || (sink != null && !makeRoom())) {
+                dropped.increment();
+                return false;
+            }
+            slots[(int) (written & mask)] = event;
+            written++;
+            // wake an idle writer on the first pending event; it then waits up to the flush
+            // interval for a full batch, and a full batch ends that wait early
+            long pendingEvents = written - taken;
+            if (sink != null && (pendingEvents == 1 || pendingEvents >= batchSize)) {
+                notEmpty.signal();
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Waits until every event admitted before the call has been written out or dropped.
+    public void flush() {
+        if (writer == null) return;
+        lock.lock();
+        try {
+            long target = written;
+            flushRequested = true;
+            notEmpty.signal();
+            while (done < target && writer.isAlive()) {
+                progress.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return (int) Math.min(written, slots.length);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public LogEvent get(int index) {
+        lock.lock();
+        try {
+            int size = (int) Math.min(written, slots.length);
+            Objects.checkIndex(index, size);
+            return slots[(int) ((written - size + index) & mask)];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<LogEvent> snapshot() {
+        lock.lock();
+        try {
+            int size = (int) Math.min(written, slots.length);
+            List<LogEvent> events = new ArrayList<>(size);
+            for (long seq = written - size; seq < written; seq++) {
+                events.add(slots[(int) (seq & mask)]);
+            }
+            return events;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    public BackPressurePolicy getPolicy() {
+        return policy;
+    }
+
+    // Events refused after close or because the ring was full, evicted, or lost to a failed write.
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getFlushedCount() {
+        return flushed.sum();
+    }
+
+    public int getPendingCount() {
+        lock.lock();
+        try {
+            return (int) (written - taken);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) return;
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (writer == null) return;
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        try {
+            sink.close();
+        } catch (IOException ignored) {
+            // the writer already flushed every batch it wrote
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    // Called with the lock held; false means the new event is dropped.
+    private boolean makeRoom() {
+        while (written - taken == slots.length) {
+            if (closed) return false;
+            switch (policy) {
+                case DROP -> {
+                    return false;
+                }
+                case SAMPLE -> {
+                    if (++sampleCounter % Settings.EVENT_LOG_SAMPLE_EVERY != 0) return false;
+                    // the new event overwrites the oldest unwritten one
+                    taken++;
+                    dropped.increment();
+                }
+                case BLOCK -> {
+                    notEmpty.signal();
+                    notFull.awaitUninterruptibly();
+                }
+            }
+        }
+        return !closed;
+    }
+
+    private void runWriter() {
+        List<LogEvent> batch = new ArrayList<>(slots.length);
+        while (true) {
+            long end;
+            lock.lock();
+            try {
+                while (written == taken && !closed) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (written - taken < batchSize && !closed && !flushRequested) {
+                    // give a few more events the chance to join this batch
+                    awaitNanos(notEmpty, flushIntervalNanos);
+                }
+                if (written == taken && closed) {
+                    done = written;
+                    progress.signalAll();
+                    return;
+                }
+                for (long seq = taken; seq < written; seq++) {
+                    batch.add(slots[(int) (seq & mask)]);
+                }
+                taken = written;
+                end = written;
+                flushRequested = false;
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                sink.write(batch);
+                flushed.add(batch.size());
+            } catch (IOException | RuntimeException e) {
+                dropped.add(batch.size());
+            }
+            batch.clear();
+
+            lock.lock();
+            try {
+                done = end;
+                progress.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static void awaitNanos(Condition condition, long nanos) {
+        try {
+            condition.awaitNanos(nanos);
+        } catch (InterruptedException e) {
+            // keep writing; close() is how the writer is stopped
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package Service.impl;
 
+import Events.ExitAuthorizationEvent;
 import Service.ExitAuthorizationService;
 import Model.*;
 import Enum.*;
@@ -8,7 +9,32 @@ public class ExitAuthorizationServiceImpl implements ExitAuthorizationService {
 
     @Override
     public ExitDecision authorizeExit(User user, ParkingSession session, String plate) {
+        ExitAuthorizationEvent event = new ExitAuthorizationEvent();
+        event.begin();
+        ExitDecision decision = null;
+        String failure = null;
+        try {
+            decision = decide(user, session, plate);
+            return decision;
+        } catch (RuntimeException e) {
+            failure = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                if (session != null) {
+                    event.sessionId = session.getId();
+                    event.zoneId = session.getZoneId();
+                    event.zoneType = String.valueOf(session.getZoneType());
+                }
+                event.outcome = failure != null ? failure
+                        : decision.isAllowed() ? "ALLOWED" : String.valueOf(decision.getReason());
+                event.commit();
+            }
+        }
+    }
 
+    private ExitDecision decide(User user, ParkingSession session, String plate) {
         if (user.getStatus() != UserStatus.ACTIVE)
             return ExitDecision.deny(ExitFailureReason.USER_INACTIVE);
 
@@ -0,0 +1,320 @@
+package Service.impl;
+
+import Enum.DayType;
+import Events.BillingEvent;
+import Enum.TimeOfDayBand;
+import Enum.ZoneType;
+import Model.BillingResult;
+import Model.DiscountInfo;
+import Model.DynamicPricingConfig;
+import Model.Tariff;
+import Record.DurationInfo;
+import Record.Money;
+import Service.BillingService;
+import Service.DurationCalculator;
+import Settings.Settings;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// Billing engine that runs the DefaultBillingService pipeline on primitive longs:
+// amounts are cents and multipliers/percentages are basis points (1.0 = 10_000).
+// Intermediates keep the exact value and are rounded HALF_UP at the same steps as the
+// BigDecimal services. Inputs that do not fit that representation (or would overflow)
+// are handed to the fallback service, so results always match the BigDecimal path.
+public class FixedPointBillingService implements BillingService {
+
+    private static final long BP = 10_000L; // basis points per 1.0
+    private static final long ROUNDING_NECESSARY = -1L; // prices are never negative
+    private static final long MAX_PRICE_CENTS =
+            Settings.getMaxPriceCapacity().movePointRight(2).longValueExact();
+
+    private final DurationCalculator durationCalculator;
+    private final BillingService fallback;
+
+    // single-entry caches: the same tariff/config/discount objects are reused across bills
+    private volatile PreparedTariff lastTariff;
+    private volatile PreparedConfig lastConfig;
+    private volatile PreparedDiscount lastDiscount;
+    private volatile PreparedRate lastTaxRate;
+
+    public FixedPointBillingService(DurationCalculator durationCalculator, BillingService fallback) {
+        this.durationCalculator = Objects.requireNonNull(durationCalculator, "durationCalculator must not be null");
+        this.fallback = Objects.requireNonNull(fallback, "fallback must not be null");
+    }
+
+    @Override
+    public BillingResult calculateBill(LocalDateTime entryTime,
+                                       LocalDateTime exitTime,
+                                       ZoneType zoneType,
+                                       DayType dayType,
+                                       TimeOfDayBand timeOfDayBand,
+                                       double occupancyRatio,
+                                       Tariff tariff,
+                                       DynamicPricingConfig dynamicConfig,
+                                       DiscountInfo discountInfo,
+                                       BigDecimal penalties,
+                                       int maxDurationHours,
+                                       BigDecimal maxPriceCap,
+                                       BigDecimal taxRate) {
+
+        if (dayType == null || timeOfDayBand == null || tariff == null || dynamicConfig == null
+                || discountInfo == null || penalties == null || taxRate == null
+                || occupancyRatio < 0.0 || occupancyRatio > 1.0
+                || penalties.signum() < 0 || taxRate.signum() < 0 || taxRate.compareTo(BigDecimal.ONE) > 0) {
+            // let the reference pipeline raise its usual validation errors
+            return fallbackBill(entryTime, exitTime, zoneType, dayType, timeOfDayBand, occupancyRatio, tariff,
+                    dynamicConfig, discountInfo, penalties, maxDurationHours, maxPriceCap, taxRate);
+        }
+
+        BillingEvent event = new BillingEvent();
+        event.begin();
+        BillingResult result = null;
+        String outcome = null;
+        int billedHours = 0;
+        try {
+            DurationInfo durationInfo = durationCalculator.calculateDuration(entryTime, exitTime, maxDurationHours);
+            billedHours = durationInfo.hours();
+            result = fixedPointBill(durationInfo.hours(), dayType, timeOfDayBand, occupancyRatio, tariff,
+                    dynamicConfig, discountInfo, penalties, taxRate);
+            outcome = result == null ? null : "BILLED";
+        } catch (RuntimeException e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            // a bill handed to the fallback is recorded there
+            if (outcome != null && event.shouldCommit()) {
+                event.zoneType = String.valueOf(zoneType);
+                event.billedHours = billedHours;
+                event.totalAmount = result == null ? 0 : result.getFinalPrice().doubleValue();
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+
+        if (result != null) {
+            return result;
+        }
+        return fallbackBill(entryTime, exitTime, zoneType, dayType, timeOfDayBand, occupancyRatio, tariff,
+                dynamicConfig, discountInfo, penalties, maxDurationHours, maxPriceCap, taxRate);
+    }
+
+    @Override
+    public DurationInfo calculateDuration(LocalDateTime entryTime,
+                                          LocalDateTime exitTime,
+                                          int maxDurationHours) {
+        return durationCalculator.calculateDuration(entryTime, exitTime, maxDurationHours);
+    }
+
+    // null when the inputs do not fit in cents/basis points or an intermediate would overflow
+    private BillingResult fixedPointBill(int durationHours,
+                                         DayType dayType,
+                                         TimeOfDayBand timeOfDayBand,
+                                         double occupancyRatio,
+                                         Tariff tariff,
+                                         DynamicPricingConfig dynamicConfig,
+                                         DiscountInfo discountInfo,
+                                         BigDecimal penalties,
+                                         BigDecimal taxRate) {
+        PreparedTariff t = prepare(tariff);
+        PreparedConfig c = prepare(dynamicConfig);
+        PreparedDiscount d = prepare(discountInfo);
+        PreparedRate tax = prepare(taxRate);
+        long penaltiesCents = toCents(penalties);
+
+        if (t == null || c == null || d == null || tax == null || penaltiesCents < 0) {
+            return null;
+        }
+
+        long base;
+        try {
+            base = basePriceCents(durationHours, dayType, timeOfDayBand, occupancyRatio, t, c);
+        } catch (ArithmeticException overflow) {
+            return null;
+        }
+        if (base == ROUNDING_NECESSARY) {
+            // same failure DefaultPricingService raises from setScale(2) on a fractional surge price
+            throw new ArithmeticException("Rounding necessary");
+        }
+
+        try {
+            long net = netPriceCents(base, penaltiesCents, d);
+            long discounts = Math.max(0L, Math.addExact(base, penaltiesCents) - net);
+            long taxAmount = halfUp(Math.multiplyExact(Math.min(net, MAX_PRICE_CENTS), tax.bp), BP);
+            long gross = Math.addExact(net, taxAmount);
+
+            return new BillingResult(
+                    Money.ofMinorUnits(base).amount(),
+                    Money.ofMinorUnits(discounts).amount(),
+                    penalties,
+                    Money.ofMinorUnits(net).amount(),
+                    Money.ofMinorUnits(taxAmount).amount(),
+                    Money.ofMinorUnits(gross).amount()
+            );
+        } catch (ArithmeticException overflow) {
+            return null;
+        }
+    }
+
+    // mirrors DefaultPricingService.calculateBasePrice; ROUNDING_NECESSARY where it would throw
+    private static long basePriceCents(int durationHours,
+                                       DayType dayType,
+                                       TimeOfDayBand band,
+                                       double occupancyRatio,
+                                       PreparedTariff t,
+                                       PreparedConfig c) {
+        if (durationHours == 0) {
+            return 0L;
+        }
+
+        // exact price in cents x basis points
+        long price = Math.multiplyExact(Math.multiplyExact(t.hourlyCents, durationHours), BP);
+
+        if (band == TimeOfDayBand.PEAK) {
+            price = Math.multiplyExact(price / BP, c.peakBp);
+        }
+
+        if (occupancyRatio >= c.highOccupancyThreshold) {
+            // BigDecimal path uses setScale(2) without rounding, so the result must be whole cents
+            long scaled = Math.multiplyExact(price, c.surgeBp);
+            if (scaled % (BP * BP) != 0) {
+                return ROUNDING_NECESSARY;
+            }
+            price = scaled / BP;
+        }
+
+        long cents;
+        if ((dayType == DayType.WEEKEND || dayType == DayType.HOLIDAY) && t.surchargeFactorBp > BP) {
+            cents = halfUp(Math.multiplyExact(price, t.surchargeFactorBp), BP * BP);
+        } else {
+            cents = halfUp(price, BP);
+        }
+
+        if (t.dailyCapCents > 0) {
+            long cap = Math.multiplyExact(t.dailyCapCents, (long) Math.ceil(durationHours / 24.0));
+            cents = Math.min(cents, cap);
+        }
+        return cents;
+    }
+
+    // mirrors DefaultDiscountAndCapService.applyDiscountAndCaps
+    private static long netPriceCents(long baseCents, long penaltiesCents, PreparedDiscount d) {
+        // cents x 10^8 holds both percentage discounts exactly
+        long amount = Math.multiplyExact(Math.addExact(baseCents, penaltiesCents), BP * BP);
+
+        if (d.subscriptionBp > 0) {
+            amount = Math.multiplyExact(amount / BP, BP - d.subscriptionBp);
+        }
+        if (d.promoBp > 0) {
+            amount = Math.multiplyExact(amount / BP, BP - d.promoBp);
+        }
+        if (d.promoFixedCents > 0) {
+            amount = amount - Math.multiplyExact(d.promoFixedCents, BP * BP);
+        }
+        if (amount < 0) {
+            amount = 0;
+        }
+        long cap = Math.multiplyExact(MAX_PRICE_CENTS, BP * BP);
+        if (amount > cap) {
+            amount = cap;
+        }
+        return halfUp(amount, BP * BP);
+    }
+
+    private static long halfUp(long value, long divisor) {
+        return Math.addExact(value, divisor / 2) / divisor;
+    }
+
+    private BillingResult fallbackBill(LocalDateTime entryTime, LocalDateTime exitTime, ZoneType zoneType,
+                                       DayType dayType, TimeOfDayBand timeOfDayBand, double occupancyRatio,
+                                       Tariff tariff, DynamicPricingConfig dynamicConfig, DiscountInfo discountInfo,
+                                       BigDecimal penalties, int maxDurationHours, BigDecimal maxPriceCap,
+                                       BigDecimal taxRate) {
+        return fallback.calculateBill(entryTime, exitTime, zoneType, dayType, timeOfDayBand, occupancyRatio,
+                tariff, dynamicConfig, discountInfo, penalties, maxDurationHours, maxPriceCap, taxRate);
+    }
+
+    private PreparedTariff prepare(Tariff tariff) {
+        PreparedTariff cached = lastTariff;
+        if (cached != null && cached.source == tariff) return cached;
+
+        long hourly = toCents(tariff.getBaseHourlyRate());
+        long cap = tariff.getDailyCap() == null ? 0L : toCents(tariff.getDailyCap());
+        BigDecimal surcharge = tariff.getWeekendOrHolidaySurchargePercent();
+        // percent of 100 -> factor in basis points: 1 + s/100
+        long factor = (surcharge == null || surcharge.signum() <= 0) ? BP : toScaled(surcharge, 2);
+        if (hourly < 0 || cap < 0 || factor < 0) return null;
+        if (surcharge != null && surcharge.signum() > 0) {
+            factor = BP + factor;
+        }
+
+        PreparedTariff prepared = new PreparedTariff(tariff, hourly, cap, factor);
+        lastTariff = prepared;
+        return prepared;
+    }
+
+    private PreparedConfig prepare(DynamicPricingConfig config) {
+        PreparedConfig cached = lastConfig;
+        if (cached != null && cached.source == config) return cached;
+
+        long peak = toScaled(BigDecimal.valueOf(config.getPeakHourMultiplier()), 4);
+        long surge = toScaled(BigDecimal.valueOf(config.getHighOccupancyMultiplier()), 4);
+        if (peak < 0 || surge < 0) return null;
+
+        PreparedConfig prepared = new PreparedConfig(config, peak, surge, config.getHighOccupancyThreshold());
+        lastConfig = prepared;
+        return prepared;
+    }
+
+    private PreparedDiscount prepare(DiscountInfo info) {
+        PreparedDiscount cached = lastDiscount;
+        if (cached != null && cached.source == info) return cached;
+
+        long subscription = toScaled(info.getSubscriptionDiscountPercent(), 4);
+        long promo = toScaled(info.getPromoDiscountPercent(), 4);
+        long fixed = toCents(info.getPromoDiscountFixed());
+        if (subscription < 0 || promo < 0 || fixed < 0) return null;
+
+        PreparedDiscount prepared = new PreparedDiscount(info, subscription, promo, fixed);
+        lastDiscount = prepared;
+        return prepared;
+    }
+
+    private PreparedRate prepare(BigDecimal taxRate) {
+        PreparedRate cached = lastTaxRate;
+        if (cached != null && cached.source == taxRate) return cached;
+
+        long bp = toScaled(taxRate, 4);
+        if (bp < 0) return null;
+
+        PreparedRate prepared = new PreparedRate(taxRate, bp);
+        lastTaxRate = prepared;
+        return prepared;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return toScaled(amount, 2);
+    }
+
+    // value x 10^places as an exact long, or -1 if it has more decimals, is negative or too large
+    private static long toScaled(BigDecimal value, int places) {
+        if (value.signum() < 0) return -1L;
+        try {
+            return value.movePointRight(places).longValueExact();
+        } catch (ArithmeticException notRepresentable) {
+            return -1L;
+        }
+    }
+
+    private record PreparedTariff(Tariff source, long hourlyCents, long dailyCapCents, long surchargeFactorBp) { }
+
+    private record PreparedConfig(DynamicPricingConfig source, long peakBp, long surgeBp,
+                                  double highOccupancyThreshold) { }
+
+    private record PreparedDiscount(DiscountInfo source, long subscriptionBp, long promoBp,
+                                    long promoFixedCents) { }
+
+    private record PreparedRate(BigDecimal source, long bp) { }
+}
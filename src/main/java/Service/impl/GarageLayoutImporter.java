@@ -0,0 +1,286 @@
+package Service.impl;
+
+import Dto.Zone.LayoutImportErrorDto;
+import Dto.Zone.LayoutImportResultDto;
+import Enum.ZoneType;
+import Model.ParkingSpot;
+import Model.ParkingZone;
+import Repository.ParkingZoneRepository;
+import Settings.Settings;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+// Loads a whole garage layout into a ParkingZoneRepository in one pass. A bad line or record is
+// reported and skipped; the rest of the file is still imported.
+//
+// CSV: one row per spot, "zoneId,zoneType,maxOccupancyThreshold,spotId". A row with an empty
+// spotId declares a zone without spots. Blank lines, "#" comments and a leading header row are
+// skipped. Rows of the same zone may appear anywhere but must agree on type and threshold.
+//
+// Binary (see writeBinary): magic, version, zone count, then per zone its id, type ordinal,
+// threshold, spot count and spot ids. Counts come first, so collections are sized up front, up to
+// Settings.LAYOUT_IMPORT_MAX_PRESIZED_SPOTS. A negative count, or a zone claiming more spots than
+// the header has left, means the stream is corrupt: it is reported and reading stops there.
+//
+// New zones are built in full and saved once at the end. Spots for a zone that is already in the
+// repository are added to it directly, if its type and threshold match.
+public class GarageLayoutImporter {
+
+    static final int BINARY_MAGIC = 0x504B4C59;   // "PKLY"
+    static final short BINARY_VERSION = 1;
+    private static final ZoneType[] ZONE_TYPES = ZoneType.values();
+
+    private final ParkingZoneRepository zoneRepository;
+
+    public GarageLayoutImporter(ParkingZoneRepository zoneRepository) {
+        this.zoneRepository = Objects.requireNonNull(zoneRepository, "zoneRepository must not be null");
+    }
+
+    // Picks the format by extension: ".csv" is CSV, anything else is binary.
+    public LayoutImportResultDto importFile(Path file) {
+        Objects.requireNonNull(file, "file must not be null");
+        try {
+            if (file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv")) {
+                // about 24 bytes per row, enough to size the duplicate set without rehashing
+                int expectedSpots = (int) Math.min(Integer.MAX_VALUE / 2, Files.size(file) / 24);
+                try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    return importCsv(reader, expectedSpots);
+                }
+            }
+            try (InputStream in = Files.newInputStream(file)) {
+                return importBinary(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read garage layout " + file, e);
+        }
+    }
+
+    public LayoutImportResultDto importCsv(Reader reader) {
+        return importCsv(reader, 1024);
+    }
+
+    private LayoutImportResultDto importCsv(Reader reader, int expectedSpots) {
+        Objects.requireNonNull(reader, "reader must not be null");
+        Batch batch = new Batch(expectedSpots);
+        BufferedReader lines = reader instanceof BufferedReader b ? b : new BufferedReader(reader, 64 * 1024);
+        String[] fields = new String[4];
+        long lineNo = 0;
+        boolean firstRow = true;
+        try {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                lineNo++;
+                String trimmed = line.strip();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) continue;
+                int fieldCount = split(trimmed, fields);
+                if (firstRow) {
+                    firstRow = false;
+                    if (fields[0].equalsIgnoreCase("zoneId")) continue;
+                }
+                if (fieldCount != 4) {
+                    batch.error(lineNo, "expected 4 fields: zoneId,zoneType,maxOccupancyThreshold,spotId");
+                    continue;
+                }
+
+                ZoneType type = parseZoneType(fields[1]);
+                if (type == null) {
+                    batch.error(lineNo, "unknown zone type '" + fields[1] + "'");
+                    continue;
+                }
+                double threshold;
+                try {
+                    threshold = Double.parseDouble(fields[2]);
+                } catch (NumberFormatException e) {
+                    batch.error(lineNo, "threshold '" + fields[2] + "' is not a number");
+                    continue;
+                }
+
+                ParkingZone zone = batch.zone(lineNo, fields[0], type, threshold);
+                if (zone != null && !fields[3].isEmpty()) {
+                    batch.addSpot(lineNo, zone, fields[3]);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read garage layout at line " + (lineNo + 1), e);
+        }
+        return batch.finish();
+    }
+
+    public LayoutImportResultDto importBinary(InputStream input) {
+        Objects.requireNonNull(input, "input must not be null");
+        DataInputStream in = new DataInputStream(new BufferedInputStream(input, 64 * 1024));
+        Batch batch = null;
+        long record = 0;
+        try {
+            if (in.readInt() != BINARY_MAGIC) {
+                throw new IOException("not a garage layout file");
+            }
+            short version = in.readShort();
+            if (version != BINARY_VERSION) {
+                throw new IOException("unsupported layout version " + version);
+            }
+            int zoneCount = in.readInt();
+            int spotCount = in.readInt();
+            if (zoneCount < 0 || spotCount < 0) {
+                throw new IOException("negative zone or spot count in header");
+            }
+            batch = new Batch(Math.min(spotCount, Settings.LAYOUT_IMPORT_MAX_PRESIZED_SPOTS));
+
+            long spotsLeft = spotCount;
+            for (int z = 0; z < zoneCount; z++) {
+                record++;
+                String zoneId = in.readUTF();
+                int ordinal = in.readUnsignedByte();
+                double threshold = in.readDouble();
+                int spots = in.readInt();
+                if (spots < 0 || spots > spotsLeft) {
+                    throw new IOException("zone " + zoneId + " claims " + spots + " spots, "
+                            + spotsLeft + " left in the layout");
+                }
+                spotsLeft -= spots;
+
+                ParkingZone zone = null;
+                if (ordinal >= ZONE_TYPES.length) {
+                    batch.error(record, "unknown zone type ordinal " + ordinal);
+                } else {
+                    zone = batch.zone(record, zoneId, ZONE_TYPES[ordinal], threshold);
+                }
+                if (zone != null) {
+                    int presized = Math.min(spots, Settings.LAYOUT_IMPORT_MAX_PRESIZED_SPOTS);
+                    zone.ensureSpotCapacity(zone.getTotalSpots() + presized);
+                }
+                for (int s = 0; s < spots; s++) {
+                    record++;
+                    String spotId = in.readUTF();
+                    if (zone != null) {
+                        batch.addSpot(record, zone, spotId);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // a truncated or corrupt stream cannot be resynchronised; keep what was read so far
+            if (batch == null) batch = new Batch(0);
+            batch.error(record, "unreadable record: " + (e instanceof EOFException ? "unexpected end of file" : e.getMessage()));
+        }
+        return batch.finish();
+    }
+
+    // Writes zones in the binary layout format read by importBinary.
+    public static void writeBinary(Collection<ParkingZone> zones, OutputStream output) throws IOException {
+        Objects.requireNonNull(zones, "zones must not be null");
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output, 64 * 1024));
+        out.writeInt(BINARY_MAGIC);
+        out.writeShort(BINARY_VERSION);
+        out.writeInt(zones.size());
+        out.writeInt(zones.stream().mapToInt(ParkingZone::getTotalSpots).sum());
+        for (ParkingZone zone : zones) {
+            List<ParkingSpot> spots = zone.getSpots();
+            out.writeUTF(zone.getZoneId());
+            out.writeByte(zone.getZoneType().ordinal());
+            out.writeDouble(zone.getMaxOccupancyThreshold());
+            out.writeInt(spots.size());
+            for (ParkingSpot spot : spots) {
+                out.writeUTF(spot.getSpotId());
+            }
+        }
+        out.flush();
+    }
+
+    // Splits on commas into at most fields.length trimmed fields; returns how many the line had.
+    private static int split(String line, String[] fields) {
+        int count = 0;
+        int start = 0;
+        while (true) {
+            int comma = line.indexOf(',', start);
+            int end = comma < 0 ? line.length() : comma;
+            if (count < fields.length) {
+                fields[count] = line.substring(start, end).strip();
+            }
+            count++;
+            if (comma < 0) return count;
+            start = comma + 1;
+        }
+    }
+
+    private static ZoneType parseZoneType(String value) {
+        for (ZoneType type : ZONE_TYPES) {
+            if (type.name().equalsIgnoreCase(value)) return type;
+        }
+        return null;
+    }
+
+    private final class Batch {
+        private final Map<String, ParkingZone> newZones = new LinkedHashMap<>();
+        private final Set<String> seenSpotIds;
+        private final List<LayoutImportErrorDto> errors = new ArrayList<>();
+        private long errorCount;
+        private int spotsCreated;
+
+        private Batch(int expectedSpots) {
+            seenSpotIds = new HashSet<>(Math.max(16, (int) (expectedSpots / 0.75f) + 1));
+        }
+
+        // The zone to add this row's spots to, or null (with an error recorded) if it is invalid.
+        private ParkingZone zone(long line, String zoneId, ZoneType type, double threshold) {
+            if (zoneId.isBlank()) {
+                error(line, "zone id is empty");
+                return null;
+            }
+            ParkingZone zone = newZones.get(zoneId);
+            if (zone == null) {
+                zone = zoneRepository.findZoneById(zoneId);
+            }
+            if (zone != null) {
+                if (zone.getZoneType() != type || Double.compare(zone.getMaxOccupancyThreshold(), threshold) != 0) {
+                    error(line, "zone " + zoneId + " is already " + zone.getZoneType() + " with threshold "
+                            + zone.getMaxOccupancyThreshold());
+                    return null;
+                }
+                return zone;
+            }
+            try {
+                zone = new ParkingZone(zoneId, type, threshold);
+            } catch (IllegalArgumentException e) {
+                error(line, e.getMessage());
+                return null;
+            }
+            newZones.put(zoneId, zone);
+            return zone;
+        }
+
+        private void addSpot(long line, ParkingZone zone, String spotId) {
+            if (spotId.isBlank()) {
+                error(line, "spot id is empty");
+                return;
+            }
+            if (!seenSpotIds.add(spotId)) {
+                error(line, "duplicate spot id " + spotId + " in this layout");
+                return;
+            }
+            if (zoneRepository.spotExists(spotId)) {
+                error(line, "spot " + spotId + " already exists");
+                return;
+            }
+            zone.addSpot(new ParkingSpot(spotId, zone));
+            spotsCreated++;
+        }
+
+        private void error(long line, String message) {
+            errorCount++;
+            if (errors.size() < Settings.LAYOUT_IMPORT_MAX_REPORTED_ERRORS) {
+                errors.add(new LayoutImportErrorDto(line, message));
+            }
+        }
+
+        private LayoutImportResultDto finish() {
+            for (ParkingZone zone : newZones.values()) {
+                zoneRepository.save(zone);
+            }
+            return new LayoutImportResultDto(newZones.size(), spotsCreated, errorCount, List.copyOf(errors));
+        }
+    }
+}
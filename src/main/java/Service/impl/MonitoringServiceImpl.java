@@ -8,11 +8,23 @@ import Service.MonitoringService;
 import Settings.Settings;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 public class MonitoringServiceImpl implements MonitoringService {
-    public final List<LogEvent> logs = new ArrayList<>();
+    private final EventLog logs;
+
+    public MonitoringServiceImpl() {
+        this(new EventLog(Settings.EVENT_LOG_CAPACITY));
+    }
+
+    public MonitoringServiceImpl(EventLog logs) {
+        this.logs = Objects.requireNonNull(logs, "logs must not be null");
+    }
+
+    public EventLog getLogs() {
+        return logs;
+    }
 
     @Override
     public BlacklistStatus updatePenaltyHistoryAndCheckBlacklist(
@@ -24,9 +36,7 @@ public class MonitoringServiceImpl implements MonitoringService {
 
         LocalDateTime cutoff = LocalDateTime.now().minus(Settings.BLACKLIST_WINDOW);
 
-        long penaltiesInWindow = history.getPenalties().stream()
-                .filter(p -> p.getTimestamp().isAfter(cutoff))
-                .count();
+        int penaltiesInWindow = history.countPenaltiesAfter(cutoff);
 
         return penaltiesInWindow > Settings.MAX_PENALTIES_ALLOWED
                 ? BlacklistStatus.BLACKLISTED
@@ -36,7 +46,7 @@ public class MonitoringServiceImpl implements MonitoringService {
     @Override
     public void logEvent(LogEvent event) {
         if (event != null) {
-            logs.add(event);
+            logs.offer(event);
         }
     }
 
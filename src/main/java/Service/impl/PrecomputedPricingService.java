@@ -0,0 +1,160 @@
+package Service.impl;
+
+import Enum.DayType;
+import Enum.TimeOfDayBand;
+import Enum.ZoneType;
+import Model.DynamicPricingConfig;
+import Model.Tariff;
+import Service.PricingService;
+import Settings.Settings;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+public class PrecomputedPricingService implements PricingService {
+
+    private static final int BANDS = TimeOfDayBand.values().length;
+    private static final int DAY_TYPES = DayType.values().length;
+
+    // marks entries whose surge price cannot be held at scale 2
+    private static final BigDecimal ROUNDING_NECESSARY = new BigDecimal("0");
+
+    private final PricingService delegate;
+
+    // replaced as a whole, so readers always see one consistent set of tables
+    private volatile Tables tables = new Tables(0, null, new EnumMap<>(ZoneType.class));
+
+    public PrecomputedPricingService() {
+        this(new DefaultPricingService());
+    }
+
+    public PrecomputedPricingService(PricingService delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+    }
+
+    @Override
+    public BigDecimal calculateBasePrice(int durationHours,
+                                         DayType dayType,
+                                         TimeOfDayBand timeOfDayBand,
+                                         double occupancyRatio,
+                                         Tariff tariff,
+                                         DynamicPricingConfig config) {
+
+        if (dayType == null || timeOfDayBand == null || tariff == null || config == null
+                || durationHours < 0 || durationHours > Settings.MAX_DURATION_HOURS
+                || !(occupancyRatio >= 0.0 && occupancyRatio <= 1.0)) {
+            return delegate.calculateBasePrice(durationHours, dayType, timeOfDayBand, occupancyRatio, tariff, config);
+        }
+
+        PriceTable table = tables.byZone().get(tariff.getZoneType());
+        if (table == null) {
+            table = compileMissing(tariff, config);
+        }
+        if (!table.matches(tariff, config)) {
+            return delegate.calculateBasePrice(durationHours, dayType, timeOfDayBand, occupancyRatio, tariff, config);
+        }
+
+        BigDecimal price = table.price(durationHours, dayType, timeOfDayBand,
+                occupancyRatio >= config.getHighOccupancyThreshold());
+        if (price == ROUNDING_NECESSARY) {
+            throw new ArithmeticException("Rounding necessary");
+        }
+        return price;
+    }
+
+    public synchronized void onTariffSaved(Tariff tariff) {
+        Objects.requireNonNull(tariff, "tariff must not be null");
+        Tables current = tables;
+        Map<ZoneType, PriceTable> byZone = new EnumMap<>(current.byZone());
+        if (current.config() != null) {
+            byZone.put(tariff.getZoneType(), compile(tariff, current.config()));
+        } else {
+            byZone.remove(tariff.getZoneType());
+        }
+        tables = new Tables(current.version(), current.config(), byZone);
+    }
+
+    public synchronized void onConfigSaved(DynamicPricingConfig config) {
+        Objects.requireNonNull(config, "config must not be null");
+        Tables current = tables;
+        Map<ZoneType, PriceTable> byZone = new EnumMap<>(ZoneType.class);
+        for (PriceTable table : current.byZone().values()) {
+            byZone.put(table.tariff.getZoneType(), compile(table.tariff, config));
+        }
+        tables = new Tables(current.version() + 1, config, byZone);
+    }
+
+    public long getConfigVersion() {
+        return tables.version();
+    }
+
+    private synchronized PriceTable compileMissing(Tariff tariff, DynamicPricingConfig config) {
+        Tables current = tables;
+        PriceTable table = current.byZone().get(tariff.getZoneType());
+        if (table != null) {
+            return table;
+        }
+        table = compile(tariff, config);
+        Map<ZoneType, PriceTable> byZone = new EnumMap<>(current.byZone());
+        byZone.put(tariff.getZoneType(), table);
+        tables = new Tables(current.version(), current.config(), byZone);
+        return table;
+    }
+
+    private PriceTable compile(Tariff tariff, DynamicPricingConfig config) {
+        // only "ratio >= threshold" matters, so one ratio on each side of it covers every case
+        double withoutSurge = config.getHighOccupancyThreshold() > 0.0 ? 0.0 : 1.0;
+        double withSurge = 1.0;
+
+        BigDecimal[] prices = new BigDecimal[(Settings.MAX_DURATION_HOURS + 1) * BANDS * DAY_TYPES * 2];
+        for (int hours = 0; hours <= Settings.MAX_DURATION_HOURS; hours++) {
+            for (TimeOfDayBand band : TimeOfDayBand.values()) {
+                for (DayType dayType : DayType.values()) {
+                    prices[PriceTable.index(hours, dayType, band, false)] =
+                            priceOrMarker(hours, dayType, band, withoutSurge, tariff, config);
+                    prices[PriceTable.index(hours, dayType, band, true)] =
+                            priceOrMarker(hours, dayType, band, withSurge, tariff, config);
+                }
+            }
+        }
+        return new PriceTable(tariff, config, prices);
+    }
+
+    private BigDecimal priceOrMarker(int hours, DayType dayType, TimeOfDayBand band, double occupancyRatio,
+                                     Tariff tariff, DynamicPricingConfig config) {
+        try {
+            return delegate.calculateBasePrice(hours, dayType, band, occupancyRatio, tariff, config);
+        } catch (ArithmeticException e) {
+            return ROUNDING_NECESSARY;
+        }
+    }
+
+    private record Tables(long version, DynamicPricingConfig config, Map<ZoneType, PriceTable> byZone) { }
+
+    private static final class PriceTable {
+        private final Tariff tariff;
+        private final DynamicPricingConfig config;
+        private final BigDecimal[] prices;
+
+        private PriceTable(Tariff tariff, DynamicPricingConfig config, BigDecimal[] prices) {
+            this.tariff = tariff;
+            this.config = config;
+            this.prices = prices;
+        }
+
+        private boolean matches(Tariff tariff, DynamicPricingConfig config) {
+            return (this.tariff == tariff || this.tariff.equals(tariff))
+                    && (this.config == config || this.config.equals(config));
+        }
+
+        private BigDecimal price(int hours, DayType dayType, TimeOfDayBand band, boolean surge) {
+            return prices[index(hours, dayType, band, surge)];
+        }
+
+        private static int index(int hours, DayType dayType, TimeOfDayBand band, boolean surge) {
+            return ((hours * BANDS + band.ordinal()) * DAY_TYPES + dayType.ordinal()) * 2 + (surge ? 1 : 0);
+        }
+    }
+}
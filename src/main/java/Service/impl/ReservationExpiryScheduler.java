@@ -0,0 +1,195 @@
+package Service.impl;
+
+import Model.LogEvent;
+import Model.ParkingSpot;
+import Service.MonitoringService;
+import Settings.Settings;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Releases RESERVED spots whose driver never arrived, using a hashed timing wheel: a reservation due
+// at tick d sits in bucket d % size, and each tick only looks at its own bucket. Scheduling is a
+// lock-free enqueue; the queue is drained into the wheel on the next tick. Reservations that were
+// taken up in the meantime are not removed from the wheel, they are skipped when their bucket comes
+// round (ParkingSpot.expireReservation checks the reservation id).
+public class ReservationExpiryScheduler implements AutoCloseable {
+
+    private final Clock clock;
+    // optional; ticker failures are logged here when set
+    private final MonitoringService monitoring;
+    private final long tickNanos;
+    private final LocalDateTime origin;
+    private final List<Entry>[] wheel;
+    private final int mask;
+
+    private final Queue<Entry> incoming = new ConcurrentLinkedQueue<>();
+    // next tick to process; every tick before it has been handled
+    private long nextTick;
+    private final AtomicLong pending = new AtomicLong();
+
+    private final Map<String, LongAdder> reservationsByZone = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> noShowsByZone = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService ticker;
+
+    public ReservationExpiryScheduler(Clock clock) {
+        this(clock, null);
+    }
+
+    public ReservationExpiryScheduler(Clock clock, MonitoringService monitoring) {
+        this(clock, Settings.RESERVATION_WHEEL_TICK, Settings.RESERVATION_WHEEL_SIZE, monitoring);
+    }
+
+    public ReservationExpiryScheduler(Clock clock, Duration tick, int wheelSize) {
+        this(clock, tick, wheelSize, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ReservationExpiryScheduler(Clock clock, Duration tick, int wheelSize, MonitoringService monitoring) {
+        this.clock = Objects.requireNonNull(clock, "clock must not be null");
+        this.monitoring = monitoring;
+        Objects.requireNonNull(tick, "tick must not be null");
+        if (tick.isNegative() || tick.isZero()) {
+            throw new IllegalArgumentException("tick must be positive");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two");
+        }
+        this.tickNanos = tick.toNanos();
+        this.origin = LocalDateTime.now(clock);
+        this.wheel = (List<Entry>[]) new List<?>[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        this.mask = wheelSize - 1;
+    }
+
+    // Watches a reservation of spot; ignored if the reservation has no deadline.
+    public void schedule(ParkingSpot spot, ParkingSpot.Reservation reservation) {
+        Objects.requireNonNull(spot, "spot must not be null");
+        Objects.requireNonNull(reservation, "reservation must not be null");
+        if (reservation.until() == null) return;
+        reservationsByZone.computeIfAbsent(spot.getParkingZone().getZoneId(), z -> new LongAdder()).increment();
+        pending.incrementAndGet();
+        incoming.add(new Entry(spot, reservation.id(), ceilTick(reservation.until())));
+    }
+
+    // Processes every tick up to now and returns how many reservations were released. Called by the
+    // ticker thread once started; tests and simulations may drive it directly instead.
+    public synchronized int advanceTo(LocalDateTime now) {
+        long targetTick = floorTick(now);
+        for (Entry entry; (entry = incoming.poll()) != null; ) {
+            // already due: handle it at the first tick processed now
+            wheel[(int) (Math.max(entry.tick, nextTick) & mask)].add(entry);
+        }
+        if (targetTick < nextTick) return 0;
+
+        // a jump of a whole revolution or more visits each bucket once
+        long steps = Math.min(targetTick - nextTick + 1, wheel.length);
+        int released = 0;
+        for (long t = nextTick; t < nextTick + steps; t++) {
+            released += expire(wheel[(int) (t & mask)], targetTick);
+        }
+        nextTick = targetTick + 1;
+        return released;
+    }
+
+    public synchronized void start() {
+        if (ticker != null) return;
+        ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "reservation-expiry");
+            t.setDaemon(true);
+            return t;
+        });
+        ticker.scheduleAtFixedRate(() -> {
+            try {
+                advanceTo(LocalDateTime.now(clock));
+            } catch (RuntimeException e) {
+                // keep ticking; a failure here must not leave reservations stuck forever
+                reportTickFailure(e);
+            }
+        }, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    private void reportTickFailure(RuntimeException e) {
+        if (monitoring != null) {
+            try {
+                monitoring.logEvent(new LogEvent(LocalDateTime.now(clock), "RESERVATION_EXPIRY_FAILED",
+                        String.valueOf(e)));
+                return;
+            } catch (RuntimeException logFailure) {
+                e.addSuppressed(logFailure);
+            }
+        }
+        // no monitoring: hand the full throwable to the thread's handler without ending the ticker
+        Thread current = Thread.currentThread();
+        current.getUncaughtExceptionHandler().uncaughtException(current, e);
+    }
+
+    public long getReservationCount(String zoneId) {
+        LongAdder count = zoneId == null ? null : reservationsByZone.get(zoneId);
+        return count == null ? 0 : count.sum();
+    }
+
+    public long getNoShowCount(String zoneId) {
+        LongAdder count = zoneId == null ? null : noShowsByZone.get(zoneId);
+        return count == null ? 0 : count.sum();
+    }
+
+    // reservations scheduled whose deadline has not been processed yet, including ones already taken up
+    public long getPendingCount() {
+        return pending.get();
+    }
+
+    private int expire(List<Entry> bucket, long upToTick) {
+        int released = 0;
+        int kept = 0;
+        for (int i = 0, n = bucket.size(); i < n; i++) {
+            Entry entry = bucket.get(i);
+            if (entry.tick > upToTick) {
+                bucket.set(kept++, entry);   // due on a later revolution
+                continue;
+            }
+            pending.decrementAndGet();
+            if (entry.spot.expireReservation(entry.reservationId)) {
+                noShowsByZone.computeIfAbsent(entry.spot.getParkingZone().getZoneId(), z -> new LongAdder()).increment();
+                released++;
+            }
+        }
+        bucket.subList(kept, bucket.size()).clear();
+        return released;
+    }
+
+    private long floorTick(LocalDateTime time) {
+        return Math.floorDiv(Duration.between(origin, time).toNanos(), tickNanos);
+    }
+
+    private long ceilTick(LocalDateTime time) {
+        return -Math.floorDiv(-Duration.between(origin, time).toNanos(), tickNanos);
+    }
+
+    private record Entry(ParkingSpot spot, long reservationId, long tick) {
+    }
+}
@@ -0,0 +1,108 @@
+package Service.impl;
+
+import Model.LogEvent;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Writes log events as one tab-separated line each ("timestamp\ttype\tdetails") to
+// "events-<index>.log" files in a directory, starting a new file once the current one passes
+// maxFileBytes and deleting the oldest files beyond maxFiles. Tabs, newlines and backslashes
+// inside fields are escaped so every event stays on one line.
+final class RollingEventFile implements EventLog.Sink {
+
+    private static final Pattern FILE_NAME = Pattern.compile("events-(\\d+)\\.log");
+
+    private final Path directory;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final TreeMap<Long, Path> files = new TreeMap<>();
+
+    private OutputStream out;
+    private long index;
+    private long fileBytes;
+
+    RollingEventFile(Path directory, long maxFileBytes, int maxFiles) {
+        this.directory = Objects.requireNonNull(directory, "directory must not be null");
+        if (maxFileBytes <= 0 || maxFiles <= 0) {
+            throw new IllegalArgumentException("maxFileBytes and maxFiles must be positive");
+        }
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                for (Path path : stream) {
+                    Matcher m = FILE_NAME.matcher(path.getFileName().toString());
+                    if (m.matches()) files.put(Long.parseLong(m.group(1)), path);
+                }
+            }
+            // never append to a file from an earlier run
+            index = files.isEmpty() ? 0 : files.lastKey();
+            roll();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open event log in " + directory, e);
+        }
+    }
+
+    @Override
+    public void write(List<LogEvent> events) throws IOException {
+        for (LogEvent event : events) {
+            byte[] line = format(event);
+            if (fileBytes > 0 && fileBytes + line.length > maxFileBytes) {
+                roll();
+            }
+            out.write(line);
+            fileBytes += line.length;
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void roll() throws IOException {
+        if (out != null) out.close();
+        index++;
+        Path path = directory.resolve(String.format("events-%019d.log", index));
+        out = new BufferedOutputStream(Files.newOutputStream(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE), 64 * 1024);
+        fileBytes = 0;
+        files.put(index, path);
+        while (files.size() > maxFiles) {
+            Files.deleteIfExists(files.pollFirstEntry().getValue());
+        }
+    }
+
+    static byte[] format(LogEvent event) {
+        StringBuilder sb = new StringBuilder(64);
+        escape(sb, String.valueOf(event.getTimestamp()));
+        sb.append('\t');
+        escape(sb, String.valueOf(event.getType()));
+        sb.append('\t');
+        escape(sb, String.valueOf(event.getDetails()));
+        sb.append('\n');
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void escape(StringBuilder sb, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case '\t' -> sb.append("\\t");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                default -> sb.append(c);
+            }
+        }
+    }
+}
@@ -1,17 +1,43 @@
 package Service.impl;
 
 import Enum.ZoneType;
+import Events.SpotAllocationEvent;
 import Model.ParkingSpot;
 import Model.ParkingZone;
 import Model.SpotAssignmentRequest;
 import Service.ZoneAllocationService;
+import Settings.Settings;
 
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 public class ZoneAllocationServiceImpl implements ZoneAllocationService {
 
     @Override
     public ParkingSpot assignSpot(SpotAssignmentRequest request, ParkingZone zone) {
+        SpotAllocationEvent event = new SpotAllocationEvent();
+        event.begin();
+        ParkingSpot spot = null;
+        String failure = null;
+        try {
+            spot = reserveSpot(request, zone);
+            return spot;
+        } catch (RuntimeException e) {
+            failure = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.zoneId = zone == null ? null : zone.getZoneId();
+                event.zoneType = zone == null ? null : String.valueOf(zone.getZoneType());
+                event.spotId = spot == null ? null : spot.getSpotId();
+                event.outcome = failure != null ? failure : spot != null ? "ASSIGNED" : "NO_SPOT";
+                event.commit();
+            }
+        }
+    }
+
+    private ParkingSpot reserveSpot(SpotAssignmentRequest request, ParkingZone zone) {
         Objects.requireNonNull(request);
         Objects.requireNonNull(zone);
 
@@ -19,8 +45,15 @@ public class ZoneAllocationServiceImpl implements ZoneAllocationService {
         if (zoneAccessDenied(request, zone.getZoneType())) return null;
         if (!zone.hasFreeSpot()) return null;
 
+        // the reservation lapses RESERVATION_HOLD after the requested start if nobody arrives
+        LocalDateTime start = request.getRequestedStartTime();
+        LocalDateTime reservedUntil = start == null ? null : start.plus(Settings.RESERVATION_HOLD);
+
+        // another gate may win the CAS on the same spot; move on to the next free one
         ParkingSpot spot = zone.getFirstFreeSpot();
-        spot.reserve();
+        while (spot != null && !spot.tryReserve(reservedUntil)) {
+            spot = zone.getNextFreeSpot(spot);
+        }
         return spot;
     }
 
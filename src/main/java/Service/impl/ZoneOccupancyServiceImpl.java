@@ -6,19 +6,36 @@ import Repository.ParkingSessionRepository;
 import Repository.ParkingZoneRepository;
 import Service.ZoneOccupancyService;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 public class ZoneOccupancyServiceImpl implements ZoneOccupancyService {
 
     private final ParkingZoneRepository zoneRepo;
     private final ParkingSessionRepository sessionRepo;
 
+    // live active-session count per zone, seeded from the repository the first time a zone is asked for
+    // and kept current by the repository's save and delete listeners
+    private final ConcurrentHashMap<String, AtomicInteger> activeSessionsByZone = new ConcurrentHashMap<>();
+    // sessions currently contributing to a counter, so repeated notifications are idempotent
+    private final Set<ParkingSession> counted = ConcurrentHashMap.newKeySet();
+
+    private final Consumer<ParkingSession> stateListener = this::onSessionStateChanged;
+
     public ZoneOccupancyServiceImpl(
             ParkingZoneRepository zoneRepo,
             ParkingSessionRepository sessionRepo
     ) {
         this.zoneRepo = Objects.requireNonNull(zoneRepo);
         this.sessionRepo = Objects.requireNonNull(sessionRepo);
+        sessionRepo.addSaveListener(this::onSessionSaved);
+        sessionRepo.addDeleteListener(this::onSessionDeleted);
     }
 
     @Override
@@ -27,13 +44,104 @@ public class ZoneOccupancyServiceImpl implements ZoneOccupancyService {
 
         if (zone == null) return 0;
 
-        long totalSpots = zoneRepo.findById(zoneId).getTotalSpots();
+        long totalSpots = zone.getTotalSpots();
 
-        long occupied = sessionRepo.findAll().stream()
-                .filter(ParkingSession::isActive)
-                .filter(s -> s.getZoneId().equals(zoneId))
-                .count();
+        long occupied = counterFor(zoneId).get();
 
         return totalSpots == 0 ? 0.0 : (double) occupied / totalSpots;
     }
-}
\ No newline at end of file
+
+    @Override
+    public synchronized Map<String, Integer> reconcileOccupancyCounters() {
+        Set<String> zoneIds = new HashSet<>(activeSessionsByZone.keySet());
+        for (ParkingZone zone : zoneRepo.findAll()) {
+            zoneIds.add(zone.getZoneId());
+        }
+
+        Set<ParkingSession> active = new HashSet<>();
+        Map<String, Integer> drift = new HashMap<>();
+        for (String zoneId : zoneIds) {
+            int expected = 0;
+            for (ParkingSession session : sessionRepo.findActiveSessionsForZone(zoneId)) {
+                session.addStateListener(stateListener);
+                active.add(session);
+                expected++;
+            }
+            AtomicInteger counter = activeSessionsByZone.computeIfAbsent(zoneId, id -> new AtomicInteger());
+            int previous = counter.getAndSet(expected);
+            if (previous != expected) {
+                drift.put(zoneId, previous - expected);
+            }
+        }
+
+        counted.retainAll(active);
+        counted.addAll(active);
+        return drift;
+    }
+
+    private AtomicInteger counterFor(String zoneId) {
+        AtomicInteger counter = activeSessionsByZone.get(zoneId);
+        return counter != null ? counter : seed(zoneId);
+    }
+
+    private synchronized AtomicInteger seed(String zoneId) {
+        AtomicInteger existing = activeSessionsByZone.get(zoneId);
+        if (existing != null) return existing;
+
+        AtomicInteger counter = new AtomicInteger();
+        activeSessionsByZone.put(zoneId, counter);
+        for (ParkingSession session : sessionRepo.findActiveSessionsForZone(zoneId)) {
+            track(session);
+        }
+        return counter;
+    }
+
+    // only active sessions are listened to; a session never becomes active again once it closes
+    private void track(ParkingSession session) {
+        if (!session.isActive()) return;
+        session.addStateListener(stateListener);
+        if (!session.isActive()) {
+            session.removeStateListener(stateListener);
+        } else if (counted.add(session)) {
+            increment(session.getZoneId(), 1);
+            // a close between the check and counted.add found nothing to remove; settle it now
+            if (!session.isActive()) {
+                onSessionStateChanged(session);
+            }
+        }
+    }
+
+    private void onSessionSaved(ParkingSession session) {
+        // unseeded zones pick the session up from the repository when they are first asked for
+        if (activeSessionsByZone.containsKey(session.getZoneId())) {
+            track(session);
+        }
+    }
+
+    private void onSessionDeleted(ParkingSession session) {
+        session.removeStateListener(stateListener);
+        if (counted.remove(session)) {
+            increment(session.getZoneId(), -1);
+        }
+    }
+
+    private void onSessionStateChanged(ParkingSession session) {
+        if (session.isActive()) {
+            if (counted.add(session)) {
+                increment(session.getZoneId(), 1);
+            }
+        } else {
+            session.removeStateListener(stateListener);
+            if (counted.remove(session)) {
+                increment(session.getZoneId(), -1);
+            }
+        }
+    }
+
+    private void increment(String zoneId, int delta) {
+        AtomicInteger counter = activeSessionsByZone.get(zoneId);
+        if (counter != null) {
+            counter.addAndGet(delta);
+        }
+    }
+}
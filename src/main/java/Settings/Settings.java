@@ -21,6 +21,24 @@ public final class Settings {
 
     public static final BigDecimal MAX_BALANCE = BigDecimal.valueOf(10000);
 
+    public static final int EVENT_LOG_CAPACITY = 8192;
+    public static final int EVENT_LOG_SAMPLE_EVERY = 16;
+    public static final Duration EVENT_LOG_FLUSH_INTERVAL = Duration.ofMillis(200);
+    public static final long EVENT_LOG_MAX_FILE_BYTES = 16L * 1024 * 1024;
+    public static final int EVENT_LOG_MAX_FILES = 8;
+    public static final Duration EVENT_STORE_RETENTION = Duration.ofDays(7);
+
+    public static final int GATE_MAX_IN_FLIGHT_PER_ZONE = 1024;
+    public static final Duration GATE_ADMISSION_TIMEOUT = Duration.ofSeconds(2);
+
+    public static final int LAYOUT_IMPORT_MAX_REPORTED_ERRORS = 1000;
+    // counts read from a layout file only presize collections up to this; beyond it they grow as read
+    public static final int LAYOUT_IMPORT_MAX_PRESIZED_SPOTS = 1 << 20;
+
+    public static final Duration RESERVATION_HOLD = Duration.ofMinutes(15);
+    public static final Duration RESERVATION_WHEEL_TICK = Duration.ofSeconds(1);
+    public static final int RESERVATION_WHEEL_SIZE = 1024;
+
     public static BigDecimal getMaxPriceCapacity() {
         return MAX_PRICE_CAPACITY;
     }
@@ -0,0 +1,423 @@
+package Simulation;
+
+import Controller.*;
+import Dto.Billing.BillingRequest;
+import Dto.Eligibility.EligibilityResponseDto;
+import Dto.Exit.ExitAuthorizationRequestDto;
+import Dto.Exit.ExitAuthorizationResponseDto;
+import Dto.Penalty.ApplyPenaltyRequestDto;
+import Dto.Penalty.PenaltyCalculationRequestDto;
+import Dto.Session.StartSessionRequestDto;
+import Dto.Session.StartSessionResponseDto;
+import Dto.Zone.SpotAssignmentRequestDto;
+import Dto.Zone.SpotAssignmentResponseDto;
+import Enum.*;
+import Metrics.MetricsRegistry;
+import Model.*;
+import Repository.impl.*;
+import Service.ZoneOccupancyService;
+import Service.impl.*;
+import Simulation.TrafficProfile.Incident;
+import Simulation.TrafficProfile.Visit;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// Headless load run against a garage built from the real repositories, services and controllers.
+// One day of visits is generated from a TrafficProfile; a dispatcher hands arrivals and departures
+// to a worker pool in simulated-time order (optionally paced to a fixed rate), and each visit walks
+// the same path as the gates: eligibility, spot assignment, session start, then penalties, billing
+// and exit. The run ends with a consistency check of spots, sessions and billing records.
+//
+//   java -cp target/classes Simulation.LoadSimulator --visits 50000 --threads 8 --day WEEKDAY
+public final class LoadSimulator {
+
+    private static final int SPOTS_PER_ZONE = 100;
+    private static final String COUNTER_PREFIX = "sim.";
+
+    public record Config(int visits, int threads, double rate, DayType dayType, int spots, int users, long seed) {
+        public Config {
+            if (visits <= 0) throw new IllegalArgumentException("visits must be positive");
+            if (threads <= 0) throw new IllegalArgumentException("threads must be positive");
+            if (rate < 0) throw new IllegalArgumentException("rate must not be negative");
+            if (spots < ZoneType.values().length) throw new IllegalArgumentException("spots must cover every zone type");
+            if (users <= 0) throw new IllegalArgumentException("users must be positive");
+            Objects.requireNonNull(dayType, "dayType must not be null");
+        }
+
+        public static Config defaults() {
+            return new Config(20_000, 8, 0, DayType.WEEKDAY, 1_000, 6_666, 42);
+        }
+    }
+
+    private final Config config;
+    private final TrafficProfile profile;
+    private final LocalDate date;
+    private final SimulationClock clock;
+    private final MetricsRegistry metrics = new MetricsRegistry();
+
+    private final InMemoryParkingZoneRepository zoneRepo = new InMemoryParkingZoneRepository();
+    private final ConcurrentParkingSessionRepository sessionRepo;
+    private final InMemoryBillingRecordRepository billingRepo = new InMemoryBillingRecordRepository();
+    private final ZoneOccupancyService occupancyService;
+
+    private final EligibilityController eligibilityController;
+    private final ZoneAllocationController zoneController;
+    private final ParkingSessionController sessionController;
+    private final BillingController billingController;
+    private final PenaltyController penaltyController;
+    private final ExitAuthorizationController exitController;
+
+    private final Map<ZoneType, List<String>> usersByZoneType = new EnumMap<>(ZoneType.class);
+    private final Set<String> startedSessions = ConcurrentHashMap.newKeySet();
+
+    private final PriorityBlockingQueue<Scheduled> queue = new PriorityBlockingQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public LoadSimulator(Config config) {
+        this.config = Objects.requireNonNull(config, "config must not be null");
+        this.profile = TrafficProfile.forDay(config.dayType());
+        this.date = switch (config.dayType()) {
+            case WEEKDAY -> LocalDate.of(2026, 5, 12);   // a Tuesday
+            case WEEKEND -> LocalDate.of(2026, 5, 16);   // a Saturday
+            case HOLIDAY -> LocalDate.of(2026, 12, 25);
+        };
+        this.clock = new SimulationClock(date.atStartOfDay(), ZoneId.systemDefault());
+        this.sessionRepo = new ConcurrentParkingSessionRepository(clock);
+        this.occupancyService = new ZoneOccupancyServiceImpl(zoneRepo, sessionRepo);
+
+        var userRepo = new InMemoryUserRepository();
+        var vehicleRepo = new InMemoryVehicleRepository();
+        var subscriptionRepo = new InMemorySubscriptionPlanRepository();
+        var penaltyRepo = new InMemoryPenaltyHistoryRepository();
+        // the EV rate is a whole unit so the unrounded high-occupancy surge stays exact at scale 2
+        var tariffRepo = new InMemoryTariffRepository(Map.of(
+                ZoneType.STANDARD, new Tariff(ZoneType.STANDARD, BigDecimal.valueOf(3), BigDecimal.valueOf(25), BigDecimal.valueOf(0.10)),
+                ZoneType.EV, new Tariff(ZoneType.EV, BigDecimal.valueOf(2), BigDecimal.valueOf(20), BigDecimal.valueOf(0.05)),
+                ZoneType.VIP, new Tariff(ZoneType.VIP, BigDecimal.valueOf(5), BigDecimal.valueOf(50), BigDecimal.valueOf(0.15))
+        ));
+        var pricingRepo = new InMemoryDynamicPricingConfigRepository(new DynamicPricingConfig(1.5, 1.0, 0.7));
+
+        seedZones();
+        seedUsers(userRepo, vehicleRepo, subscriptionRepo);
+
+        var pricingService = new PrecomputedPricingService(new DefaultPricingService());
+        pricingService.onConfigSaved(pricingRepo.getActiveConfig());
+        var referenceBilling = new DefaultBillingService(
+                new DefaultDurationCalculator(),
+                pricingService,
+                new DefaultDiscountAndCapService(),
+                new DefaultTaxService()
+        );
+        var billingService = new FixedPointBillingService(new DefaultDurationCalculator(), referenceBilling);
+
+        eligibilityController = new EligibilityController(new EligibilityServiceImpl(), userRepo, vehicleRepo, subscriptionRepo, sessionRepo);
+        zoneController = new ZoneAllocationController(new ZoneAllocationServiceImpl(), zoneRepo, occupancyService, subscriptionRepo);
+        sessionController = new ParkingSessionController(sessionRepo, zoneRepo);
+        billingController = new BillingController(billingService, tariffRepo, pricingRepo, billingRepo, sessionRepo, penaltyRepo, subscriptionRepo);
+        penaltyController = new PenaltyController(new PenaltyServiceImpl(), new MonitoringServiceImpl(), penaltyRepo);
+        penaltyController.setSummaryTotals(new PenaltySummaryTotals(penaltyRepo.findAll()));
+        exitController = new ExitAuthorizationController(new ExitAuthorizationServiceImpl(), userRepo, sessionRepo, zoneRepo, clock);
+
+        eligibilityController.setMetrics(metrics);
+        zoneController.setMetrics(metrics);
+        sessionController.setMetrics(metrics);
+        billingController.setMetrics(metrics);
+        penaltyController.setMetrics(metrics);
+        exitController.setMetrics(metrics);
+    }
+
+    public SimulationReport run() throws InterruptedException {
+        Random random = new Random(config.seed());
+        for (Visit visit : profile.generate(config.visits(), date, random)) {
+            List<String> pool = usersByZoneType.get(visit.zoneType());
+            schedule(new Scheduled(visit.arrival(), sequence.getAndIncrement(), visit,
+                    pool.get(random.nextInt(pool.size())), null));
+        }
+
+        AtomicInteger workerIds = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(config.threads(), r -> {
+            Thread t = new Thread(r, "sim-worker-" + workerIds.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        // keeps the dispatcher from running far ahead of the workers in simulated time
+        Semaphore inFlight = new Semaphore(config.threads() * 4);
+
+        long start = System.nanoTime();
+        long dispatched = 0;
+        try {
+            while (pending.get() > 0) {
+                Scheduled next = queue.poll(10, TimeUnit.MILLISECONDS);
+                if (next == null) continue;
+                inFlight.acquire();
+                if (config.rate() > 0) {
+                    pace(start + (long) (dispatched * 1_000_000_000L / config.rate()));
+                }
+                dispatched++;
+                clock.advanceTo(next.time());
+                workers.execute(() -> {
+                    try {
+                        if (next.sessionId() == null) {
+                            arrive(next);
+                        } else {
+                            depart(next);
+                        }
+                    } catch (RuntimeException e) {
+                        count("error." + e.getClass().getSimpleName());
+                    } finally {
+                        inFlight.release();
+                        pending.decrementAndGet();
+                    }
+                });
+            }
+        } finally {
+            workers.shutdown();
+        }
+        workers.awaitTermination(1, TimeUnit.MINUTES);
+        Duration wallTime = Duration.ofNanos(System.nanoTime() - start);
+
+        return SimulationReport.from(config, metrics, wallTime, checkConsistency());
+    }
+
+    public MetricsRegistry getMetrics() {
+        return metrics;
+    }
+
+    private void arrive(Scheduled event) {
+        Visit visit = event.visit();
+        String userId = event.userId();
+        String plate = plateOf(userId);
+        count("visits");
+
+        EligibilityResponseDto eligibility = eligibilityController.checkEligibility(userId, plate, visit.arrival());
+        if (!eligibility.allowed()) {
+            count("rejected." + eligibility.reason());
+            return;
+        }
+
+        SpotAssignmentResponseDto spot = zoneController.assignSpot(
+                new SpotAssignmentRequestDto(userId, visit.zoneType(), visit.arrival()));
+        if (spot == null) {
+            count("rejected.NO_SPOT");
+            return;
+        }
+
+        StartSessionResponseDto session = sessionController.startSession(new StartSessionRequestDto(
+                userId, plate, spot.zoneId(), spot.spotId(), visit.zoneType(),
+                config.dayType() == DayType.HOLIDAY, visit.arrival(), spot.reservationId()));
+        startedSessions.add(session.sessionId());
+        count("admitted");
+
+        schedule(new Scheduled(visit.departure(), sequence.getAndIncrement(), visit, userId, session.sessionId()));
+    }
+
+    private void depart(Scheduled event) {
+        Visit visit = event.visit();
+        String userId = event.userId();
+        String plate = plateOf(userId);
+        LocalDateTime departure = visit.departure();
+        ParkingSession session = sessionRepo.findById(event.sessionId())
+                .orElseThrow(() -> new NoSuchElementException("Session not found: " + event.sessionId()));
+
+        if (visit.incident() == Incident.OVERSTAY || visit.incident() == Incident.LOST_TICKET) {
+            applyPenalty(visit, userId, departure);
+        }
+
+        billingController.calculateBill(new BillingRequest(
+                session.getId(),
+                session.getZoneType(),
+                session.getDayType(),
+                session.getTimeOfDayBand(),
+                occupancyService.calculateOccupancyRatioForZone(session.getZoneId()),
+                departure,
+                BigDecimal.ZERO,
+                0   // bill up to the plan's daily hours
+        ));
+
+        if (visit.incident() == Incident.PLATE_MISMATCH) {
+            ExitAuthorizationResponseDto wrongPlate = exitController.authorizeExit(
+                    new ExitAuthorizationRequestDto(userId, session.getId(), plate + "-X"));
+            count(wrongPlate.reason() == ExitFailureReason.VEHICLE_MISMATCH ? "exit.mismatchCaught" : "exit.mismatchMissed");
+        }
+
+        ExitAuthorizationResponseDto exit = exitController.authorizeExit(
+                new ExitAuthorizationRequestDto(userId, session.getId(), plate));
+        count(exit.allowed() ? "departed" : "exit.denied." + exit.reason());
+    }
+
+    private void applyPenalty(Visit visit, String userId, LocalDateTime departure) {
+        boolean overstay = visit.incident() == Incident.OVERSTAY;
+        BigDecimal amount = penaltyController.calculatePenalty(new PenaltyCalculationRequestDto(
+                overstay,
+                visit.overstay().toMinutes() / 60.0,
+                !overstay,
+                false,
+                BigDecimal.valueOf(5),
+                BigDecimal.valueOf(50),
+                BigDecimal.valueOf(25),
+                BigDecimal.ZERO
+        )).totalPenalty();
+        penaltyController.applyPenalty(new ApplyPenaltyRequestDto(
+                userId, overstay ? PenaltyType.OVERSTAY : PenaltyType.LOST_TICKET, amount, departure));
+        count("penalties");
+    }
+
+    // Run after the workers have stopped: every spot and session must have settled.
+    private List<String> checkConsistency() {
+        List<String> violations = new ArrayList<>();
+        for (ParkingZone zone : zoneRepo.findAll()) {
+            long occupied = zone.getSpots().stream().filter(ParkingSpot::isOccupied).count();
+            long reserved = zone.getSpots().stream().filter(s -> s.getState() == SpotState.RESERVED).count();
+            int active = sessionRepo.findActiveSessionsForZone(zone.getZoneId()).size();
+            if (occupied != active) {
+                violations.add(zone.getZoneId() + ": " + occupied + " occupied spots but " + active + " active sessions");
+            }
+            if (reserved > 0) {
+                violations.add(zone.getZoneId() + ": " + reserved + " spots left RESERVED");
+            }
+            if (active > 0) {
+                violations.add(zone.getZoneId() + ": " + active + " sessions still active");
+            }
+        }
+
+        long unbilled = startedSessions.stream().filter(id -> billingRepo.findBySessionId(id).isEmpty()).count();
+        if (unbilled > 0) {
+            violations.add(unbilled + " sessions without a billing record");
+        }
+        long notClosed = startedSessions.stream()
+                .map(id -> sessionRepo.findById(id).orElse(null))
+                .filter(s -> s == null || s.getState() != SessionState.CLOSED)
+                .count();
+        if (notClosed > 0) {
+            violations.add(notClosed + " sessions not CLOSED");
+        }
+
+        Map<String, Integer> drift = occupancyService.reconcileOccupancyCounters();
+        if (!drift.isEmpty()) {
+            violations.add("occupancy counters drifted: " + new TreeMap<>(drift));
+        }
+        return violations;
+    }
+
+    private void schedule(Scheduled event) {
+        pending.incrementAndGet();
+        queue.add(event);
+    }
+
+    private void count(String counter) {
+        metrics.increment(COUNTER_PREFIX + counter);
+    }
+
+    private static void pace(long deadline) {
+        long wait;
+        while ((wait = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(wait);
+        }
+    }
+
+    private void seedZones() {
+        int remaining = config.spots();
+        ZoneType[] types = ZoneType.values();
+        for (int t = 0; t < types.length; t++) {
+            ZoneType type = types[t];
+            int spots = t == types.length - 1
+                    ? remaining
+                    : Math.max(1, (int) Math.round(config.spots() * profile.zoneShare(type)));
+            spots = Math.min(spots, remaining - (types.length - 1 - t));
+            remaining -= spots;
+
+            for (int z = 1; spots > 0; z++) {
+                ParkingZone zone = new ParkingZone("Z-" + type + "-" + z, type, 1.0);
+                int inZone = Math.min(SPOTS_PER_ZONE, spots);
+                for (int s = 1; s <= inZone; s++) {
+                    zone.addSpot(new ParkingSpot(zone.getZoneId() + "-S" + s, zone));
+                }
+                zoneRepo.save(zone);
+                spots -= inZone;
+            }
+        }
+    }
+
+    private void seedUsers(InMemoryUserRepository userRepo,
+                           InMemoryVehicleRepository vehicleRepo,
+                           InMemorySubscriptionPlanRepository subscriptionRepo) {
+        for (ZoneType type : ZoneType.values()) {
+            int count = Math.max(1, (int) Math.round(config.users() * profile.zoneShare(type)));
+            List<String> pool = new ArrayList<>(count);
+            for (int i = 1; i <= count; i++) {
+                String userId = "SIM-" + type + "-" + i;
+                userRepo.save(new User(userId, UserStatus.ACTIVE));
+                vehicleRepo.save(new Vehicle(plateOf(userId), userId));
+                subscriptionRepo.save(userId, switch (type) {
+                    case STANDARD -> SubscriptionPlan.defaultPlan();
+                    case EV -> SubscriptionPlan.evZonePlan();
+                    case VIP -> SubscriptionPlan.vipZonePlan();
+                });
+                pool.add(userId);
+            }
+            usersByZoneType.put(type, pool);
+        }
+    }
+
+    private static String plateOf(String userId) {
+        return "P-" + userId;
+    }
+
+    // sessionId is null for an arrival and set for the matching departure
+    private record Scheduled(LocalDateTime time, long seq, Visit visit, String userId, String sessionId)
+            implements Comparable<Scheduled> {
+        @Override
+        public int compareTo(Scheduled other) {
+            int byTime = time.compareTo(other.time);
+            return byTime != 0 ? byTime : Long.compare(seq, other.seq);
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Config defaults = Config.defaults();
+        int visits = defaults.visits();
+        int threads = defaults.threads();
+        double rate = defaults.rate();
+        DayType dayType = defaults.dayType();
+        int spots = defaults.spots();
+        Integer users = null;
+        long seed = defaults.seed();
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--visits" -> visits = Integer.parseInt(value);
+                case "--threads" -> threads = Integer.parseInt(value);
+                case "--rate" -> rate = Double.parseDouble(value);
+                case "--day" -> dayType = DayType.valueOf(value.toUpperCase());
+                case "--spots" -> spots = Integer.parseInt(value);
+                case "--users" -> users = Integer.parseInt(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                default -> {
+                    System.err.println("Unknown option " + args[i]);
+                    System.err.println("Usage: LoadSimulator [--visits n] [--threads n] [--rate eventsPerSecond] "
+                            + "[--day WEEKDAY|WEEKEND|HOLIDAY] [--spots n] [--users n] [--seed n]");
+                    System.exit(2);
+                }
+            }
+            i++;
+        }
+
+        // by default roughly three visits per user over the day
+        Config config = new Config(visits, threads, rate, dayType, spots,
+                users != null ? users : Math.max(1, visits / 3), seed);
+        SimulationReport report = new LoadSimulator(config).run();
+        System.out.println(report.toText());
+        System.exit(report.isConsistent() ? 0 : 1);
+    }
+}
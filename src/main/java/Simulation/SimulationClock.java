@@ -0,0 +1,46 @@
+package Simulation;
+
+import java.time.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Clock that follows the simulated time of the event being dispatched, so daily usage counters
+// and exit timestamps line up with the simulated day rather than the wall clock.
+final class SimulationClock extends Clock {
+
+    private final ZoneId zone;
+    // shared with the clocks returned by withZone, so they all read the same simulated instant
+    private final AtomicReference<Instant> instant;
+
+    SimulationClock(LocalDateTime start, ZoneId zone) {
+        this(new AtomicReference<>(start.atZone(zone).toInstant()), zone);
+    }
+
+    private SimulationClock(AtomicReference<Instant> instant, ZoneId zone) {
+        this.zone = zone;
+        this.instant = instant;
+    }
+
+    // never moves backwards, so a late event cannot rewind the clock
+    void advanceTo(LocalDateTime time) {
+        Instant next = time.atZone(zone).toInstant();
+        instant.accumulateAndGet(next, (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        if (zone.equals(this.zone)) {
+            return this;
+        }
+        return new SimulationClock(instant, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant.get();
+    }
+}
@@ -0,0 +1,82 @@
+package Simulation;
+
+import Metrics.MetricsRegistry;
+import Record.OperationStats;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Outcome of one LoadSimulator run. Counts come from the "sim." counters of the run's registry,
+// latencies from its controller histograms; violations lists every consistency check that failed.
+public record SimulationReport(
+        LoadSimulator.Config config,
+        long visits,
+        long admitted,
+        Map<String, Long> rejections,
+        long departed,
+        long penalties,
+        Map<String, Long> errors,
+        long operations,
+        Duration wallTime,
+        List<String> violations,
+        String metricsText
+) {
+
+    static SimulationReport from(LoadSimulator.Config config, MetricsRegistry metrics, Duration wallTime,
+                                 List<String> violations) {
+        Map<String, Long> rejections = new TreeMap<>();
+        Map<String, Long> errors = new TreeMap<>();
+        metrics.counters().forEach((name, value) -> {
+            if (name.startsWith("sim.rejected.")) rejections.put(name.substring("sim.rejected.".length()), value);
+            if (name.startsWith("sim.error.")) errors.put(name.substring("sim.error.".length()), value);
+        });
+        long operations = metrics.snapshot().stream().mapToLong(OperationStats::count).sum();
+
+        return new SimulationReport(
+                config,
+                metrics.getCounter("sim.visits"),
+                metrics.getCounter("sim.admitted"),
+                Map.copyOf(rejections),
+                metrics.getCounter("sim.departed"),
+                metrics.getCounter("sim.penalties"),
+                Map.copyOf(errors),
+                operations,
+                wallTime,
+                List.copyOf(violations),
+                metrics.dumpText()
+        );
+    }
+
+    public boolean isConsistent() {
+        return violations.isEmpty() && errors.isEmpty();
+    }
+
+    // Controller calls per second of wall time.
+    public double throughput() {
+        double seconds = wallTime.toNanos() / 1e9;
+        return seconds == 0 ? 0 : operations / seconds;
+    }
+
+    public String toText() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Simulated %s: %d visits on %d threads, %d spots, %d users%n",
+                config.dayType(), config.visits(), config.threads(), config.spots(), config.users()));
+        sb.append(String.format("Wall time %.2f s, %d controller calls, %.0f calls/s%n",
+                wallTime.toNanos() / 1e9, operations, throughput()));
+        sb.append(String.format("Admitted %d, departed %d, penalties %d%n", admitted, departed, penalties));
+        new TreeMap<>(rejections).forEach((reason, count) ->
+                sb.append(String.format("  rejected %-28s %d%n", reason, count)));
+        new TreeMap<>(errors).forEach((type, count) ->
+                sb.append(String.format("  error    %-28s %d%n", type, count)));
+        sb.append(System.lineSeparator()).append(metricsText).append(System.lineSeparator());
+        if (violations.isEmpty()) {
+            sb.append("Consistency checks passed");
+        } else {
+            sb.append("Consistency checks FAILED:");
+            violations.forEach(v -> sb.append(System.lineSeparator()).append("  ").append(v));
+        }
+        return sb.append(System.lineSeparator()).toString();
+    }
+}
@@ -0,0 +1,123 @@
+package Simulation;
+
+import Enum.DayType;
+import Enum.ZoneType;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+// Arrival curve, zone mix and stay lengths for one kind of day. Weekdays have commuter peaks
+// around 08:00 and 17:00, weekends and holidays a broad midday hump with shorter stays.
+public final class TrafficProfile {
+
+    public enum Incident { NONE, OVERSTAY, LOST_TICKET, PLATE_MISMATCH }
+
+    // overstay is the time spent past the intended stay, non-zero only for OVERSTAY visits
+    public record Visit(int index, ZoneType zoneType, LocalDateTime arrival, Duration stay, Incident incident,
+                        Duration overstay) {
+        public LocalDateTime departure() {
+            return arrival.plus(stay).plus(overstay);
+        }
+    }
+
+    private static final double OVERSTAY_RATE = 0.03;
+    private static final double LOST_TICKET_RATE = 0.01;
+    private static final double PLATE_MISMATCH_RATE = 0.02;
+    private static final Duration MIN_STAY = Duration.ofMinutes(15);
+    private static final Duration MAX_STAY = Duration.ofHours(12);
+
+    private final DayType dayType;
+    private final double[] hourlyWeights;
+    // STANDARD, EV, VIP, in ZoneType order
+    private final double[] zoneMix;
+    private final double[] meanStayHours;
+
+    private TrafficProfile(DayType dayType, double[] hourlyWeights, double[] zoneMix, double[] meanStayHours) {
+        this.dayType = dayType;
+        this.hourlyWeights = hourlyWeights;
+        this.zoneMix = zoneMix;
+        this.meanStayHours = meanStayHours;
+    }
+
+    public static TrafficProfile forDay(DayType dayType) {
+        return switch (dayType) {
+            case WEEKDAY -> new TrafficProfile(dayType,
+                    new double[]{0.2, 0.1, 0.1, 0.1, 0.2, 0.6, 2.0, 5.0, 8.0, 6.0, 4.0, 4.0,
+                            5.0, 4.5, 4.0, 4.0, 5.0, 6.5, 5.0, 3.0, 2.0, 1.2, 0.8, 0.4},
+                    new double[]{0.75, 0.15, 0.10},
+                    new double[]{3.0, 1.5, 4.0});
+            case WEEKEND -> new TrafficProfile(dayType,
+                    new double[]{0.3, 0.2, 0.1, 0.1, 0.1, 0.2, 0.5, 1.0, 2.0, 3.5, 5.0, 6.0,
+                            6.5, 6.5, 6.0, 5.5, 5.0, 4.5, 4.0, 3.5, 3.0, 2.0, 1.2, 0.6},
+                    new double[]{0.80, 0.12, 0.08},
+                    new double[]{2.0, 1.2, 3.0});
+            case HOLIDAY -> new TrafficProfile(dayType,
+                    new double[]{0.2, 0.1, 0.1, 0.1, 0.1, 0.1, 0.3, 0.6, 1.2, 2.0, 3.0, 4.0,
+                            4.5, 4.5, 4.5, 4.0, 3.5, 3.0, 2.5, 2.0, 1.5, 1.0, 0.6, 0.3},
+                    new double[]{0.85, 0.10, 0.05},
+                    new double[]{2.5, 1.2, 3.5});
+        };
+    }
+
+    public DayType getDayType() {
+        return dayType;
+    }
+
+    public double zoneShare(ZoneType zoneType) {
+        return zoneMix[zoneType.ordinal()];
+    }
+
+    // Visits for one day, ordered by arrival.
+    public List<Visit> generate(int visits, LocalDate date, Random random) {
+        double[] hourCdf = cumulative(hourlyWeights);
+        double[] zoneCdf = cumulative(zoneMix);
+        List<Visit> result = new ArrayList<>(visits);
+        for (int i = 0; i < visits; i++) {
+            int hour = pick(hourCdf, random.nextDouble());
+            LocalDateTime arrival = date.atTime(hour, 0).plusSeconds(random.nextInt(3600));
+            ZoneType zoneType = ZoneType.values()[pick(zoneCdf, random.nextDouble())];
+
+            double meanMinutes = meanStayHours[zoneType.ordinal()] * 60;
+            long minutes = (long) (-Math.log(1 - random.nextDouble()) * meanMinutes);
+            Duration stay = Duration.ofMinutes(Math.max(MIN_STAY.toMinutes(), Math.min(MAX_STAY.toMinutes(), minutes)));
+
+            double roll = random.nextDouble();
+            Incident incident = roll < OVERSTAY_RATE ? Incident.OVERSTAY
+                    : roll < OVERSTAY_RATE + LOST_TICKET_RATE ? Incident.LOST_TICKET
+                    : roll < OVERSTAY_RATE + LOST_TICKET_RATE + PLATE_MISMATCH_RATE ? Incident.PLATE_MISMATCH
+                    : Incident.NONE;
+            Duration overstay = incident == Incident.OVERSTAY
+                    ? Duration.ofMinutes(30 + random.nextInt(150))
+                    : Duration.ZERO;
+
+            result.add(new Visit(i, zoneType, arrival, stay, incident, overstay));
+        }
+        result.sort(Comparator.comparing(Visit::arrival));
+        return result;
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double total = 0;
+        for (double w : weights) total += w;
+        double[] cdf = new double[weights.length];
+        double running = 0;
+        for (int i = 0; i < weights.length; i++) {
+            running += weights[i] / total;
+            cdf[i] = running;
+        }
+        cdf[cdf.length - 1] = 1.0;
+        return cdf;
+    }
+
+    private static int pick(double[] cdf, double u) {
+        for (int i = 0; i < cdf.length; i++) {
+            if (u < cdf[i]) return i;
+        }
+        return cdf.length - 1;
+    }
+}
@@ -131,8 +131,8 @@ class MonitoringServiceIT {
 
         // Assert
         // Since 'logs' is public final List in your impl, we can check it directly
-        assertFalse(monitoringService.logs.isEmpty());
-        assertEquals("INFO", monitoringService.logs.get(0).getType());
+        assertFalse(monitoringService.getLogs().isEmpty());
+        assertEquals("INFO", monitoringService.getLogs().get(0).getType());
     }
 
     @Test
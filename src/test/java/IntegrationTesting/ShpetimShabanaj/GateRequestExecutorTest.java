@@ -0,0 +1,187 @@
+package IntegrationTesting.ShpetimShabanaj;
+
+import Controller.*;
+import Dto.Billing.BillingRequest;
+import Dto.Exit.ExitAuthorizationRequestDto;
+import Dto.Exit.ExitAuthorizationResponseDto;
+import Dto.Gate.GateEntryRequestDto;
+import Dto.Gate.GateEntryResponseDto;
+import Dto.Session.StartSessionRequestDto;
+import Dto.Session.StartSessionResponseDto;
+import Enum.*;
+import Exceptions.GateBusyException;
+import Gate.GateRequestExecutor;
+import Model.*;
+import Repository.impl.*;
+import Service.impl.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GateRequestExecutorTest {
+
+    private static final LocalDateTime ARRIVAL = LocalDateTime.of(2026, 5, 12, 9, 0);
+
+    InMemoryParkingZoneRepository zoneRepo;
+    ConcurrentParkingSessionRepository sessionRepo;
+    EligibilityController eligibilityController;
+    ZoneAllocationController zoneController;
+    ParkingSessionController sessionController;
+    BillingController billingController;
+    ExitAuthorizationController exitController;
+    GateRequestExecutor gate;
+
+    @BeforeEach
+    void setup() {
+        zoneRepo = new InMemoryParkingZoneRepository();
+        sessionRepo = new ConcurrentParkingSessionRepository();
+        var userRepo = new InMemoryUserRepository();
+        var vehicleRepo = new InMemoryVehicleRepository();
+        var subscriptionRepo = new InMemorySubscriptionPlanRepository();
+        var occupancyService = new ZoneOccupancyServiceImpl(zoneRepo, sessionRepo);
+
+        ParkingZone zone = new ParkingZone("Z1", ZoneType.STANDARD, 1.0);
+        for (int i = 1; i <= 50; i++) {
+            zone.addSpot(new ParkingSpot("S-" + i, zone));
+        }
+        zoneRepo.save(zone);
+        for (int i = 1; i <= 50; i++) {
+            userRepo.save(new User("U" + i, UserStatus.ACTIVE));
+            vehicleRepo.save(new Vehicle("P-" + i, "U" + i));
+            subscriptionRepo.save("U" + i, SubscriptionPlan.defaultPlan());
+        }
+
+        eligibilityController = new EligibilityController(new EligibilityServiceImpl(), userRepo, vehicleRepo, subscriptionRepo, sessionRepo);
+        zoneController = new ZoneAllocationController(new ZoneAllocationServiceImpl(), zoneRepo, occupancyService, subscriptionRepo);
+        sessionController = new ParkingSessionController(sessionRepo, zoneRepo);
+        billingController = new BillingController(
+                new DefaultBillingService(new DefaultDurationCalculator(), new DefaultPricingService(),
+                        new DefaultDiscountAndCapService(), new DefaultTaxService()),
+                new InMemoryTariffRepository(Map.of(ZoneType.STANDARD,
+                        new Tariff(ZoneType.STANDARD, BigDecimal.valueOf(3), BigDecimal.valueOf(25), BigDecimal.valueOf(0.10)))),
+                new InMemoryDynamicPricingConfigRepository(new DynamicPricingConfig(1.5, 1.0, 0.7)),
+                new InMemoryBillingRecordRepository(),
+                sessionRepo,
+                new InMemoryPenaltyHistoryRepository(),
+                subscriptionRepo);
+        exitController = new ExitAuthorizationController(new ExitAuthorizationServiceImpl(), userRepo, sessionRepo, zoneRepo);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (gate != null) gate.close();
+    }
+
+    private GateRequestExecutor gate(int maxInFlightPerZone, Duration admissionTimeout) {
+        return new GateRequestExecutor(eligibilityController, zoneController, sessionController, billingController,
+                exitController, sessionRepo, null, maxInFlightPerZone, admissionTimeout);
+    }
+
+    // TC-01
+    @Test
+    @DisplayName("TC-01: Verify concurrent entries, billing and exits through the gate leave the zone empty")
+    void testEntryBillingExitCycle() throws Exception {
+        gate = gate(8, Duration.ofSeconds(5));
+
+        List<CompletableFuture<GateEntryResponseDto>> entries = new ArrayList<>();
+        for (int i = 1; i <= 50; i++) {
+            entries.add(gate.submitEntry(new GateEntryRequestDto("U" + i, "P-" + i, ZoneType.STANDARD, false, ARRIVAL)));
+        }
+        List<CompletableFuture<ExitAuthorizationResponseDto>> exits = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            GateEntryResponseDto entry = entries.get(i).get(5, TimeUnit.SECONDS);
+            assertTrue(entry.admitted(), entry::reason);
+            String sessionId = entry.session().sessionId();
+            String plate = "P-" + (i + 1);
+            String userId = "U" + (i + 1);
+            exits.add(gate.submitBilling(new BillingRequest(sessionId, ZoneType.STANDARD, DayType.WEEKDAY,
+                            TimeOfDayBand.OFF_PEAK, 0.5, ARRIVAL.plusHours(2), BigDecimal.ZERO, 0))
+                    .thenCompose(bill -> gate.submitExit(new ExitAuthorizationRequestDto(userId, sessionId, plate))));
+        }
+        for (CompletableFuture<ExitAuthorizationResponseDto> exit : exits) {
+            assertTrue(exit.get(5, TimeUnit.SECONDS).allowed());
+        }
+
+        assertEquals(50, zoneRepo.findById("Z1").getFreeSpotsCount());
+        assertTrue(sessionRepo.findActiveSessionsForZone("Z1").isEmpty());
+        assertEquals(0, gate.getRejectedCount());
+    }
+
+    // TC-02
+    @Test
+    @DisplayName("TC-02: Verify a burst at one zone is turned away without blocking another zone")
+    void testPerZoneAdmissionLimit() throws Exception {
+        gate = gate(2, Duration.ofMillis(200));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(2);
+
+        List<CompletableFuture<String>> burst = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            burst.add(gate.submit("Z-BUSY", () -> {
+                running.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "done";
+            }));
+        }
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        assertEquals(2, gate.getInFlight("Z-BUSY"));
+
+        CompletableFuture<String> overflow = gate.submit("Z-BUSY", () -> "overflow");
+        assertEquals("other", gate.submit("Z-OTHER", () -> "other").get(5, TimeUnit.SECONDS));
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> overflow.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(GateBusyException.class, failure.getCause());
+        assertEquals(1, gate.getRejectedCount());
+
+        release.countDown();
+        for (CompletableFuture<String> f : burst) {
+            assertEquals("done", f.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(0, gate.getInFlight("Z-BUSY"));
+    }
+
+    // TC-03
+    @Test
+    @DisplayName("TC-03: Verify virtual threads are used exactly when the runtime provides them")
+    void testVirtualThreadsFollowRuntime() {
+        gate = gate(4, Duration.ofSeconds(1));
+        assertEquals(Runtime.version().feature() >= 21, gate.usesVirtualThreads());
+    }
+
+    // TC-04
+    @Test
+    @DisplayName("TC-04: Verify an entry whose session cannot start hands its reserved spot back")
+    void testFailedStartReleasesReservation() {
+        ParkingSessionController failingSessions = new ParkingSessionController(sessionRepo, zoneRepo) {
+            @Override
+            public StartSessionResponseDto startSession(StartSessionRequestDto dto) {
+                throw new IllegalStateException("session store unavailable");
+            }
+        };
+        gate = new GateRequestExecutor(eligibilityController, zoneController, failingSessions, billingController,
+                exitController, sessionRepo, null, 4, Duration.ofSeconds(1));
+
+        CompletableFuture<GateEntryResponseDto> entry =
+                gate.submitEntry(new GateEntryRequestDto("U1", "P-1", ZoneType.STANDARD, false, ARRIVAL));
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> entry.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+        assertEquals(50, zoneRepo.findById("Z1").getFreeSpotsCount());
+        assertEquals(0, gate.getInFlight("type:STANDARD"));
+    }
+}
@@ -0,0 +1,242 @@
+package IntegrationTesting.ShpetimShabanaj;
+
+import Enum.DayType;
+import Enum.SessionState;
+import Enum.TimeOfDayBand;
+import Enum.ZoneType;
+import Model.BillingRecord;
+import Model.BillingResult;
+import Model.ParkingSession;
+import Model.ParkingSpot;
+import Model.ParkingZone;
+import Repository.impl.JournaledBillingRecordRepository;
+import Repository.impl.InMemoryParkingZoneRepository;
+import Repository.impl.JournaledParkingSessionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournaledRepositoryRecoveryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 2, 9, 15, 30, 123_000_000);
+
+    @TempDir
+    Path dir;
+
+    private static ParkingSession session(String id, String userId) {
+        return new ParkingSession(id, userId, "PL-" + id, "zone-1", "spot-" + id,
+                TimeOfDayBand.PEAK, DayType.WEEKEND, ZoneType.EV, START);
+    }
+
+    private static BillingRecord record(String sessionId) {
+        return new BillingRecord(sessionId, "user-1", ZoneType.VIP, START, START.plusHours(3),
+                new BillingResult(new BigDecimal("15.00"), new BigDecimal("1.50"), BigDecimal.ZERO,
+                        new BigDecimal("13.50"), new BigDecimal("2.70"), new BigDecimal("16.20")));
+    }
+
+    private static long files(Path dir, String suffix) throws IOException {
+        try (Stream<Path> list = Files.list(dir)) {
+            return list.filter(p -> p.toString().endsWith(suffix)).count();
+        }
+    }
+
+    @Test
+    @DisplayName("sessions, state changes and deletes survive a restart")
+    void sessionsRecoverFromJournal() {
+        try (JournaledParkingSessionRepository repo = new JournaledParkingSessionRepository(dir)) {
+            ParkingSession open = session("s-1", "user-1");
+            ParkingSession paid = session("s-2", "user-1");
+            ParkingSession closed = session("s-3", "user-2");
+            ParkingSession deleted = session("s-4", "user-2");
+            repo.save(open);
+            repo.save(paid);
+            repo.save(closed);
+            repo.save(deleted);
+
+            paid.markPaid();
+            closed.close(START.plusHours(2));
+            repo.delete(deleted);
+        }
+
+        try (JournaledParkingSessionRepository repo = new JournaledParkingSessionRepository(dir)) {
+            assertEquals(3, repo.findAll().size());
+            assertTrue(repo.findById("s-4").isEmpty());
+
+            ParkingSession open = repo.findById("s-1").orElseThrow();
+            assertEquals(SessionState.OPEN, open.getState());
+            assertEquals("PL-s-1", open.getVehiclePlate());
+            assertEquals("spot-s-1", open.getSpotId());
+            assertEquals(TimeOfDayBand.PEAK, open.getTimeOfDayBand());
+            assertEquals(DayType.WEEKEND, open.getDayType());
+            assertEquals(ZoneType.EV, open.getZoneType());
+            assertEquals(START, open.getStartTime());
+
+            assertEquals(SessionState.PAID, repo.findById("s-2").orElseThrow().getState());
+            ParkingSession closed = repo.findById("s-3").orElseThrow();
+            assertEquals(SessionState.CLOSED, closed.getState());
+            assertEquals(START.plusHours(2), closed.getEndTime());
+
+            assertEquals(2, repo.getActiveSessionsCountForUser("user-1"));
+            assertEquals(0, repo.getActiveSessionsCountForUser("user-2"));
+
+            // recovered sessions keep journaling their transitions
+            open.close(START.plusHours(1));
+        }
+
+        try (JournaledParkingSessionRepository repo = new JournaledParkingSessionRepository(dir)) {
+            assertEquals(SessionState.CLOSED, repo.findById("s-1").orElseThrow().getState());
+        }
+    }
+
+    @Test
+    @DisplayName("spots of sessions still active after a restart are occupied again")
+    void recoveredSessionsReoccupyTheirSpots() {
+        try (JournaledParkingSessionRepository repo = new JournaledParkingSessionRepository(dir)) {
+            ParkingSession paid = session("s-2", "user-1");
+            ParkingSession closed = session("s-3", "user-2");
+            repo.save(session("s-1", "user-1"));
+            repo.save(paid);
+            repo.save(closed);
+            paid.markPaid();
+            closed.close(START.plusHours(2));
+        }
+
+        // the zones are rebuilt from scratch on restart, every spot FREE
+        InMemoryParkingZoneRepository zoneRepo = new InMemoryParkingZoneRepository();
+        ParkingZone zone = new ParkingZone("zone-1", ZoneType.EV, 1.0);
+        for (int i = 1; i <= 4; i++) {
+            zone.addSpot(new ParkingSpot("spot-s-" + i, zone));
+        }
+        zoneRepo.save(zone);
+
+        try (JournaledParkingSessionRepository repo = new JournaledParkingSessionRepository(dir)) {
+            assertEquals(2, repo.restoreSpotOccupancy(zoneRepo));
+
+            assertTrue(zoneRepo.findSpotById("spot-s-1").isOccupied());
+            assertTrue(zoneRepo.findSpotById("spot-s-2").isOccupied());
+            assertTrue(zoneRepo.findSpotById("spot-s-3").isFree());
+            assertEquals(2, zone.getFreeSpotsCount());
+            assertEquals(0, repo.restoreSpotOccupancy(zoneRepo));
+        }
+    }
+
+    @Test
+    @DisplayName("snapshots compact the journal and recovery replays only the tail")
+    void snapshotThenTail() throws IOException {
+        try (JournaledParkingSessionRepository repo = new JournaledParkingSessionRepository(dir, 4096, true)) {
+            for (int i = 0; i < 200; i++) {
+                repo.save(session("s-" + i, "user-" + (i % 10)));
+            }
+            for (int i = 0; i < 200; i += 2) {
+                repo.findById("s-" + i).orElseThrow().markPaid();
+            }
+            repo.snapshot();
+            repo.save(session("tail", "user-x"));
+        }
+
+        assertEquals(1, files(dir, ".snapshot"));
+        assertEquals(1, files(dir, ".journal"));
+
+        try (JournaledParkingSessionRepository repo = new JournaledParkingSessionRepository(dir, 4096, true)) {
+            assertEquals(201, repo.findAll().size());
+            assertEquals(SessionState.PAID, repo.findById("s-10").orElseThrow().getState());
+            assertEquals(SessionState.OPEN, repo.findById("s-11").orElseThrow().getState());
+            assertTrue(repo.findById("tail").isPresent());
+        }
+    }
+
+    @Test
+    @DisplayName("a torn record at the end of the journal is dropped on recovery")
+    void tornTailIsTruncated() throws IOException {
+        try (JournaledParkingSessionRepository repo = new JournaledParkingSessionRepository(dir)) {
+            repo.save(session("s-1", "user-1"));
+            repo.save(session("s-2", "user-1"));
+        }
+        Path journal;
+        try (Stream<Path> list = Files.list(dir)) {
+            journal = list.filter(p -> p.toString().endsWith(".journal")).findFirst().orElseThrow();
+        }
+        long intact = Files.size(journal);
+        Files.write(journal, new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (JournaledParkingSessionRepository repo = new JournaledParkingSessionRepository(dir)) {
+            assertEquals(2, repo.findAll().size());
+            assertEquals(intact, Files.size(journal));
+            repo.save(session("s-3", "user-1"));
+        }
+        try (JournaledParkingSessionRepository repo = new JournaledParkingSessionRepository(dir)) {
+            assertEquals(3, repo.findAll().size());
+        }
+    }
+
+    @Test
+    @DisplayName("concurrent writers share group commits and nothing acknowledged is lost")
+    void concurrentSavesAreDurable() throws Exception {
+        int threads = 8;
+        int perThread = 250;
+        try (JournaledParkingSessionRepository repo = new JournaledParkingSessionRepository(dir, 16 * 1024, true)) {
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        ParkingSession session = session("t" + thread + "-" + i, "user-" + thread);
+                        repo.save(session);
+                        if (i % 3 == 0) session.markPaid();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) future.get(60, TimeUnit.SECONDS);
+            pool.shutdown();
+        }
+
+        try (JournaledParkingSessionRepository repo = new JournaledParkingSessionRepository(dir, 16 * 1024, true)) {
+            assertEquals(threads * perThread, repo.findAll().size());
+            for (int t = 0; t < threads; t++) {
+                assertEquals(SessionState.PAID, repo.findById("t" + t + "-0").orElseThrow().getState());
+                assertEquals(SessionState.OPEN, repo.findById("t" + t + "-1").orElseThrow().getState());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("billing records survive a restart, including batches and snapshots")
+    void billingRecordsRecover() {
+        try (JournaledBillingRecordRepository repo = new JournaledBillingRecordRepository(dir, 1024, true)) {
+            repo.save(record("s-0"));
+            List<BillingRecord> batch = new ArrayList<>();
+            for (int i = 1; i <= 50; i++) batch.add(record("s-" + i));
+            repo.saveAll(batch);
+        }
+
+        try (JournaledBillingRecordRepository repo = new JournaledBillingRecordRepository(dir, 1024, true)) {
+            for (int i = 0; i <= 50; i++) {
+                assertTrue(repo.findBySessionId("s-" + i).isPresent(), "s-" + i);
+            }
+            BillingRecord recovered = repo.findBySessionId("s-7").orElseThrow();
+            assertEquals(ZoneType.VIP, recovered.getZoneType());
+            assertEquals(START.plusHours(3), recovered.getExitTime());
+            assertEquals(new BigDecimal("13.50"), recovered.getBillingResult().getNetPrice());
+            assertEquals(new BigDecimal("16.20"), recovered.getBillingResult().getFinalPrice());
+            assertEquals(BigDecimal.ZERO, recovered.getBillingResult().getPenaltiesTotal());
+        }
+    }
+}
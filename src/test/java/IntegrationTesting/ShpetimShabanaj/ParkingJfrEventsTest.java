@@ -0,0 +1,112 @@
+package IntegrationTesting.ShpetimShabanaj;
+
+import Controller.ParkingSessionController;
+import Dto.Session.StartSessionRequestDto;
+import Dto.Session.StartSessionResponseDto;
+import Enum.DayType;
+import Enum.TimeOfDayBand;
+import Enum.UserStatus;
+import Enum.ZoneType;
+import Model.*;
+import Repository.impl.InMemoryParkingSessionRepository;
+import Repository.impl.InMemoryParkingZoneRepository;
+import Service.impl.*;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParkingJfrEventsTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 5, 12, 9, 0);
+
+    private static List<RecordedEvent> events(List<RecordedEvent> all, String name) {
+        return all.stream().filter(e -> e.getEventType().getName().equals(name)).toList();
+    }
+
+    @Test
+    @DisplayName("session, allocation, billing and exit operations emit JFR events")
+    void recordsEvents(@TempDir Path dir) throws IOException {
+        InMemoryParkingZoneRepository zoneRepo = new InMemoryParkingZoneRepository();
+        ParkingZone zone = new ParkingZone("Z-EV", ZoneType.EV, 0.9);
+        zone.addSpot(new ParkingSpot("EV-1", zone));
+        zone.addSpot(new ParkingSpot("EV-2", zone));
+        zoneRepo.save(zone);
+        InMemoryParkingSessionRepository sessionRepo = new InMemoryParkingSessionRepository();
+        ParkingSessionController sessions = new ParkingSessionController(sessionRepo, zoneRepo);
+        DiscountInfo noDiscount = new DiscountInfo(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, false, 0);
+        SubscriptionPlan plan = new SubscriptionPlan(2, 1, 5, 10, false, true, false, noDiscount);
+        DefaultBillingService billing = new DefaultBillingService(new DefaultDurationCalculator(),
+                new DefaultPricingService(), new DefaultDiscountAndCapService(), new DefaultTaxService());
+
+        Path file = dir.resolve("parking.jfr");
+        String sessionId;
+        try (Recording recording = new Recording()) {
+            for (String name : List.of("parking.SessionLifecycle", "parking.SpotAllocation",
+                    "parking.Billing", "parking.ExitAuthorization")) {
+                recording.enable(name).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+
+            ParkingSpot spot = new ZoneAllocationServiceImpl().assignSpot(
+                    new SpotAssignmentRequest("u1", ZoneType.EV, plan, START), zone);
+            StartSessionResponseDto started = sessions.startSession(new StartSessionRequestDto(
+                    "u1", "AA-1", "Z-EV", spot.getSpotId(), ZoneType.EV, false, START));
+            billing.calculateBill(START, START.plusHours(2), ZoneType.EV, DayType.WEEKDAY, TimeOfDayBand.OFF_PEAK, 0.5,
+                    new Tariff(ZoneType.EV, BigDecimal.valueOf(2.5), BigDecimal.valueOf(20), BigDecimal.valueOf(0.05)),
+                    new DynamicPricingConfig(1.5, 1.0, 0.7), noDiscount, BigDecimal.ZERO, 24,
+                    BigDecimal.valueOf(1000), BigDecimal.valueOf(0.2));
+            new FixedPointBillingService(new DefaultDurationCalculator(), billing).calculateBill(
+                    START, START.plusHours(2), ZoneType.EV, DayType.WEEKDAY, TimeOfDayBand.OFF_PEAK, 0.5,
+                    new Tariff(ZoneType.EV, BigDecimal.valueOf(2.5), BigDecimal.valueOf(20), BigDecimal.valueOf(0.05)),
+                    new DynamicPricingConfig(1.5, 1.0, 0.7), noDiscount, BigDecimal.ZERO, 24,
+                    BigDecimal.valueOf(1000), BigDecimal.valueOf(0.2));
+            sessionId = started.sessionId();
+            ParkingSession session = sessionRepo.findById(sessionId).orElseThrow();
+            new ExitAuthorizationServiceImpl().authorizeExit(new User("u1", UserStatus.ACTIVE), session, "AA-1");
+            sessions.closeSession(sessionId, START.plusHours(2));
+            sessions.closeSession("missing", START.plusHours(2));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> all = RecordingFile.readAllEvents(file);
+
+        RecordedEvent allocation = events(all, "parking.SpotAllocation").get(0);
+        assertEquals("Z-EV", allocation.getString("zoneId"));
+        assertEquals("EV", allocation.getString("zoneType"));
+        assertEquals("ASSIGNED", allocation.getString("outcome"));
+        assertFalse(allocation.getDuration().isNegative());
+
+        List<RecordedEvent> lifecycle = events(all, "parking.SessionLifecycle");
+        assertEquals(List.of("START", "CLOSE", "CLOSE"), lifecycle.stream().map(e -> e.getString("action")).toList());
+        assertEquals(List.of("STARTED", "CLOSED", "NOT_FOUND"), lifecycle.stream().map(e -> e.getString("outcome")).toList());
+        assertEquals("Z-EV", lifecycle.get(1).getString("zoneId"));
+
+        List<RecordedEvent> bills = events(all, "parking.Billing");
+        assertEquals(2, bills.size());
+        for (RecordedEvent bill : bills) {
+            assertEquals("EV", bill.getString("zoneType"));
+            assertEquals(2, bill.getInt("billedHours"));
+            assertEquals("BILLED", bill.getString("outcome"));
+            assertTrue(bill.getDouble("totalAmount") > 0);
+        }
+        assertEquals(bills.get(0).getDouble("totalAmount"), bills.get(1).getDouble("totalAmount"));
+
+        RecordedEvent exit = events(all, "parking.ExitAuthorization").get(0);
+        assertEquals("SESSION_NOT_PAID", exit.getString("outcome"));
+        assertEquals(sessionId, exit.getString("sessionId"));
+    }
+}
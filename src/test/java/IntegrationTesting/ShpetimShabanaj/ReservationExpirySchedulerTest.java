@@ -0,0 +1,219 @@
+package IntegrationTesting.ShpetimShabanaj;
+
+import Controller.MonitoringController;
+import Controller.ParkingSessionController;
+import Controller.ZoneAllocationController;
+import Dto.Monitoring.ZoneOccupancyReportResponseDto;
+import Dto.Monitoring.ZoneReportRequestDto;
+import Dto.Session.StartSessionRequestDto;
+import Dto.Zone.SpotAssignmentRequestDto;
+import Dto.Zone.SpotAssignmentResponseDto;
+import Enum.SpotState;
+import Enum.ZoneType;
+import Model.ParkingSpot;
+import Model.ParkingZone;
+import Model.SubscriptionPlan;
+import Repository.impl.ConcurrentParkingSessionRepository;
+import Repository.impl.InMemoryParkingZoneRepository;
+import Repository.impl.InMemoryPenaltyHistoryRepository;
+import Repository.impl.InMemorySubscriptionPlanRepository;
+import Service.impl.MonitoringServiceImpl;
+import Service.impl.ReservationExpiryScheduler;
+import Service.impl.ZoneAllocationServiceImpl;
+import Service.impl.ZoneOccupancyServiceImpl;
+import Settings.Settings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReservationExpirySchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 5, 12, 9, 0);
+
+    InMemoryParkingZoneRepository zoneRepo;
+    ParkingZone zone;
+    ReservationExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setup() {
+        zoneRepo = new InMemoryParkingZoneRepository();
+        zone = new ParkingZone("Z1", ZoneType.STANDARD, 1.0);
+        for (int i = 1; i <= 3; i++) {
+            zone.addSpot(new ParkingSpot("S-" + i, zone));
+        }
+        zoneRepo.save(zone);
+        scheduler = new ReservationExpiryScheduler(Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC),
+                Duration.ofSeconds(1), 8);
+    }
+
+    // TC-01
+    @Test
+    @DisplayName("TC-01: Verify unclaimed reservations are freed after the hold and counted as no-shows")
+    void testNoShowsAreReleasedAndReported() {
+        var sessionRepo = new ConcurrentParkingSessionRepository();
+        var subscriptionRepo = new InMemorySubscriptionPlanRepository();
+        subscriptionRepo.save("U1", SubscriptionPlan.defaultPlan());
+        var zoneController = new ZoneAllocationController(new ZoneAllocationServiceImpl(), zoneRepo,
+                new ZoneOccupancyServiceImpl(zoneRepo, sessionRepo), subscriptionRepo);
+        zoneController.setReservationExpiry(scheduler);
+        var monitoringController = new MonitoringController(new MonitoringServiceImpl(),
+                new InMemoryPenaltyHistoryRepository(), zoneRepo);
+        monitoringController.setReservationExpiry(scheduler);
+
+        SpotAssignmentResponseDto first = zoneController.assignSpot(new SpotAssignmentRequestDto("U1", ZoneType.STANDARD, NOW));
+        SpotAssignmentResponseDto second = zoneController.assignSpot(new SpotAssignmentRequestDto("U1", ZoneType.STANDARD, NOW));
+        ParkingSpot arrived = zoneRepo.findSpotById(second.spotId());
+        arrived.occupy();
+        assertEquals(NOW.plus(Settings.RESERVATION_HOLD), zoneRepo.findSpotById(first.spotId()).getReservedUntil());
+
+        assertEquals(0, scheduler.advanceTo(NOW.plus(Settings.RESERVATION_HOLD).minusSeconds(1)));
+        assertEquals(SpotState.RESERVED, zoneRepo.findSpotById(first.spotId()).getState());
+
+        assertEquals(1, scheduler.advanceTo(NOW.plus(Settings.RESERVATION_HOLD)));
+        assertEquals(SpotState.FREE, zoneRepo.findSpotById(first.spotId()).getState());
+        assertEquals(SpotState.OCCUPIED, arrived.getState());
+        assertEquals(2, zone.getFreeSpotsCount());
+        assertEquals(0, scheduler.getPendingCount());
+
+        ZoneOccupancyReportResponseDto report = monitoringController.generateZoneReport(new ZoneReportRequestDto("Z1", 4, 99, 99));
+        assertEquals(2, report.totalReservations());
+        assertEquals(1, report.noShowReservations());
+    }
+
+    // TC-02
+    @Test
+    @DisplayName("TC-02: Verify a deadline beyond one wheel revolution is not released early")
+    void testDeadlineBeyondOneRevolution() {
+        ParkingSpot spot = zone.getSpots().get(0);
+        LocalDateTime deadline = NOW.plusSeconds(20);
+        assertTrue(spot.tryReserve(deadline));
+        scheduler.schedule(spot, spot.getReservation());
+
+        // ticks 4, 12 share bucket 4 with tick 20 on an 8-slot wheel
+        for (int second = 1; second < 20; second++) {
+            assertEquals(0, scheduler.advanceTo(NOW.plusSeconds(second)));
+        }
+        assertEquals(SpotState.RESERVED, spot.getState());
+        assertEquals(1, scheduler.advanceTo(NOW.plusSeconds(20)));
+        assertTrue(spot.isFree());
+    }
+
+    // TC-03
+    @Test
+    @DisplayName("TC-03: Verify a stale deadline does not free a spot reserved again, and a large jump releases everything due")
+    void testStaleEntryAndLargeJump() {
+        ParkingSpot spot = zone.getSpots().get(0);
+        LocalDateTime firstDeadline = NOW.plusSeconds(5);
+        spot.tryReserve(firstDeadline);
+        scheduler.schedule(spot, spot.getReservation());
+        spot.occupy();
+        spot.release();
+        LocalDateTime secondDeadline = NOW.plusSeconds(30);
+        spot.tryReserve(secondDeadline);
+        scheduler.schedule(spot, spot.getReservation());
+
+        ParkingSpot other = zone.getSpots().get(1);
+        other.tryReserve(NOW.plusSeconds(3));
+        scheduler.schedule(other, other.getReservation());
+
+        assertEquals(1, scheduler.advanceTo(NOW.plusSeconds(10)));
+        assertEquals(SpotState.RESERVED, spot.getState());
+        assertTrue(other.isFree());
+
+        assertEquals(1, scheduler.advanceTo(NOW.plusDays(1)));
+        assertTrue(spot.isFree());
+        assertEquals(2, scheduler.getNoShowCount("Z1"));
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    // TC-04
+    @Test
+    @DisplayName("TC-04: Verify a session cannot start on an expired reservation whose spot was reserved again")
+    void testExpiredReservationCannotStartSession() {
+        var sessionRepo = new ConcurrentParkingSessionRepository();
+        var subscriptionRepo = new InMemorySubscriptionPlanRepository();
+        subscriptionRepo.save("U1", SubscriptionPlan.defaultPlan());
+        var zoneController = new ZoneAllocationController(new ZoneAllocationServiceImpl(), zoneRepo,
+                new ZoneOccupancyServiceImpl(zoneRepo, sessionRepo), subscriptionRepo);
+        zoneController.setReservationExpiry(scheduler);
+        var sessionController = new ParkingSessionController(sessionRepo, zoneRepo);
+
+        SpotAssignmentResponseDto late = zoneController.assignSpot(new SpotAssignmentRequestDto("U1", ZoneType.STANDARD, NOW));
+        assertEquals(1, scheduler.advanceTo(NOW.plus(Settings.RESERVATION_HOLD)));
+        ParkingSpot spot = zoneRepo.findSpotById(late.spotId());
+        LocalDateTime nextDeadline = NOW.plus(Settings.RESERVATION_HOLD).plusMinutes(5);
+        assertTrue(spot.tryReserve(nextDeadline));
+        long nextReservation = spot.getReservation().id();
+
+        IllegalStateException expired = assertThrows(IllegalStateException.class, () -> sessionController.startSession(
+                new StartSessionRequestDto("U1", "P-1", "Z1", late.spotId(), ZoneType.STANDARD, false,
+                        NOW.plusMinutes(20), late.reservationId())));
+        assertTrue(expired.getMessage().contains("expired"));
+        assertEquals(SpotState.RESERVED, spot.getState());
+        assertEquals(nextDeadline, spot.getReservedUntil());
+        assertTrue(sessionRepo.findAll().isEmpty());
+
+        // the driver holding the current reservation still gets in
+        sessionController.startSession(new StartSessionRequestDto("U2", "P-2", "Z1", late.spotId(),
+                ZoneType.STANDARD, false, NOW.plusMinutes(21), nextReservation));
+        assertTrue(spot.isOccupied());
+    }
+
+    // TC-05
+    @Test
+    @DisplayName("TC-05: Verify a stale entry does not free or admit a later reservation with the same deadline")
+    void testStaleEntryWithEqualDeadline() {
+        ParkingSpot spot = zone.getSpots().get(0);
+        LocalDateTime deadline = NOW.plusSeconds(5);
+        assertTrue(spot.tryReserve(deadline));
+        ParkingSpot.Reservation first = spot.getReservation();
+        scheduler.schedule(spot, first);
+        spot.occupy();
+        spot.release();
+
+        // reserved again until the same instant; only the stale entry is on the wheel
+        assertTrue(spot.tryReserve(deadline));
+        ParkingSpot.Reservation second = spot.getReservation();
+        assertNotEquals(first.id(), second.id());
+
+        assertEquals(0, scheduler.advanceTo(NOW.plusSeconds(10)));
+        assertEquals(SpotState.RESERVED, spot.getState());
+        assertFalse(spot.occupyReservation(first.id()));
+        assertTrue(spot.occupyReservation(second.id()));
+        assertNull(spot.getReservation());
+    }
+
+    // TC-06
+    @Test
+    @DisplayName("TC-06: Verify a failing tick is reported to monitoring and the ticker keeps running")
+    void testTickFailureIsLogged() throws InterruptedException {
+        var monitoring = new MonitoringServiceImpl();
+        ParkingSpot broken = new ParkingSpot("S-X", zone) {
+            @Override
+            public boolean expireReservation(long reservationId) {
+                throw new IllegalStateException("spot unavailable");
+            }
+        };
+        try (var ticking = new ReservationExpiryScheduler(Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC),
+                Duration.ofMillis(10), 8, monitoring)) {
+            ticking.schedule(broken, new ParkingSpot.Reservation(1, NOW));
+            ticking.start();
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (monitoring.getLogs().size() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+
+        assertTrue(monitoring.getLogs().size() >= 2);
+        var logged = monitoring.getLogs().get(0);
+        assertEquals("RESERVATION_EXPIRY_FAILED", logged.getType());
+        assertTrue(logged.getDetails().contains("spot unavailable"));
+    }
+}
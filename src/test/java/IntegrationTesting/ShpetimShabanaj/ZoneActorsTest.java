@@ -0,0 +1,188 @@
+package IntegrationTesting.ShpetimShabanaj;
+
+import Controller.*;
+import Dto.Billing.BillingRequest;
+import Dto.Exit.ExitAuthorizationRequestDto;
+import Dto.Exit.ExitAuthorizationResponseDto;
+import Dto.Gate.GateEntryRequestDto;
+import Dto.Gate.GateEntryResponseDto;
+import Enum.*;
+import Gate.GateRequestExecutor;
+import Gate.ZoneActors;
+import Model.*;
+import Repository.impl.*;
+import Service.impl.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZoneActorsTest {
+
+    private static final LocalDateTime ARRIVAL = LocalDateTime.of(2026, 5, 12, 9, 0);
+
+    ZoneActors actors;
+    GateRequestExecutor gate;
+
+    @AfterEach
+    void tearDown() {
+        if (gate != null) gate.close();
+        if (actors != null) actors.close();
+    }
+
+    // TC-01
+    @Test
+    @DisplayName("TC-01: Verify one zone runs its messages one at a time in order while other zones run in parallel")
+    void testSerializedPerZoneParallelAcrossZones() throws Exception {
+        actors = new ZoneActors(4);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> order = new ArrayList<>();   // only touched from Z1's actor
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int n = i;
+            results.add(actors.submit("Z1", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                order.add(n);
+                running.decrementAndGet();
+                return n;
+            }));
+        }
+
+        // Z2 can only finish while Z3 is running at the same time
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        CompletableFuture<Boolean> z2 = actors.submit("Z2", () -> countDownAndAwait(bothStarted));
+        CompletableFuture<Boolean> z3 = actors.submit("Z3", () -> countDownAndAwait(bothStarted));
+
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).get(5, TimeUnit.SECONDS));
+        }
+        assertTrue(z2.get(5, TimeUnit.SECONDS));
+        assertTrue(z3.get(5, TimeUnit.SECONDS));
+        assertEquals(1, maxRunning.get());
+        assertEquals(500, order.size());
+        for (int i = 0; i < order.size(); i++) {
+            assertEquals(i, order.get(i));
+        }
+        assertEquals(502, actors.getProcessedCount());
+    }
+
+    // TC-02
+    @Test
+    @DisplayName("TC-02: Verify a failing message fails only its own future, and work after close is rejected")
+    void testFailuresAndClose() throws Exception {
+        actors = new ZoneActors(1);
+        CompletableFuture<String> failing = actors.submit("Z1", () -> {
+            throw new IllegalStateException("boom");
+        });
+        CompletableFuture<String> next = actors.submit("Z1", () -> "ok");
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> failing.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+        assertEquals("ok", next.get(5, TimeUnit.SECONDS));
+
+        actors.close();
+        CompletableFuture<String> late = actors.submit("Z1", () -> "late");
+        ExecutionException rejected = assertThrows(ExecutionException.class, () -> late.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, rejected.getCause());
+    }
+
+    // TC-03
+    @Test
+    @DisplayName("TC-03: Verify the gate in actor mode spreads entries over zones and leaves them empty after exits")
+    void testGateActorMode() throws Exception {
+        var zoneRepo = new InMemoryParkingZoneRepository();
+        var sessionRepo = new ConcurrentParkingSessionRepository();
+        var userRepo = new InMemoryUserRepository();
+        var vehicleRepo = new InMemoryVehicleRepository();
+        var subscriptionRepo = new InMemorySubscriptionPlanRepository();
+        var occupancyService = new ZoneOccupancyServiceImpl(zoneRepo, sessionRepo);
+        for (int z = 1; z <= 4; z++) {
+            ParkingZone zone = new ParkingZone("Z" + z, ZoneType.STANDARD, 1.0);
+            for (int i = 1; i <= 10; i++) {
+                zone.addSpot(new ParkingSpot("Z" + z + "-S" + i, zone));
+            }
+            zoneRepo.save(zone);
+        }
+        for (int i = 1; i <= 40; i++) {
+            userRepo.save(new User("U" + i, UserStatus.ACTIVE));
+            vehicleRepo.save(new Vehicle("P-" + i, "U" + i));
+            subscriptionRepo.save("U" + i, SubscriptionPlan.defaultPlan());
+        }
+        var eligibilityController = new EligibilityController(new EligibilityServiceImpl(), userRepo, vehicleRepo, subscriptionRepo, sessionRepo);
+        var zoneController = new ZoneAllocationController(new ZoneAllocationServiceImpl(), zoneRepo, occupancyService, subscriptionRepo);
+        var sessionController = new ParkingSessionController(sessionRepo, zoneRepo);
+        var billingController = new BillingController(
+                new DefaultBillingService(new DefaultDurationCalculator(), new DefaultPricingService(),
+                        new DefaultDiscountAndCapService(), new DefaultTaxService()),
+                new InMemoryTariffRepository(Map.of(ZoneType.STANDARD,
+                        new Tariff(ZoneType.STANDARD, BigDecimal.valueOf(3), BigDecimal.valueOf(25), BigDecimal.valueOf(0.10)))),
+                new InMemoryDynamicPricingConfigRepository(new DynamicPricingConfig(1.5, 1.0, 0.7)),
+                new InMemoryBillingRecordRepository(), sessionRepo, new InMemoryPenaltyHistoryRepository(), subscriptionRepo);
+        var exitController = new ExitAuthorizationController(new ExitAuthorizationServiceImpl(), userRepo, sessionRepo, zoneRepo);
+
+        actors = new ZoneActors(2);
+        gate = new GateRequestExecutor(eligibilityController, zoneController, sessionController, billingController,
+                exitController, sessionRepo, null, 64, Duration.ofSeconds(5), actors);
+
+        List<CompletableFuture<GateEntryResponseDto>> entries = new ArrayList<>();
+        for (int i = 1; i <= 40; i++) {
+            entries.add(gate.submitEntry(new GateEntryRequestDto("U" + i, "P-" + i, ZoneType.STANDARD, false, ARRIVAL)));
+        }
+        // admit the whole garage before anyone leaves, so a freed spot cannot be handed out again
+        List<GateEntryResponseDto> admitted = new ArrayList<>();
+        Set<String> spots = new HashSet<>();
+        for (CompletableFuture<GateEntryResponseDto> future : entries) {
+            GateEntryResponseDto entry = future.get(5, TimeUnit.SECONDS);
+            assertTrue(entry.admitted(), entry::reason);
+            assertTrue(spots.add(entry.spotId()), entry::spotId);
+            admitted.add(entry);
+        }
+        // 40 distinct spots out of 40: every zone was filled without double-booking a spot
+        assertEquals(40, spots.size());
+        for (int z = 1; z <= 4; z++) {
+            assertEquals(0, zoneRepo.findById("Z" + z).getFreeSpotsCount());
+        }
+
+        List<CompletableFuture<ExitAuthorizationResponseDto>> exits = new ArrayList<>();
+        for (int i = 0; i < admitted.size(); i++) {
+            String sessionId = admitted.get(i).session().sessionId();
+            String plate = "P-" + (i + 1);
+            String userId = "U" + (i + 1);
+            exits.add(gate.submitBilling(new BillingRequest(sessionId, ZoneType.STANDARD, DayType.WEEKDAY,
+                            TimeOfDayBand.OFF_PEAK, 0.5, ARRIVAL.plusHours(2), BigDecimal.ZERO, 0))
+                    .thenCompose(bill -> gate.submitExit(new ExitAuthorizationRequestDto(userId, sessionId, plate))));
+        }
+        for (CompletableFuture<ExitAuthorizationResponseDto> exit : exits) {
+            assertTrue(exit.get(5, TimeUnit.SECONDS).allowed());
+        }
+
+        for (int z = 1; z <= 4; z++) {
+            assertEquals(10, zoneRepo.findById("Z" + z).getFreeSpotsCount());
+        }
+        // each entry ran at least one message, each billing and exit exactly one
+        assertTrue(actors.getProcessedCount() >= 120);
+    }
+
+    private static boolean countDownAndAwait(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
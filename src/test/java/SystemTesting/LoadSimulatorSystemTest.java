@@ -0,0 +1,65 @@
+package SystemTesting;
+
+import Enum.DayType;
+import Enum.ZoneType;
+import Simulation.LoadSimulator;
+import Simulation.SimulationReport;
+import Simulation.TrafficProfile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadSimulatorSystemTest {
+
+    // TC-01
+    @Test
+    @DisplayName("TC-01: Verify a multi-threaded weekday run leaves spots, sessions and billing consistent")
+    void testWeekdayRunIsConsistent() throws Exception {
+        SimulationReport report = new LoadSimulator(
+                new LoadSimulator.Config(2_000, 4, 0, DayType.WEEKDAY, 150, 700, 7)).run();
+
+        assertTrue(report.violations().isEmpty(), () -> String.join("\n", report.violations()));
+        assertTrue(report.errors().isEmpty(), () -> report.errors().toString());
+        assertTrue(report.isConsistent());
+        assertEquals(2_000, report.visits());
+        long rejected = report.rejections().values().stream().mapToLong(Long::longValue).sum();
+        assertEquals(report.visits(), report.admitted() + rejected);
+        assertEquals(report.admitted(), report.departed());
+        assertTrue(report.admitted() > 0);
+        assertTrue(report.operations() > report.visits());
+    }
+
+    // TC-02
+    @Test
+    @DisplayName("TC-02: Verify weekday-only EV plans are turned away on a weekend")
+    void testWeekendRejectsWeekdayOnlyPlans() throws Exception {
+        SimulationReport report = new LoadSimulator(
+                new LoadSimulator.Config(1_000, 2, 0, DayType.WEEKEND, 150, 400, 7)).run();
+
+        assertTrue(report.isConsistent(), report::toText);
+        assertTrue(report.rejections().getOrDefault("WEEKDAY_ONLY_PLAN", 0L) > 0);
+    }
+
+    // TC-03
+    @Test
+    @DisplayName("TC-03: Verify the same seed generates the same day of visits")
+    void testProfileIsDeterministicPerSeed() {
+        TrafficProfile profile = TrafficProfile.forDay(DayType.WEEKDAY);
+        LocalDate date = LocalDate.of(2026, 5, 12);
+
+        List<TrafficProfile.Visit> first = profile.generate(500, date, new Random(11));
+        List<TrafficProfile.Visit> second = profile.generate(500, date, new Random(11));
+
+        assertEquals(first, second);
+        for (int i = 1; i < first.size(); i++) {
+            assertFalse(first.get(i).arrival().isBefore(first.get(i - 1).arrival()));
+        }
+        assertTrue(first.stream().allMatch(v -> v.arrival().toLocalDate().equals(date)));
+        assertTrue(first.stream().filter(v -> v.zoneType() == ZoneType.STANDARD).count() > 300);
+    }
+}
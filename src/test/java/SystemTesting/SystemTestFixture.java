@@ -194,7 +194,8 @@ public class SystemTestFixture {
                                 assignment.spotId(),
                                 assignment.zoneType(),
                                 false,
-                                LocalDateTime.now()
+                                LocalDateTime.now(),
+                                assignment.reservationId()
                         )
                 );
 
@@ -55,7 +55,7 @@ class ParkingSessionControllerStartSessionTest {
         ParkingSpot spot = new ParkingSpot("spot-1", zone);
         zone.addSpot(spot);
 
-        when(mockZoneRepo.findById("zone-1")).thenReturn(zone);
+        when(mockZoneRepo.findSpotById("spot-1")).thenReturn(spot);
 
         StartSessionResponseDto response = controller.startSession(dto);
 
@@ -92,13 +92,37 @@ class ParkingSessionControllerStartSessionTest {
         ParkingSpot spot = new ParkingSpot("spot-1", zone);
         zone.addSpot(spot);
 
-        when(mockZoneRepo.findById("zone-1")).thenReturn(zone);
+        when(mockZoneRepo.findSpotById("spot-1")).thenReturn(spot);
 
         controller.startSession(dto);
 
         assertTrue(spot.isOccupied());
     }
 
+    @Test
+    @DisplayName("rejects a spot that belongs to another zone")
+    void testStartSession_SpotInOtherZone() {
+        StartSessionRequestDto dto = new StartSessionRequestDto(
+                "user-1",
+                "ABC123",
+                "zone-1",
+                "spot-9",
+                ZoneType.STANDARD,
+                false,
+                LocalDateTime.now()
+        );
+
+        ParkingZone otherZone = new ParkingZone("zone-2", ZoneType.STANDARD, 0.8);
+        ParkingSpot spot = new ParkingSpot("spot-9", otherZone);
+        otherZone.addSpot(spot);
+
+        when(mockZoneRepo.findSpotById("spot-9")).thenReturn(spot);
+
+        assertThrows(IllegalStateException.class, () -> controller.startSession(dto));
+        assertTrue(spot.isFree());
+        verify(mockSessionRepo, never()).save(any(ParkingSession.class));
+    }
+
     @Test
     @DisplayName("determines correct day type for weekday")
     void testStartSession_WeekdayDayType() {
@@ -118,7 +142,7 @@ class ParkingSessionControllerStartSessionTest {
         ParkingSpot spot = new ParkingSpot("spot-1", zone);
         zone.addSpot(spot);
 
-        when(mockZoneRepo.findById("zone-1")).thenReturn(zone);
+        when(mockZoneRepo.findSpotById("spot-1")).thenReturn(spot);
 
         StartSessionResponseDto response = controller.startSession(dto);
 
@@ -144,7 +168,7 @@ class ParkingSessionControllerStartSessionTest {
         ParkingSpot spot = new ParkingSpot("spot-1", zone);
         zone.addSpot(spot);
 
-        when(mockZoneRepo.findById("zone-1")).thenReturn(zone);
+        when(mockZoneRepo.findSpotById("spot-1")).thenReturn(spot);
 
         StartSessionResponseDto response = controller.startSession(dto);
 
@@ -0,0 +1,203 @@
+package UnitTesting.ShpetimShabanaj;
+
+import Controller.BillingController;
+import Dto.Billing.BillingBatchItemResponse;
+import Dto.Billing.BillingRequest;
+import Enum.DayType;
+import Enum.SessionState;
+import Enum.TimeOfDayBand;
+import Enum.ZoneType;
+import Model.*;
+import Repository.*;
+import Service.BillingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BillingControllerCalculateBillsTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 20, 10, 0);
+    private static final LocalDateTime EXIT = START.plusHours(2);
+
+    @Mock private BillingService billingService;
+    @Mock private TariffRepository tariffRepo;
+    @Mock private DynamicPricingConfigRepository configRepo;
+    @Mock private BillingRecordRepository billingRecordRepo;
+    @Mock private ParkingSessionRepository sessionRepo;
+    @Mock private PenaltyHistoryRepository penaltyRepo;
+    @Mock private SubscriptionPlanRepository planRepo;
+
+    private BillingController controller;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        controller = new BillingController(
+                billingService, tariffRepo, configRepo, billingRecordRepo,
+                sessionRepo, penaltyRepo, planRepo
+        );
+
+        when(tariffRepo.findByZoneType(ZoneType.STANDARD)).thenReturn(mock(Tariff.class));
+        when(configRepo.getActiveConfig()).thenReturn(mock(DynamicPricingConfig.class));
+        when(planRepo.getPlanForUser("user-1")).thenReturn(Optional.of(
+                new SubscriptionPlan(1, 1, 10, 8.0, false, false, false, mock(DiscountInfo.class))
+        ));
+        when(billingService.calculateBill(
+                any(), any(), any(), any(), any(),
+                anyDouble(), any(), any(), any(),
+                any(), anyInt(), any(), any()
+        )).thenReturn(new BillingResult(
+                new BigDecimal("10.00"), BigDecimal.ZERO, BigDecimal.ZERO,
+                new BigDecimal("10.00"), new BigDecimal("2.00"), new BigDecimal("12.00")
+        ));
+    }
+
+    private ParkingSession session(String id) {
+        ParkingSession session = new ParkingSession(
+                id, "user-1", "AA-" + id, "zone-1", "spot-1",
+                TimeOfDayBand.OFF_PEAK, DayType.WEEKDAY, ZoneType.STANDARD, START
+        );
+        when(sessionRepo.findById(id)).thenReturn(Optional.of(session));
+        return session;
+    }
+
+    private BillingRequest request(String sessionId) {
+        return new BillingRequest(
+                sessionId, ZoneType.STANDARD, DayType.WEEKDAY, TimeOfDayBand.OFF_PEAK,
+                0.5, EXIT, BigDecimal.ZERO, 24
+        );
+    }
+
+    @Test
+    @DisplayName("bills every session, loads shared inputs once and persists records in one write")
+    void calculateBills_AllSucceed() {
+        List<ParkingSession> sessions = new ArrayList<>();
+        List<BillingRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            sessions.add(session("s-" + i));
+            requests.add(request("s-" + i));
+        }
+
+        List<BillingBatchItemResponse> responses = controller.calculateBills(requests);
+
+        assertEquals(50, responses.size());
+        for (int i = 0; i < 50; i++) {
+            assertTrue(responses.get(i).succeeded());
+            assertEquals("s-" + i, responses.get(i).sessionId());
+            assertEquals(new BigDecimal("12.00"), responses.get(i).response().finalPrice());
+            assertEquals(SessionState.PAID, sessions.get(i).getState());
+        }
+
+        verify(configRepo, times(1)).getActiveConfig();
+        verify(tariffRepo, times(1)).findByZoneType(ZoneType.STANDARD);
+        verify(planRepo, times(1)).getPlanForUser("user-1");
+        verify(penaltyRepo, times(1)).findById("user-1");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<BillingRecord>> records = ArgumentCaptor.forClass(Collection.class);
+        verify(billingRecordRepo, times(1)).saveAll(records.capture());
+        verify(billingRecordRepo, never()).save(any());
+        assertEquals(50, records.getValue().size());
+    }
+
+    @Test
+    @DisplayName("reports per-item failures without affecting the rest of the batch")
+    void calculateBills_PartialFailures() {
+        ParkingSession ok = session("ok");
+        ParkingSession paid = session("paid");
+        paid.markPaid();
+        ParkingSession early = session("early");
+
+        BillingRequest earlyExit = new BillingRequest(
+                "early", ZoneType.STANDARD, DayType.WEEKDAY, TimeOfDayBand.OFF_PEAK,
+                0.5, START.minusHours(1), BigDecimal.ZERO, 24
+        );
+
+        List<BillingBatchItemResponse> responses = controller.calculateBills(List.of(
+                request("ok"), request("missing"), request("paid"), request("ok"), earlyExit
+        ));
+
+        assertTrue(responses.get(0).succeeded());
+        assertEquals("Session not found: missing", responses.get(1).failureReason());
+        assertEquals("Session already paid: paid", responses.get(2).failureReason());
+        assertEquals("Session billed twice in batch: ok", responses.get(3).failureReason());
+        assertFalse(responses.get(4).succeeded());
+        assertEquals("early", responses.get(4).sessionId());
+
+        assertEquals(SessionState.PAID, ok.getState());
+        assertNotEquals(SessionState.PAID, early.getState());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<BillingRecord>> records = ArgumentCaptor.forClass(Collection.class);
+        verify(billingRecordRepo, times(1)).saveAll(records.capture());
+        assertEquals(1, records.getValue().size());
+    }
+
+    @Test
+    @DisplayName("a billing service failure only fails its own item")
+    void calculateBills_ServiceFailure() {
+        session("a");
+        ParkingSession b = session("b");
+        BillingRequest failing = new BillingRequest(
+                "b", ZoneType.STANDARD, DayType.WEEKDAY, TimeOfDayBand.PEAK,
+                0.5, EXIT, BigDecimal.ZERO, 24
+        );
+        when(billingService.calculateBill(
+                any(), any(), any(), any(), eq(TimeOfDayBand.PEAK),
+                anyDouble(), any(), any(), any(),
+                any(), anyInt(), any(), any()
+        )).thenThrow(new IllegalArgumentException("bad input"));
+
+        List<BillingBatchItemResponse> responses = controller.calculateBills(List.of(request("a"), failing));
+
+        assertTrue(responses.get(0).succeeded());
+        assertEquals("bad input", responses.get(1).failureReason());
+        assertNotEquals(SessionState.PAID, b.getState());
+    }
+
+    @Test
+    @DisplayName("a session paid by another biller while its bill is computed is not billed again")
+    void calculateBills_PaidConcurrently() {
+        session("a");
+        ParkingSession raced = session("raced");
+        BillingRequest racing = new BillingRequest(
+                "raced", ZoneType.STANDARD, DayType.WEEKDAY, TimeOfDayBand.PEAK,
+                0.5, EXIT, BigDecimal.ZERO, 24
+        );
+        when(billingService.calculateBill(
+                any(), any(), any(), any(), eq(TimeOfDayBand.PEAK),
+                anyDouble(), any(), any(), any(),
+                any(), anyInt(), any(), any()
+        )).thenAnswer(invocation -> {
+            raced.compareAndSetState(SessionState.OPEN, SessionState.PAID);
+            return new BillingResult(
+                    new BigDecimal("10.00"), BigDecimal.ZERO, BigDecimal.ZERO,
+                    new BigDecimal("10.00"), new BigDecimal("2.00"), new BigDecimal("12.00"));
+        });
+
+        List<BillingBatchItemResponse> responses = controller.calculateBills(List.of(request("a"), racing));
+
+        assertTrue(responses.get(0).succeeded());
+        assertEquals("Session already paid: raced", responses.get(1).failureReason());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<BillingRecord>> records = ArgumentCaptor.forClass(Collection.class);
+        verify(billingRecordRepo, times(1)).saveAll(records.capture());
+        assertEquals(1, records.getValue().size());
+        assertEquals("a", records.getValue().iterator().next().getSessionId());
+    }
+}
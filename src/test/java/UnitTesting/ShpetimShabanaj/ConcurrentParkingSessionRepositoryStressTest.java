@@ -0,0 +1,149 @@
+package UnitTesting.ShpetimShabanaj;
+
+import Enum.DayType;
+import Enum.SessionState;
+import Enum.TimeOfDayBand;
+import Enum.ZoneType;
+import Model.ParkingSession;
+import Repository.impl.ConcurrentParkingSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentParkingSessionRepositoryStressTest {
+    private static final int SESSIONS_PER_THREAD = 2_000;
+
+    ConcurrentParkingSessionRepository repository;
+
+    @BeforeEach
+    void setup() {
+        repository = new ConcurrentParkingSessionRepository();
+    }
+
+    // TC-01
+    @Test
+    @DisplayName("TC-01: Verify concurrent saves from many gates lose no sessions")
+    void testConcurrentSavesLoseNothing() throws Exception {
+        int threads = 8;
+        runOnThreads(threads, t -> {
+            for (int i = 0; i < SESSIONS_PER_THREAD; i++) {
+                repository.save(createSession("S-" + t + "-" + i, "U" + (i % 10), "P-" + t + "-" + i, "Z" + t));
+            }
+        });
+
+        int total = threads * SESSIONS_PER_THREAD;
+        int perUser = total / 10;
+        assertAll(
+                () -> assertEquals(total, repository.findAll().size()),
+                () -> assertEquals(perUser, repository.getActiveSessionsCountForUser("U0")),
+                () -> assertEquals(SESSIONS_PER_THREAD, repository.getActiveSessionsCountForZone("Z3")),
+                () -> assertEquals(1, repository.getActiveSessionsCountForVehicle("P-7-1999"))
+        );
+    }
+
+    // TC-02
+    @Test
+    @DisplayName("TC-02: Verify only one gate wins the OPEN -> PAID transition of a session")
+    void testPaymentTransitionIsAtomic() throws Exception {
+        ParkingSession session = createSession("S1", "U1", "AA111", "Z1");
+        repository.save(session);
+        AtomicInteger winners = new AtomicInteger();
+
+        runOnThreads(16, t -> {
+            if (session.compareAndSetState(SessionState.OPEN, SessionState.PAID)) {
+                winners.incrementAndGet();
+            }
+        });
+
+        assertEquals(1, winners.get());
+        assertEquals(SessionState.PAID, session.getState());
+        assertFalse(repository.hasUnpaidSessionsForUser("U1"));
+    }
+
+    // TC-03
+    @Test
+    @DisplayName("TC-03: Verify concurrent pay and close on distinct sessions leave no active sessions behind")
+    void testConcurrentLifecycleLeavesNoActiveSessions() throws Exception {
+        int threads = 8;
+        runOnThreads(threads, t -> {
+            for (int i = 0; i < SESSIONS_PER_THREAD; i++) {
+                ParkingSession session = createSession("S-" + t + "-" + i, "U" + t, "P" + t, "Z1");
+                repository.save(session);
+                session.markPaid();
+                session.close(LocalDateTime.now());
+            }
+        });
+
+        assertAll(
+                () -> assertEquals(threads * SESSIONS_PER_THREAD, repository.findAll().size()),
+                () -> assertEquals(0, repository.getActiveSessionsCountForZone("Z1")),
+                () -> assertTrue(repository.findAll().stream().allMatch(s -> s.getState() == SessionState.CLOSED)),
+                () -> assertTrue(repository.findAll().stream().allMatch(s -> s.getEndTime() != null))
+        );
+    }
+
+    // TC-04
+    @Test
+    @DisplayName("TC-04: Verify concurrent deletes and reads keep the indexes consistent")
+    void testConcurrentDeletesAndReads() throws Exception {
+        List<ParkingSession> saved = new ArrayList<>();
+        for (int i = 0; i < SESSIONS_PER_THREAD; i++) {
+            ParkingSession session = createSession("S" + i, "U1", "AA111", "Z1");
+            repository.save(session);
+            saved.add(session);
+        }
+
+        runOnThreads(4, t -> {
+            for (int i = t; i < saved.size(); i += 4) {
+                repository.delete(saved.get(i));
+                assertTrue(repository.getActiveSessionsCountForUser("U1") >= 0);
+            }
+        });
+
+        assertEquals(0, repository.findAll().size());
+        assertEquals(0, repository.getActiveSessionsCountForUser("U1"));
+        assertTrue(repository.findActiveSessionsForVehicle("AA111").isEmpty());
+    }
+
+    private interface ThreadBody {
+        void run(int threadIndex) throws Exception;
+    }
+
+    private static void runOnThreads(int threads, ThreadBody body) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            futures.add(pool.submit(() -> {
+                start.await();
+                body.run(index);
+                return null;
+            }));
+        }
+        start.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static ParkingSession createSession(String id, String userId, String plate, String zoneId) {
+        return new ParkingSession(
+                id, userId, plate, zoneId, "spot-1",
+                TimeOfDayBand.PEAK, DayType.WEEKDAY, ZoneType.STANDARD,
+                LocalDateTime.now()
+        );
+    }
+}
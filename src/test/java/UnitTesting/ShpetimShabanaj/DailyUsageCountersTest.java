@@ -0,0 +1,131 @@
+package UnitTesting.ShpetimShabanaj;
+
+import Enum.DayType;
+import Enum.TimeOfDayBand;
+import Enum.ZoneType;
+import Model.ParkingSession;
+import Repository.ParkingSessionRepository;
+import Repository.impl.ConcurrentParkingSessionRepository;
+import Repository.impl.InMemoryParkingSessionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DailyUsageCountersTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Tirane");
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(LocalDateTime start) {
+            this.instant = start.atZone(ZONE).toInstant();
+        }
+
+        void set(LocalDateTime time) {
+            instant = time.atZone(ZONE).toInstant();
+        }
+
+        @Override public ZoneId getZone() { return ZONE; }
+        @Override public Clock withZone(ZoneId zone) { throw new UnsupportedOperationException(); }
+        @Override public Instant instant() { return instant; }
+    }
+
+    private static ParkingSessionRepository repository(String kind, Clock clock) {
+        return kind.equals("concurrent")
+                ? new ConcurrentParkingSessionRepository(clock)
+                : new InMemoryParkingSessionRepository(clock);
+    }
+
+    private static ParkingSession session(String id, String userId, LocalDateTime start) {
+        return new ParkingSession(id, userId, "PL-" + id, "zone-1", "spot-1",
+                TimeOfDayBand.OFF_PEAK, DayType.WEEKDAY, ZoneType.STANDARD, start);
+    }
+
+    private static final LocalDate DAY = LocalDate.of(2026, 5, 12);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"inMemory", "concurrent"})
+    @DisplayName("only today's sessions and today's minutes are counted")
+    void countsOnlyToday(String kind) {
+        MutableClock clock = new MutableClock(DAY.atTime(12, 0));
+        ParkingSessionRepository repo = repository(kind, clock);
+
+        ParkingSession yesterday = session("y", "u1", DAY.minusDays(1).atTime(8, 0));
+        repo.save(yesterday);
+        yesterday.close(DAY.minusDays(1).atTime(18, 0));
+
+        ParkingSession overnight = session("o", "u1", DAY.minusDays(1).atTime(22, 0));
+        repo.save(overnight);
+        overnight.close(DAY.atTime(1, 30));
+
+        ParkingSession morning = session("m", "u1", DAY.atTime(9, 0));
+        repo.save(morning);
+        morning.close(DAY.atTime(10, 0));
+
+        repo.save(session("other", "u2", DAY.atTime(9, 0)));
+
+        assertEquals(1, repo.getSessionsCountForToday("u1"));
+        // 90 minutes after midnight + 60 minutes
+        assertEquals(3, repo.getHoursUsedTodayForUser("u1"));
+        assertEquals(1, repo.getSessionsCountForToday("u2"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"inMemory", "concurrent"})
+    @DisplayName("open sessions grow with the clock and closing them freezes their minutes")
+    void openAndClose(String kind) {
+        MutableClock clock = new MutableClock(DAY.atTime(9, 0));
+        ParkingSessionRepository repo = repository(kind, clock);
+
+        assertEquals(0, repo.getHoursUsedTodayForUser("u1"));
+
+        ParkingSession session = session("s", "u1", DAY.atTime(9, 0));
+        repo.save(session);
+        assertEquals(1, repo.getSessionsCountForToday("u1"));
+        assertEquals(0, repo.getHoursUsedTodayForUser("u1"));
+
+        clock.set(DAY.atTime(11, 30));
+        assertEquals(3, repo.getHoursUsedTodayForUser("u1"));
+
+        session.close(DAY.atTime(11, 0));
+        clock.set(DAY.atTime(15, 0));
+        assertEquals(2, repo.getHoursUsedTodayForUser("u1"));
+
+        repo.delete(session);
+        assertEquals(0, repo.getSessionsCountForToday("u1"));
+        assertEquals(0, repo.getHoursUsedTodayForUser("u1"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"inMemory", "concurrent"})
+    @DisplayName("counters roll over at local midnight and open sessions carry over from 00:00")
+    void rollsOverAtMidnight(String kind) {
+        MutableClock clock = new MutableClock(DAY.atTime(20, 0));
+        ParkingSessionRepository repo = repository(kind, clock);
+
+        ParkingSession closed = session("c", "u1", DAY.atTime(8, 0));
+        repo.save(closed);
+        closed.close(DAY.atTime(12, 0));
+        ParkingSession open = session("o", "u1", DAY.atTime(22, 0));
+        repo.save(open);
+
+        clock.set(DAY.atTime(23, 59));
+        assertEquals(2, repo.getSessionsCountForToday("u1"));
+        assertEquals(6, repo.getHoursUsedTodayForUser("u1"));
+
+        clock.set(DAY.plusDays(1).atTime(0, 45));
+        assertEquals(0, repo.getSessionsCountForToday("u1"));
+        assertEquals(1, repo.getHoursUsedTodayForUser("u1"));
+
+        open.close(DAY.plusDays(1).atTime(2, 0));
+        repo.save(session("n", "u1", DAY.plusDays(1).atTime(3, 0)));
+        clock.set(DAY.plusDays(1).atTime(3, 0));
+        assertEquals(1, repo.getSessionsCountForToday("u1"));
+        assertEquals(2, repo.getHoursUsedTodayForUser("u1"));
+    }
+}
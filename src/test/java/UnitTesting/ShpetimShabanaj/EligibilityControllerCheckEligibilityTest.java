@@ -7,6 +7,7 @@ import Model.EligibilityResult;
 import Model.SubscriptionPlan;
 import Model.User;
 import Model.Vehicle;
+import Repository.ParkingSessionRepository;
 import Repository.SubscriptionPlanRepository;
 import Repository.UserRepository;
 import Repository.VehicleRepository;
@@ -40,6 +41,9 @@ public class EligibilityControllerCheckEligibilityTest {
     @Mock
     private SubscriptionPlanRepository planRepository;
 
+    @Mock
+    private ParkingSessionRepository sessionRepository;
+
     @InjectMocks
     private EligibilityController controller;
 
@@ -0,0 +1,216 @@
+package UnitTesting.ShpetimShabanaj;
+
+import Enum.BackPressurePolicy;
+import Model.LogEvent;
+import Service.impl.EventLog;
+import Service.impl.MonitoringServiceImpl;
+import Settings.Settings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventLogTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 5, 12, 14, 0);
+
+    private static LogEvent event(int i) {
+        return new LogEvent(T0.plusSeconds(i), "INFO", "event " + i);
+    }
+
+    // Holds the writer inside its first batch until released.
+    private static final class GatedSink implements EventLog.Sink {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<LogEvent> written = new ArrayList<>();
+
+        @Override
+        public void write(List<LogEvent> batch) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (written) {
+                written.addAll(batch);
+            }
+        }
+
+        @Override
+        public void close() { }
+    }
+
+    private static List<String> lines(Path dir) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : files.sorted().toList()) {
+                lines.addAll(Files.readAllLines(file));
+            }
+        }
+        return lines;
+    }
+
+    @Test
+    @DisplayName("without a sink the log keeps only the most recent events")
+    void memoryOnlyIsBounded() {
+        EventLog log = new EventLog(4);
+        for (int i = 0; i < 6; i++) {
+            assertTrue(log.offer(event(i)));
+        }
+
+        assertEquals(4, log.size());
+        assertEquals("event 2", log.get(0).getDetails());
+        assertEquals("event 5", log.get(3).getDetails());
+        assertThrows(IndexOutOfBoundsException.class, () -> log.get(4));
+        assertEquals(0, log.getDroppedCount());
+
+        MonitoringServiceImpl service = new MonitoringServiceImpl();
+        for (int i = 0; i < Settings.EVENT_LOG_CAPACITY + 10; i++) {
+            service.logEvent(event(i));
+        }
+        assertEquals(Settings.EVENT_LOG_CAPACITY, service.getLogs().size());
+    }
+
+    @Test
+    @DisplayName("events offered after close are refused and counted as dropped")
+    void refusesAfterClose(@TempDir Path dir) {
+        EventLog memoryOnly = new EventLog(4);
+        assertTrue(memoryOnly.offer(event(0)));
+        memoryOnly.close();
+        assertFalse(memoryOnly.offer(event(1)));
+        assertEquals(1, memoryOnly.size());
+        assertEquals(1, memoryOnly.getDroppedCount());
+
+        EventLog written = new EventLog(4, BackPressurePolicy.DROP, dir);
+        assertTrue(written.offer(event(0)));
+        written.close();
+        assertFalse(written.offer(event(1)));
+        assertEquals(1, written.getFlushedCount());
+        assertEquals(1, written.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("the writer appends every event as one escaped line")
+    void writesLines(@TempDir Path dir) throws IOException {
+        try (EventLog log = new EventLog(64, BackPressurePolicy.BLOCK, dir)) {
+            for (int i = 0; i < 500; i++) {
+                log.offer(event(i));
+            }
+            log.offer(new LogEvent(T0, "WARN", "tab\there\nnew line \\ done"));
+            log.flush();
+
+            assertEquals(501, log.getFlushedCount());
+            assertEquals(0, log.getDroppedCount());
+            assertEquals(0, log.getPendingCount());
+        }
+
+        List<String> lines = lines(dir);
+        assertEquals(501, lines.size());
+        assertEquals(T0 + "\tINFO\tevent 0", lines.get(0));
+        assertEquals(T0 + "\tWARN\ttab\\there\\nnew line \\\\ done", lines.get(500));
+    }
+
+    @Test
+    @DisplayName("files roll over at the size limit and only the newest are kept")
+    void rollsFiles(@TempDir Path dir) throws IOException {
+        try (EventLog log = new EventLog(16, BackPressurePolicy.BLOCK, dir, 1024, 3)) {
+            for (int i = 0; i < 1000; i++) {
+                log.offer(event(i));
+            }
+        }
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(3, files.count());
+        }
+        List<String> lines = lines(dir);
+        assertTrue(lines.size() < 1000);
+        assertEquals(T0.plusSeconds(999) + "\tINFO\tevent 999", lines.get(lines.size() - 1));
+
+        // a restart starts a new file after the existing ones
+        try (EventLog log = new EventLog(16, BackPressurePolicy.BLOCK, dir, 1024, 3)) {
+            log.offer(event(1000));
+        }
+        List<String> after = lines(dir);
+        assertEquals(T0.plusSeconds(1000) + "\tINFO\tevent 1000", after.get(after.size() - 1));
+    }
+
+    @Test
+    @DisplayName("DROP refuses new events while the ring is full of unwritten ones")
+    void dropPolicy() throws InterruptedException {
+        GatedSink sink = new GatedSink();
+        EventLog log = new EventLog(8, BackPressurePolicy.DROP, sink);
+        log.offer(event(0));
+        assertTrue(sink.entered.await(5, TimeUnit.SECONDS));
+
+        for (int i = 1; i <= 20; i++) {
+            log.offer(event(i));
+        }
+        assertEquals(12, log.getDroppedCount());
+        assertEquals(8, log.getPendingCount());
+
+        sink.release.countDown();
+        log.close();
+        assertEquals(9, log.getFlushedCount());
+        assertEquals("event 8", sink.written.get(8).getDetails());
+    }
+
+    @Test
+    @DisplayName("SAMPLE admits one in every N new events by evicting the oldest unwritten one")
+    void samplePolicy() throws InterruptedException {
+        GatedSink sink = new GatedSink();
+        EventLog log = new EventLog(8, BackPressurePolicy.SAMPLE, sink);
+        log.offer(event(0));
+        assertTrue(sink.entered.await(5, TimeUnit.SECONDS));
+
+        int burst = 8 + 2 * Settings.EVENT_LOG_SAMPLE_EVERY;
+        for (int i = 1; i <= burst; i++) {
+            log.offer(event(i));
+        }
+        assertEquals(2 * Settings.EVENT_LOG_SAMPLE_EVERY, log.getDroppedCount());
+        assertEquals(8, log.getPendingCount());
+
+        sink.release.countDown();
+        log.close();
+        List<String> details = sink.written.stream().map(LogEvent::getDetails).toList();
+        assertEquals(9, details.size());
+        assertEquals("event 3", details.get(1));
+        assertEquals("event " + (8 + Settings.EVENT_LOG_SAMPLE_EVERY), details.get(7));
+        assertEquals("event " + burst, details.get(8));
+    }
+
+    @Test
+    @DisplayName("BLOCK makes producers wait until the writer has made room")
+    void blockPolicy() throws InterruptedException {
+        GatedSink sink = new GatedSink();
+        EventLog log = new EventLog(8, BackPressurePolicy.BLOCK, sink);
+        log.offer(event(0));
+        assertTrue(sink.entered.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i <= 8; i++) {
+            log.offer(event(i));
+        }
+
+        Thread producer = new Thread(() -> log.offer(event(9)));
+        producer.start();
+        producer.join(300);
+        assertTrue(producer.isAlive());
+
+        sink.release.countDown();
+        producer.join(5000);
+        assertFalse(producer.isAlive());
+        log.close();
+        assertEquals(0, log.getDroppedCount());
+        assertEquals(10, log.getFlushedCount());
+    }
+}
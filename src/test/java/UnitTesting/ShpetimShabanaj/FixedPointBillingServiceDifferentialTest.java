@@ -0,0 +1,186 @@
+package UnitTesting.ShpetimShabanaj;
+
+import Enum.DayType;
+import Enum.TimeOfDayBand;
+import Enum.ZoneType;
+import Model.BillingResult;
+import Model.DiscountInfo;
+import Model.DynamicPricingConfig;
+import Model.Tariff;
+import Service.BillingService;
+import Service.impl.*;
+import Settings.Settings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import Record.DurationInfo;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FixedPointBillingServiceDifferentialTest {
+    private static final double[] MULTIPLIERS = {1.0, 1.1, 1.2, 1.25, 1.5, 1.75, 2.0, 1.05, 1.3333, 2.125};
+    private static final BigDecimal[] TAX_RATES = {
+            Settings.TAX_RATIO, BigDecimal.ZERO, new BigDecimal("0.18"), new BigDecimal("0.075"), BigDecimal.ONE
+    };
+
+    private BillingService reference;
+    private FixedPointBillingService fixedPoint;
+    private final AtomicInteger fallbackCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        reference = new DefaultBillingService(
+                new DefaultDurationCalculator(),
+                new DefaultPricingService(),
+                new DefaultDiscountAndCapService(),
+                new DefaultTaxService()
+        );
+        fixedPoint = new FixedPointBillingService(new DefaultDurationCalculator(), countingFallback(reference));
+    }
+
+    // TC-01
+    @Test
+    @DisplayName("TC-01: Verify the fixed-point engine matches the BigDecimal path on a fixed scenario")
+    void testKnownScenario() {
+        Tariff tariff = new Tariff(ZoneType.STANDARD, new BigDecimal("2.55"), new BigDecimal("20.00"), new BigDecimal("12.5"));
+        DynamicPricingConfig config = new DynamicPricingConfig(1.5, 0.8, 1.2);
+        DiscountInfo discount = new DiscountInfo(new BigDecimal("0.1"), new BigDecimal("0.05"), new BigDecimal("1.00"), false, 0);
+        LocalDateTime entry = LocalDateTime.of(2025, 6, 14, 9, 0);
+
+        BillingResult expected = reference.calculateBill(entry, entry.plusMinutes(185), ZoneType.STANDARD, DayType.WEEKEND,
+                TimeOfDayBand.PEAK, 0.5, tariff, config, discount, new BigDecimal("5"), 24, null, Settings.TAX_RATIO);
+        BillingResult actual = fixedPoint.calculateBill(entry, entry.plusMinutes(185), ZoneType.STANDARD, DayType.WEEKEND,
+                TimeOfDayBand.PEAK, 0.5, tariff, config, discount, new BigDecimal("5"), 24, null, Settings.TAX_RATIO);
+
+        assertSameBill(expected, actual, "known scenario");
+    }
+
+    // TC-02
+    @Test
+    @DisplayName("TC-02: Verify the fixed-point engine matches the BigDecimal path to the cent on randomized inputs")
+    void testRandomizedInputsMatch() {
+        Random random = new Random(303);
+        for (int i = 0; i < 200_000; i++) {
+            Tariff tariff = new Tariff(
+                    ZoneType.STANDARD,
+                    BigDecimal.valueOf(random.nextInt(5_000), 2),
+                    random.nextInt(4) == 0 ? null : BigDecimal.valueOf(random.nextInt(10_000), 2),
+                    randomSurcharge(random)
+            );
+            DynamicPricingConfig config = new DynamicPricingConfig(
+                    pick(random), random.nextDouble(), pick(random)
+            );
+            DiscountInfo discount = new DiscountInfo(
+                    BigDecimal.valueOf(random.nextInt(3) == 0 ? 0 : random.nextInt(10_001), 4),
+                    BigDecimal.valueOf(random.nextInt(3) == 0 ? 0 : random.nextInt(10_001), 4),
+                    BigDecimal.valueOf(random.nextInt(2) == 0 ? 0 : random.nextInt(2_000), 2),
+                    false, 0
+            );
+            LocalDateTime entry = LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(random.nextInt(500_000));
+            LocalDateTime exit = entry.plusMinutes(random.nextInt(60 * 30));
+            DayType dayType = DayType.values()[random.nextInt(DayType.values().length)];
+            TimeOfDayBand band = TimeOfDayBand.values()[random.nextInt(TimeOfDayBand.values().length)];
+            double occupancy = random.nextDouble();
+            BigDecimal penalties = BigDecimal.valueOf(random.nextInt(2) == 0 ? 0 : random.nextInt(50_000), random.nextInt(3));
+            BigDecimal taxRate = TAX_RATES[random.nextInt(TAX_RATES.length)];
+
+            Object expected = bill(reference, entry, exit, dayType, band, occupancy, tariff, config, discount, penalties, taxRate);
+            Object actual = bill(fixedPoint, entry, exit, dayType, band, occupancy, tariff, config, discount, penalties, taxRate);
+
+            String label = "case " + i;
+            if (expected instanceof BillingResult expectedBill) {
+                assertInstanceOf(BillingResult.class, actual, label);
+                assertSameBill(expectedBill, (BillingResult) actual, label);
+            } else {
+                assertEquals(expected.getClass(), actual.getClass(), label);
+            }
+        }
+
+        // the long path, not the fallback, must carry the bulk of the input space
+        assertTrue(fallbackCalls.get() < 200_000 / 4, "fallback calls: " + fallbackCalls.get());
+    }
+
+    // TC-03
+    @Test
+    @DisplayName("TC-03: Verify invalid inputs raise the same errors as the BigDecimal path")
+    void testInvalidInputsMatch() {
+        Tariff tariff = new Tariff(ZoneType.STANDARD, new BigDecimal("2.00"), null, null);
+        DynamicPricingConfig config = new DynamicPricingConfig(1.5, 0.8, 1.2);
+        DiscountInfo discount = new DiscountInfo(null, null, null, false, 0);
+        LocalDateTime entry = LocalDateTime.of(2025, 6, 10, 9, 0);
+
+        Object negativePenalty = bill(fixedPoint, entry, entry.plusHours(1), DayType.WEEKDAY, TimeOfDayBand.PEAK,
+                0.1, tariff, config, discount, new BigDecimal("-1"), Settings.TAX_RATIO);
+        Object exitBeforeEntry = bill(fixedPoint, entry, entry.minusHours(1), DayType.WEEKDAY, TimeOfDayBand.PEAK,
+                0.1, tariff, config, discount, BigDecimal.ZERO, Settings.TAX_RATIO);
+        Object nullDayType = bill(fixedPoint, entry, entry.plusHours(1), null, TimeOfDayBand.PEAK,
+                0.1, tariff, config, discount, BigDecimal.ZERO, Settings.TAX_RATIO);
+
+        assertAll(
+                () -> assertInstanceOf(IllegalArgumentException.class, negativePenalty),
+                () -> assertInstanceOf(IllegalArgumentException.class, exitBeforeEntry),
+                () -> assertInstanceOf(NullPointerException.class, nullDayType)
+        );
+    }
+
+    private BillingService countingFallback(BillingService delegate) {
+        return new BillingService() {
+            @Override
+            public BillingResult calculateBill(LocalDateTime entryTime, LocalDateTime exitTime, ZoneType zoneType,
+                                               DayType dayType, TimeOfDayBand timeOfDayBand, double occupancyRatio,
+                                               Tariff tariff, DynamicPricingConfig dynamicConfig,
+                                               DiscountInfo discountInfo, BigDecimal penalties, int maxDurationHours,
+                                               BigDecimal maxPriceCap, BigDecimal taxRate) {
+                fallbackCalls.incrementAndGet();
+                return delegate.calculateBill(entryTime, exitTime, zoneType, dayType, timeOfDayBand, occupancyRatio,
+                        tariff, dynamicConfig, discountInfo, penalties, maxDurationHours, maxPriceCap, taxRate);
+            }
+
+            @Override
+            public DurationInfo calculateDuration(LocalDateTime entryTime, LocalDateTime exitTime, int maxDurationHours) {
+                return delegate.calculateDuration(entryTime, exitTime, maxDurationHours);
+            }
+        };
+    }
+
+    private static Object bill(BillingService service, LocalDateTime entry, LocalDateTime exit, DayType dayType,
+                               TimeOfDayBand band, double occupancy, Tariff tariff, DynamicPricingConfig config,
+                               DiscountInfo discount, BigDecimal penalties, BigDecimal taxRate) {
+        try {
+            return service.calculateBill(entry, exit, ZoneType.STANDARD, dayType, band, occupancy, tariff, config,
+                    discount, penalties, 24, Settings.MAX_PRICE_CAPACITY, taxRate);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private static void assertSameBill(BillingResult expected, BillingResult actual, String label) {
+        assertAll(label,
+                () -> assertEquals(0, expected.getBasePrice().compareTo(actual.getBasePrice()), "basePrice"),
+                () -> assertEquals(0, expected.getDiscountsTotal().compareTo(actual.getDiscountsTotal()), "discountsTotal"),
+                () -> assertEquals(0, expected.getPenaltiesTotal().compareTo(actual.getPenaltiesTotal()), "penaltiesTotal"),
+                () -> assertEquals(0, expected.getNetPrice().compareTo(actual.getNetPrice()), "netPrice"),
+                () -> assertEquals(0, expected.getTaxAmount().compareTo(actual.getTaxAmount()), "taxAmount"),
+                () -> assertEquals(0, expected.getFinalPrice().compareTo(actual.getFinalPrice()), "finalPrice")
+        );
+    }
+
+    private static BigDecimal randomSurcharge(Random random) {
+        return switch (random.nextInt(5)) {
+            case 0 -> null;
+            case 1 -> BigDecimal.valueOf(-random.nextInt(1_000), 1);
+            case 2 -> BigDecimal.ZERO;
+            default -> BigDecimal.valueOf(random.nextInt(10_000), random.nextInt(3));
+        };
+    }
+
+    private static double pick(Random random) {
+        return MULTIPLIERS[random.nextInt(MULTIPLIERS.length)];
+    }
+}
@@ -0,0 +1,159 @@
+package UnitTesting.ShpetimShabanaj;
+
+import Controller.ParkingZoneController;
+import Dto.Zone.LayoutImportErrorDto;
+import Dto.Zone.LayoutImportResultDto;
+import Enum.ZoneType;
+import Model.ParkingSpot;
+import Model.ParkingZone;
+import Repository.impl.InMemoryParkingZoneRepository;
+import Service.impl.GarageLayoutImporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GarageLayoutImporterTest {
+
+    InMemoryParkingZoneRepository repository;
+    GarageLayoutImporter importer;
+
+    @BeforeEach
+    void setup() {
+        repository = new InMemoryParkingZoneRepository();
+        importer = new GarageLayoutImporter(repository);
+    }
+
+    // TC-01
+    @Test
+    @DisplayName("TC-01: Verify bad CSV lines are reported by line number and good lines are still imported")
+    void testCsvPerLineErrors() {
+        ParkingZone existing = new ParkingZone("Z-OLD", ZoneType.STANDARD, 0.9);
+        existing.addSpot(new ParkingSpot("OLD-1", existing));
+        repository.save(existing);
+
+        String csv = String.join("\n",
+                "zoneId,zoneType,maxOccupancyThreshold,spotId",
+                "Z1,STANDARD,0.9,S-1",
+                "Z1,STANDARD,0.9,S-2",
+                "Z2,TRUCK,0.9,T-1",
+                "Z1,STANDARD,abc,S-3",
+                "Z1,STANDARD,0.9,S-1",
+                "Z1,STANDARD,0.9",
+                "",
+                "# EV bays",
+                "Z3,ev,0.8,EV-1",
+                "Z1,VIP,0.9,S-4",
+                "Z-OLD,STANDARD,0.9,OLD-1",
+                "Z-OLD,STANDARD,0.9,OLD-2",
+                "Z4,VIP,0.7,");
+
+        LayoutImportResultDto result = importer.importCsv(new StringReader(csv));
+
+        assertEquals(3, result.zonesCreated());
+        assertEquals(4, result.spotsCreated());
+        assertEquals(6, result.errorCount());
+        assertEquals(List.of(4L, 5L, 6L, 7L, 11L, 12L), result.errors().stream().map(LayoutImportErrorDto::line).toList());
+
+        assertEquals(2, repository.findById("Z1").getTotalSpots());
+        assertEquals(ZoneType.EV, repository.findById("Z3").getZoneType());
+        assertEquals(0, repository.findById("Z4").getTotalSpots());
+        assertSame(existing, repository.findZoneBySpotId("OLD-2"));
+        assertFalse(repository.zoneExists("Z2"));
+    }
+
+    // TC-02
+    @Test
+    @DisplayName("TC-02: Verify a binary layout round-trips, and a truncated one keeps what was read")
+    void testBinaryRoundTripAndTruncation() throws Exception {
+        ParkingZone standard = new ParkingZone("Z-STANDARD", ZoneType.STANDARD, 0.9);
+        for (int i = 1; i <= 3; i++) {
+            standard.addSpot(new ParkingSpot("S-" + i, standard));
+        }
+        ParkingZone ev = new ParkingZone("Z-EV", ZoneType.EV, 0.8);
+        ev.addSpot(new ParkingSpot("EV-1", ev));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GarageLayoutImporter.writeBinary(List.of(standard, ev), out);
+        byte[] layout = out.toByteArray();
+
+        LayoutImportResultDto result = importer.importBinary(new ByteArrayInputStream(layout));
+        assertEquals(new LayoutImportResultDto(2, 4, 0, List.of()), result);
+        assertEquals(0.8, repository.findById("Z-EV").getMaxOccupancyThreshold());
+        assertEquals("Z-STANDARD", repository.findZoneBySpotId("S-3").getZoneId());
+
+        // cut inside the EV zone header: the standard zone survives, one error is reported
+        InMemoryParkingZoneRepository fresh = new InMemoryParkingZoneRepository();
+        LayoutImportResultDto truncated = new GarageLayoutImporter(fresh)
+                .importBinary(new ByteArrayInputStream(Arrays.copyOf(layout, layout.length - 12)));
+        assertEquals(1, truncated.zonesCreated());
+        assertEquals(3, truncated.spotsCreated());
+        assertEquals(1, truncated.errorCount());
+        assertFalse(fresh.zoneExists("Z-EV"));
+    }
+
+    // TC-03
+    @Test
+    @DisplayName("TC-03: Verify a 100k-spot CSV file imports through the controller in one pass")
+    void testLargeCsvFileThroughController(@TempDir Path dir) throws Exception {
+        StringBuilder csv = new StringBuilder("zoneId,zoneType,maxOccupancyThreshold,spotId\n");
+        for (int i = 0; i < 100_000; i++) {
+            csv.append("Z").append(i % 50).append(",STANDARD,0.9,S-").append(i).append('\n');
+        }
+        Path file = dir.resolve("garage.csv");
+        Files.writeString(file, csv);
+
+        LayoutImportResultDto result = new ParkingZoneController(repository).importLayout(file);
+
+        assertEquals(50, result.zonesCreated());
+        assertEquals(100_000, result.spotsCreated());
+        assertEquals(0, result.errorCount());
+        assertEquals(2_000, repository.findById("Z7").getTotalSpots());
+        assertSame(repository.findById("Z7"), repository.findZoneBySpotId("S-99957"));
+    }
+
+    // TC-04
+    @Test
+    @DisplayName("TC-04: Verify corrupt counts in a binary layout are reported instead of presizing from them")
+    void testBinaryCorruptCounts() throws Exception {
+        ParkingZone standard = new ParkingZone("Z-STANDARD", ZoneType.STANDARD, 0.9);
+        standard.addSpot(new ParkingSpot("S-1", standard));
+        ParkingZone ev = new ParkingZone("Z-EV", ZoneType.EV, 0.8);
+        ev.addSpot(new ParkingSpot("EV-1", ev));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GarageLayoutImporter.writeBinary(List.of(standard, ev), out);
+        byte[] layout = out.toByteArray();
+
+        // header total (after magic, version and zone count) far beyond what the file holds
+        byte[] hugeTotal = layout.clone();
+        ByteBuffer.wrap(hugeTotal).putInt(10, 1_900_000_000);
+        LayoutImportResultDto result = importer.importBinary(new ByteArrayInputStream(hugeTotal));
+        assertEquals(new LayoutImportResultDto(2, 2, 0, List.of()), result);
+
+        // the EV zone's own count, just before its single "EV-1" record
+        byte[] hugeZone = layout.clone();
+        ByteBuffer.wrap(hugeZone).putInt(layout.length - 6 - 4, 1_900_000_000);
+        InMemoryParkingZoneRepository fresh = new InMemoryParkingZoneRepository();
+        LayoutImportResultDto corrupt = new GarageLayoutImporter(fresh).importBinary(new ByteArrayInputStream(hugeZone));
+        assertEquals(1, corrupt.zonesCreated());
+        assertEquals(1, corrupt.spotsCreated());
+        assertEquals(1, corrupt.errorCount());
+        assertEquals(3L, corrupt.errors().get(0).line());
+        assertFalse(fresh.zoneExists("Z-EV"));
+
+        byte[] negativeZone = layout.clone();
+        ByteBuffer.wrap(negativeZone).putInt(layout.length - 6 - 4, -1);
+        assertEquals(1, new GarageLayoutImporter(new InMemoryParkingZoneRepository())
+                .importBinary(new ByteArrayInputStream(negativeZone)).errorCount());
+    }
+}
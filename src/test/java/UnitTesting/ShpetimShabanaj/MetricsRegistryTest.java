@@ -0,0 +1,107 @@
+package UnitTesting.ShpetimShabanaj;
+
+import Controller.EligibilityController;
+import Dto.Eligibility.EligibilityRequestDto;
+import Metrics.LatencyHistogram;
+import Metrics.MetricsRegistry;
+import Model.EligibilityResult;
+import Model.SubscriptionPlan;
+import Model.User;
+import Model.Vehicle;
+import Record.OperationStats;
+import Repository.SubscriptionPlanRepository;
+import Repository.UserRepository;
+import Repository.VehicleRepository;
+import Service.EligibilityService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MetricsRegistryTest {
+
+    @Test
+    @DisplayName("percentiles are within the histogram's relative precision")
+    void percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long v = 1; v <= 100_000; v++) {
+            histogram.record(v * 1000);
+        }
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000_000, histogram.getMax());
+        assertEquals(50_000_000, histogram.valueAtPercentile(50), 50_000_000 / 64.0);
+        assertEquals(99_000_000, histogram.valueAtPercentile(99), 99_000_000 / 64.0);
+        assertEquals(99_900_000, histogram.valueAtPercentile(99.9), 99_900_000 / 64.0);
+        assertEquals(100_000_000, histogram.valueAtPercentile(100));
+        assertEquals(50_000_500, histogram.getMean(), 1);
+
+        LatencyHistogram small = new LatencyHistogram();
+        small.record(3);
+        small.record(100);
+        assertEquals(3, small.valueAtPercentile(50));
+        assertEquals(100, small.valueAtPercentile(99));
+        assertEquals(0, new LatencyHistogram().valueAtPercentile(99));
+    }
+
+    @Test
+    @DisplayName("timed calls are recorded per outcome, exceptions included")
+    void timedOutcomes() {
+        MetricsRegistry metrics = new MetricsRegistry();
+
+        assertEquals("a", MetricsRegistry.timed(metrics, "op", () -> "a", r -> "OK"));
+        MetricsRegistry.timed(metrics, "op", () -> "b", r -> "OK");
+        assertThrows(NoSuchElementException.class, () -> MetricsRegistry.timed(metrics, "op",
+                () -> { throw new NoSuchElementException(); }, r -> "OK"));
+        assertEquals("c", MetricsRegistry.timed(null, "op", () -> "c", r -> "OK"));
+        metrics.increment("calls");
+        metrics.add("calls", 2);
+
+        List<OperationStats> stats = metrics.snapshot();
+        assertEquals(2, stats.size());
+        assertEquals("NoSuchElementException", stats.get(0).outcome());
+        assertEquals(1, stats.get(0).count());
+        assertEquals("OK", stats.get(1).outcome());
+        assertEquals(2, stats.get(1).count());
+        assertEquals(3, metrics.getCounter("calls"));
+
+        String text = metrics.dumpText();
+        assertTrue(text.contains("NoSuchElementException"));
+        String json = metrics.dumpJson();
+        assertTrue(json.startsWith("{\"operations\":[{\"operation\":\"op\",\"outcome\":\"NoSuchElementException\",\"count\":1,"));
+        assertTrue(json.endsWith("\"counters\":{\"calls\":3}}"));
+    }
+
+    @Test
+    @DisplayName("controller entry points report denial reasons as outcomes")
+    void controllerOutcomes() {
+        EligibilityService service = mock(EligibilityService.class);
+        UserRepository userRepo = mock(UserRepository.class);
+        VehicleRepository vehicleRepo = mock(VehicleRepository.class);
+        SubscriptionPlanRepository planRepo = mock(SubscriptionPlanRepository.class);
+        when(userRepo.findById("u1")).thenReturn(Optional.of(mock(User.class)));
+        when(vehicleRepo.findByPlate("AA-1")).thenReturn(Optional.of(mock(Vehicle.class)));
+        when(planRepo.getPlanForUser("u1")).thenReturn(Optional.of(mock(SubscriptionPlan.class)));
+        when(service.canStartSession(any(), any(), anyInt(), anyInt(), anyInt(), anyDouble(), any(), anyBoolean(), any()))
+                .thenReturn(EligibilityResult.allowed(), EligibilityResult.denied("UNPAID_SESSIONS_EXIST"));
+
+        EligibilityController controller = new EligibilityController(service, userRepo, vehicleRepo, planRepo);
+        MetricsRegistry metrics = new MetricsRegistry();
+        controller.setMetrics(metrics);
+
+        EligibilityRequestDto dto = new EligibilityRequestDto("u1", "AA-1", 0, 0, 0, 0, false, LocalDateTime.now());
+        controller.checkEligibility(dto);
+        controller.checkEligibility(dto);
+
+        assertEquals(List.of("ALLOWED", "UNPAID_SESSIONS_EXIST"),
+                metrics.snapshot().stream().map(OperationStats::outcome).toList());
+        assertTrue(metrics.snapshot().stream().allMatch(s -> s.operation().equals("eligibility.checkEligibility")));
+    }
+}
@@ -24,8 +24,8 @@ public class MonitoringServiceLogEventTest {
 
         monitoringService.logEvent(mockEvent);
 
-        assertEquals(1, monitoringService.logs.size());
-        assertEquals(mockEvent, monitoringService.logs.get(0));
+        assertEquals(1, monitoringService.getLogs().size());
+        assertEquals(mockEvent, monitoringService.getLogs().get(0));
     }
 
     @Test
@@ -33,7 +33,7 @@ public class MonitoringServiceLogEventTest {
     void testLogNullEvent() {
         monitoringService.logEvent(null);
 
-        assertTrue(monitoringService.logs.isEmpty());
+        assertTrue(monitoringService.getLogs().isEmpty());
     }
 
     @Test
@@ -46,9 +46,9 @@ public class MonitoringServiceLogEventTest {
         monitoringService.logEvent(secondEvent);
 
         assertAll("Verify logs content and order",
-                () -> assertEquals(2, monitoringService.logs.size()),
-                () -> assertEquals(firstEvent, monitoringService.logs.get(0)),
-                () -> assertEquals(secondEvent, monitoringService.logs.get(1))
+                () -> assertEquals(2, monitoringService.getLogs().size()),
+                () -> assertEquals(firstEvent, monitoringService.getLogs().get(0)),
+                () -> assertEquals(secondEvent, monitoringService.getLogs().get(1))
         );
     }
 }
@@ -0,0 +1,131 @@
+package UnitTesting.ShpetimShabanaj;
+
+import Enum.DayType;
+import Enum.SessionState;
+import Enum.TimeOfDayBand;
+import Enum.ZoneType;
+import Model.ParkingSession;
+import Repository.impl.InMemoryParkingSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParkingSessionRepositoryIndexTest {
+    InMemoryParkingSessionRepository repository;
+
+    @BeforeEach
+    void setup() {
+        repository = new InMemoryParkingSessionRepository();
+    }
+
+    // TC-01
+    @Test
+    @DisplayName("TC-01: Verify closing a saved session removes it from the active indexes without re-saving")
+    void testCloseUpdatesActiveIndexes() {
+        ParkingSession session = createSession("S1", "U1", "AA111", "Z1");
+        repository.save(session);
+
+        session.close(LocalDateTime.now());
+
+        assertAll(
+                () -> assertEquals(0, repository.getActiveSessionsCountForUser("U1")),
+                () -> assertEquals(0, repository.getActiveSessionsCountForVehicle("AA111")),
+                () -> assertEquals(0, repository.getActiveSessionsCountForZone("Z1")),
+                () -> assertTrue(repository.findActiveSessionsForUser("U1").isEmpty()),
+                () -> assertTrue(repository.findById("S1").isPresent())
+        );
+    }
+
+    // TC-02
+    @Test
+    @DisplayName("TC-02: Verify a paid session stays active but is no longer unpaid")
+    void testMarkPaidKeepsSessionActive() {
+        ParkingSession session = createSession("S1", "U1", "AA111", "Z1");
+        repository.save(session);
+        assertTrue(repository.hasUnpaidSessionsForUser("U1"));
+
+        session.markPaid();
+
+        assertEquals(1, repository.getActiveSessionsCountForUser("U1"));
+        assertFalse(repository.hasUnpaidSessionsForUser("U1"));
+    }
+
+    // TC-03
+    @Test
+    @DisplayName("TC-03: Verify delete removes the session from every index")
+    void testDeleteRemovesFromIndexes() {
+        ParkingSession session = createSession("S1", "U1", "AA111", "Z1");
+        repository.save(session);
+
+        repository.delete(session);
+
+        assertEquals(0, repository.getActiveSessionsCountForUser("U1"));
+        assertEquals(0, repository.getActiveSessionsCountForVehicle("AA111"));
+        assertEquals(0, repository.getActiveSessionsCountForZone("Z1"));
+
+        // a deleted session must not be re-indexed by later state changes
+        session.setState(SessionState.OPEN);
+        assertEquals(0, repository.getActiveSessionsCountForUser("U1"));
+    }
+
+    // TC-04
+    @Test
+    @DisplayName("TC-04: Verify zone lookups only return active sessions of that zone")
+    void testFindActiveSessionsForZone() {
+        ParkingSession s1 = createSession("S1", "U1", "AA111", "Z1");
+        ParkingSession s2 = createSession("S2", "U2", "BB222", "Z1");
+        ParkingSession s3 = createSession("S3", "U3", "CC333", "Z2");
+        repository.save(s1);
+        repository.save(s2);
+        repository.save(s3);
+        s2.close(LocalDateTime.now());
+
+        List<ParkingSession> result = repository.findActiveSessionsForZone("Z1");
+
+        assertEquals(List.of(s1), result);
+        assertEquals(1, repository.getActiveSessionsCountForZone("Z2"));
+    }
+
+    // TC-05
+    @Test
+    @DisplayName("TC-05: Verify saving a new instance with the same id replaces the old index entries")
+    void testSaveReplacesPreviousInstance() {
+        ParkingSession original = createSession("S1", "U1", "AA111", "Z1");
+        repository.save(original);
+        ParkingSession replacement = createSession("S1", "U2", "BB222", "Z2");
+        repository.save(replacement);
+
+        assertEquals(0, repository.getActiveSessionsCountForUser("U1"));
+        assertEquals(1, repository.getActiveSessionsCountForUser("U2"));
+
+        // the replaced instance no longer drives the indexes
+        original.close(LocalDateTime.now());
+        assertEquals(1, repository.getActiveSessionsCountForUser("U2"));
+    }
+
+    // TC-06
+    @Test
+    @DisplayName("TC-06: Verify re-opening a closed session puts it back into the active indexes")
+    void testReopenRestoresActiveIndexes() {
+        ParkingSession session = createSession("S1", "U1", "AA111", "Z1");
+        repository.save(session);
+        session.close(LocalDateTime.now());
+
+        session.setState(SessionState.PAID);
+
+        assertEquals(1, repository.getActiveSessionsCountForVehicle("AA111"));
+    }
+
+    private ParkingSession createSession(String id, String userId, String plate, String zoneId) {
+        return new ParkingSession(
+                id, userId, plate, zoneId, "spot-1",
+                TimeOfDayBand.PEAK, DayType.WEEKDAY, ZoneType.STANDARD,
+                LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,79 @@
+package UnitTesting.ShpetimShabanaj;
+
+import Enum.SpotState;
+import Enum.ZoneType;
+import Model.ParkingSpot;
+import Model.ParkingZone;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParkingZoneFreeSpotIndexTest {
+    private ParkingZone zone;
+
+    @BeforeEach
+    void setUp() {
+        zone = new ParkingZone("Z1", ZoneType.STANDARD, 0.8);
+    }
+
+    // TC-01
+    @Test
+    @DisplayName("TC-01: Verify a spot added while not FREE is not counted as free")
+    void testAddNonFreeSpot() {
+        ParkingSpot spot = new ParkingSpot("S1", zone);
+        spot.occupy();
+
+        zone.addSpot(spot);
+
+        assertEquals(0, zone.getFreeSpotsCount());
+        assertFalse(zone.hasFreeSpot());
+        assertNull(zone.getFirstFreeSpot());
+    }
+
+    // TC-02
+    @Test
+    @DisplayName("TC-02: Verify setState keeps the free-spot index current")
+    void testSetStateUpdatesIndex() {
+        ParkingSpot spot1 = new ParkingSpot("S1", zone);
+        ParkingSpot spot2 = new ParkingSpot("S2", zone);
+        zone.addSpot(spot1);
+        zone.addSpot(spot2);
+
+        spot1.setState(SpotState.RESERVED);
+        assertEquals(spot2, zone.getFirstFreeSpot());
+
+        spot1.setState(SpotState.OCCUPIED);
+        assertEquals(1, zone.getFreeSpotsCount());
+
+        spot1.setState(SpotState.FREE);
+        assertEquals(spot1, zone.getFirstFreeSpot());
+        assertEquals(2, zone.getFreeSpotsCount());
+    }
+
+    // TC-03
+    @Test
+    @DisplayName("TC-03: Verify the reserve -> occupy -> release cycle in a large zone")
+    void testLifecycleInLargeZone() {
+        ParkingSpot[] spots = new ParkingSpot[5_000];
+        for (int i = 0; i < spots.length; i++) {
+            spots[i] = new ParkingSpot("S" + i, zone);
+            zone.addSpot(spots[i]);
+        }
+
+        for (int i = 0; i < spots.length - 1; i++) {
+            ParkingSpot spot = zone.getFirstFreeSpot();
+            spot.reserve();
+            spot.occupy();
+        }
+
+        assertEquals(1, zone.getFreeSpotsCount());
+        assertEquals(spots[spots.length - 1], zone.getFirstFreeSpot());
+
+        spots[42].release();
+
+        assertEquals(2, zone.getFreeSpotsCount());
+        assertEquals(spots[42], zone.getFirstFreeSpot());
+    }
+}
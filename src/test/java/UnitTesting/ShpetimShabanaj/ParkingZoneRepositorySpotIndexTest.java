@@ -0,0 +1,101 @@
+package UnitTesting.ShpetimShabanaj;
+
+import Controller.ParkingZoneController;
+import Dto.Zone.ParkingSpotDto;
+import Dto.Zone.ParkingZoneDto;
+import Enum.ZoneType;
+import Model.ParkingSpot;
+import Model.ParkingZone;
+import Repository.impl.InMemoryParkingZoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParkingZoneRepositorySpotIndexTest {
+
+    InMemoryParkingZoneRepository repository;
+
+    @BeforeEach
+    void setup() {
+        repository = new InMemoryParkingZoneRepository();
+    }
+
+    // TC-01
+    @Test
+    @DisplayName("TC-01: Verify spots added before and after save are indexed with their zone")
+    void testSpotsAddedBeforeAndAfterSave() {
+        ParkingZone zone = new ParkingZone("Z1", ZoneType.STANDARD, 1.0);
+        ParkingSpot before = new ParkingSpot("S-1", zone);
+        zone.addSpot(before);
+        repository.save(zone);
+
+        ParkingSpot after = new ParkingSpot("S-2", zone);
+        zone.addSpot(after);
+
+        assertSame(before, repository.findSpotById("S-1"));
+        assertSame(after, repository.findSpotById("S-2"));
+        assertSame(zone, repository.findZoneBySpotId("S-2"));
+        assertTrue(repository.spotExists("S-2"));
+        assertSame(zone, repository.findZoneById("Z1"));
+        assertNull(repository.findZoneById("Z2"));
+    }
+
+    // TC-02
+    @Test
+    @DisplayName("TC-02: Verify replacing a zone drops the old zone's spots from the index")
+    void testReplacedZoneIsUnindexed() {
+        ParkingZone original = new ParkingZone("Z1", ZoneType.STANDARD, 1.0);
+        original.addSpot(new ParkingSpot("OLD-1", original));
+        repository.save(original);
+
+        ParkingZone replacement = new ParkingZone("Z1", ZoneType.STANDARD, 1.0);
+        replacement.addSpot(new ParkingSpot("NEW-1", replacement));
+        repository.save(replacement);
+
+        // the replaced zone no longer feeds the index either
+        original.addSpot(new ParkingSpot("OLD-2", original));
+
+        assertFalse(repository.spotExists("OLD-1"));
+        assertFalse(repository.spotExists("OLD-2"));
+        assertSame(replacement, repository.findZoneBySpotId("NEW-1"));
+    }
+
+    // TC-03
+    @Test
+    @DisplayName("TC-03: Verify a 20k-spot garage imports through the controller and rejects duplicates")
+    void testLargeImportThroughController() {
+        ParkingZoneController controller = new ParkingZoneController(repository);
+        for (int z = 0; z < 20; z++) {
+            controller.createParkingZone(new ParkingZoneDto("Z" + z, "STANDARD", 0.9));
+        }
+        for (int i = 0; i < 20_000; i++) {
+            controller.addSpot(new ParkingSpotDto("S-" + i, "Z" + (i % 20)));
+        }
+
+        assertEquals(1_000, repository.findById("Z7").getTotalSpots());
+        assertSame(repository.findById("Z7"), repository.findZoneBySpotId("S-19987"));
+        assertThrows(IllegalArgumentException.class, () -> controller.addSpot(new ParkingSpotDto("S-42", "Z3")));
+    }
+
+    // TC-04
+    @Test
+    @DisplayName("TC-04: Verify zones are indexed by type and a replacement keeps its place")
+    void testZonesIndexedByType() {
+        repository.save(new ParkingZone("Z1", ZoneType.STANDARD, 0.9));
+        repository.save(new ParkingZone("E1", ZoneType.EV, 0.9));
+        repository.save(new ParkingZone("Z2", ZoneType.STANDARD, 0.9));
+        ParkingZone replacement = new ParkingZone("Z1", ZoneType.STANDARD, 0.5);
+        repository.save(replacement);
+        repository.save(new ParkingZone("Z2", ZoneType.VIP, 0.9));
+
+        assertEquals(List.of(replacement), repository.findByZoneType(ZoneType.STANDARD));
+        assertEquals(List.of("E1"), repository.findByZoneType(ZoneType.EV).stream().map(ParkingZone::getZoneId).toList());
+        assertEquals(List.of("Z2"), repository.findByZoneType(ZoneType.VIP).stream().map(ParkingZone::getZoneId).toList());
+        assertTrue(repository.findByZoneType(null).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> repository.findByZoneType(ZoneType.EV).clear());
+    }
+}
@@ -0,0 +1,91 @@
+package UnitTesting.ShpetimShabanaj;
+
+import Enum.BlacklistStatus;
+import Enum.PenaltyType;
+import Model.Penalty;
+import Model.PenaltyHistory;
+import Service.impl.MonitoringServiceImpl;
+import Settings.Settings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PenaltyHistoryWindowTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 4, 1, 12, 0);
+
+    private static Penalty penalty(LocalDateTime at) {
+        return new Penalty(PenaltyType.OVERSTAY, BigDecimal.TEN, at);
+    }
+
+    @Test
+    @DisplayName("penalties leave the window as the cutoff advances")
+    void evictsAsCutoffAdvances() {
+        PenaltyHistory history = new PenaltyHistory();
+        for (int day = 0; day < 10; day++) {
+            history.addPenalty(penalty(T0.plusDays(day)));
+        }
+
+        assertEquals(10, history.countPenaltiesAfter(T0.minusDays(1)));
+        assertEquals(7, history.countPenaltiesAfter(T0.plusDays(2)));
+        assertEquals(1, history.countPenaltiesAfter(T0.plusDays(8)));
+        assertEquals(0, history.countPenaltiesAfter(T0.plusDays(9)));
+
+        // the full history stays available for reports
+        assertEquals(10, history.getPenalties().size());
+        assertEquals(10, history.getPenaltyCount());
+    }
+
+    @Test
+    @DisplayName("late and expired penalties are placed correctly")
+    void outOfOrderPenalties() {
+        PenaltyHistory history = new PenaltyHistory();
+        history.addPenalty(penalty(T0.plusDays(5)));
+        history.addPenalty(penalty(T0.plusDays(1)));
+        history.addPenalty(penalty(T0.plusDays(3)));
+
+        assertEquals(2, history.countPenaltiesAfter(T0.plusDays(2)));
+
+        history.addPenalty(penalty(T0.plusDays(4)));
+        history.addPenalty(penalty(T0));
+        assertEquals(3, history.countPenaltiesAfter(T0.plusDays(2)));
+        assertEquals(1, history.countPenaltiesAfter(T0.plusDays(4)));
+    }
+
+    @Test
+    @DisplayName("an earlier cutoff than one already applied falls back to the full history")
+    void earlierCutoffStillExact() {
+        PenaltyHistory history = new PenaltyHistory();
+        for (int day = 0; day < 5; day++) {
+            history.addPenalty(penalty(T0.plusDays(day)));
+        }
+
+        assertEquals(1, history.countPenaltiesAfter(T0.plusDays(3)));
+        assertEquals(4, history.countPenaltiesAfter(T0));
+        assertEquals(1, history.countPenaltiesAfter(T0.plusDays(3)));
+    }
+
+    @Test
+    @DisplayName("blacklist check only counts penalties inside the blacklist window")
+    void blacklistUsesWindow() {
+        MonitoringServiceImpl service = new MonitoringServiceImpl();
+        PenaltyHistory history = new PenaltyHistory();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < 10; i++) {
+            history.addPenalty(penalty(now.minus(Settings.BLACKLIST_WINDOW).minusDays(1 + i)));
+        }
+        for (int i = 0; i < Settings.MAX_PENALTIES_ALLOWED - 1; i++) {
+            history.addPenalty(penalty(now.minusDays(1)));
+        }
+
+        assertEquals(BlacklistStatus.NONE,
+                service.updatePenaltyHistoryAndCheckBlacklist("u1", penalty(now), history));
+        assertEquals(BlacklistStatus.BLACKLISTED,
+                service.updatePenaltyHistoryAndCheckBlacklist("u1", penalty(now), history));
+    }
+}
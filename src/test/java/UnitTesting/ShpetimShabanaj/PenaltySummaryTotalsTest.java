@@ -0,0 +1,132 @@
+package UnitTesting.ShpetimShabanaj;
+
+import Controller.MonitoringController;
+import Controller.PenaltyController;
+import Dto.Monitoring.PenaltySummaryResponseDto;
+import Dto.Penalty.ApplyPenaltyRequestDto;
+import Enum.BlacklistStatus;
+import Enum.PenaltyType;
+import Model.Penalty;
+import Model.PenaltyHistory;
+import Model.PenaltySummaryReport;
+import Model.PenaltySummaryTotals;
+import Repository.impl.InMemoryParkingZoneRepository;
+import Repository.impl.InMemoryPenaltyHistoryRepository;
+import Service.impl.MonitoringServiceImpl;
+import Service.impl.PenaltyServiceImpl;
+import Settings.Settings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PenaltySummaryTotalsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 5, 12, 14, 0);
+
+    @Test
+    @DisplayName("running totals equal the full recomputation, scale included")
+    void matchesRecomputation() {
+        PenaltySummaryTotals totals = new PenaltySummaryTotals();
+        PenaltyHistory history = new PenaltyHistory();
+        List<Penalty> penalties = List.of(
+                new Penalty(PenaltyType.OVERSTAY, new BigDecimal("12.5"), NOW),
+                new Penalty(PenaltyType.OVERSTAY, new BigDecimal("0.125"), NOW),
+                new Penalty(PenaltyType.LOST_TICKET, new BigDecimal("30"), NOW),
+                new Penalty(PenaltyType.MISUSE, new BigDecimal("1.0000001"), NOW),
+                new Penalty(PenaltyType.MISUSE, new BigDecimal("99999999999999999.99"), NOW)
+        );
+        for (Penalty penalty : penalties) {
+            history.addPenalty(penalty);
+            totals.record("u1", penalty, BlacklistStatus.NONE);
+        }
+
+        PenaltySummaryReport expected = PenaltySummaryReport.from(List.of(history));
+        PenaltySummaryReport actual = totals.toReport();
+
+        assertEquals(expected.getTotalOverstay(), actual.getTotalOverstay());
+        assertEquals(expected.getTotalLostTicket(), actual.getTotalLostTicket());
+        assertEquals(expected.getTotalMisuse(), actual.getTotalMisuse());
+        assertEquals(0, actual.getBlacklistCandidatesCount());
+    }
+
+    @Test
+    @DisplayName("a user is a candidate while their latest status is not NONE")
+    void countsCandidates() {
+        PenaltySummaryTotals totals = new PenaltySummaryTotals();
+        Penalty penalty = new Penalty(PenaltyType.OVERSTAY, BigDecimal.ONE, NOW);
+
+        totals.record("u1", penalty, BlacklistStatus.NONE);
+        totals.record("u2", penalty, BlacklistStatus.CANDIDATE_FOR_BLACKLISTING);
+        totals.record("u3", penalty, BlacklistStatus.BLACKLISTED);
+        assertEquals(2, totals.toReport().getBlacklistCandidatesCount());
+
+        totals.record("u2", penalty, BlacklistStatus.BLACKLISTED);
+        assertEquals(2, totals.toReport().getBlacklistCandidatesCount());
+
+        totals.record("u3", penalty, BlacklistStatus.NONE);
+        assertEquals(1, totals.toReport().getBlacklistCandidatesCount());
+        assertEquals(new BigDecimal("5"), totals.toReport().getTotalOverstay());
+    }
+
+    @Test
+    @DisplayName("applyPenalty keeps the monitoring summary current without rereading histories")
+    void controllerPath() {
+        InMemoryPenaltyHistoryRepository historyRepo = new InMemoryPenaltyHistoryRepository();
+        MonitoringServiceImpl monitoringService = new MonitoringServiceImpl();
+        PenaltyController penaltyController =
+                new PenaltyController(new PenaltyServiceImpl(), monitoringService, historyRepo);
+        MonitoringController monitoringController =
+                new MonitoringController(monitoringService, historyRepo, new InMemoryParkingZoneRepository());
+        PenaltySummaryTotals totals = new PenaltySummaryTotals();
+        penaltyController.setSummaryTotals(totals);
+        monitoringController.setSummaryTotals(totals);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i <= Settings.MAX_PENALTIES_ALLOWED; i++) {
+            penaltyController.applyPenalty(new ApplyPenaltyRequestDto("u1", PenaltyType.OVERSTAY, BigDecimal.TEN, now));
+        }
+        penaltyController.applyPenalty(new ApplyPenaltyRequestDto("u2", PenaltyType.LOST_TICKET, new BigDecimal("7.50"), now));
+
+        PenaltySummaryResponseDto summary = monitoringController.generatePenaltySummary();
+        PenaltySummaryReport recomputed = PenaltySummaryReport.from(historyRepo.findAll());
+
+        assertEquals(recomputed.getTotalOverstay(), summary.totalOverstay());
+        assertEquals(recomputed.getTotalLostTicket(), summary.totalLostTicket());
+        assertEquals(recomputed.getTotalMisuse(), summary.totalMisuse());
+        assertEquals(1, summary.blacklistCandidatesCount());
+    }
+
+    @Test
+    @DisplayName("totals wired over an existing repository start from its histories")
+    void seededFromRepository() {
+        InMemoryPenaltyHistoryRepository historyRepo = new InMemoryPenaltyHistoryRepository();
+        PenaltyHistory existing = historyRepo.getOrCreate("u1");
+        existing.addPenalty(new Penalty(PenaltyType.OVERSTAY, new BigDecimal("4.25"), NOW));
+        existing.addPenalty(new Penalty(PenaltyType.MISUSE, new BigDecimal("20"), NOW));
+        historyRepo.save("u1", existing);
+
+        MonitoringServiceImpl monitoringService = new MonitoringServiceImpl();
+        PenaltyController penaltyController =
+                new PenaltyController(new PenaltyServiceImpl(), monitoringService, historyRepo);
+        MonitoringController monitoringController =
+                new MonitoringController(monitoringService, historyRepo, new InMemoryParkingZoneRepository());
+        PenaltySummaryTotals totals = new PenaltySummaryTotals(historyRepo.findAll());
+        penaltyController.setSummaryTotals(totals);
+        monitoringController.setSummaryTotals(totals);
+
+        penaltyController.applyPenalty(new ApplyPenaltyRequestDto("u2", PenaltyType.OVERSTAY, BigDecimal.ONE, NOW));
+
+        PenaltySummaryResponseDto summary = monitoringController.generatePenaltySummary();
+        PenaltySummaryReport recomputed = PenaltySummaryReport.from(historyRepo.findAll());
+
+        assertEquals(new BigDecimal("5.25"), summary.totalOverstay());
+        assertEquals(recomputed.getTotalOverstay(), summary.totalOverstay());
+        assertEquals(recomputed.getTotalLostTicket(), summary.totalLostTicket());
+        assertEquals(recomputed.getTotalMisuse(), summary.totalMisuse());
+    }
+}
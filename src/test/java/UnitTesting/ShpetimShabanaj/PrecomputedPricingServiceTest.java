@@ -0,0 +1,127 @@
+package UnitTesting.ShpetimShabanaj;
+
+import Enum.DayType;
+import Enum.TimeOfDayBand;
+import Enum.ZoneType;
+import Model.DynamicPricingConfig;
+import Model.Tariff;
+import Repository.impl.InMemoryDynamicPricingConfigRepository;
+import Repository.impl.InMemoryTariffRepository;
+import Service.impl.DefaultPricingService;
+import Service.impl.PrecomputedPricingService;
+import Settings.Settings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrecomputedPricingServiceTest {
+
+    private static final double[] RATIOS = {0.0, 0.3, 0.79, 0.8, 0.95, 1.0};
+
+    private final DefaultPricingService reference = new DefaultPricingService();
+
+    private InMemoryTariffRepository tariffRepo;
+    private InMemoryDynamicPricingConfigRepository configRepo;
+    private PrecomputedPricingService service;
+
+    @BeforeEach
+    void setUp() {
+        tariffRepo = new InMemoryTariffRepository(Map.of(
+                ZoneType.STANDARD, new Tariff(ZoneType.STANDARD, new BigDecimal("2.50"), new BigDecimal("20"), new BigDecimal("10")),
+                ZoneType.EV, new Tariff(ZoneType.EV, new BigDecimal("3.10"), null, new BigDecimal("12.5"))
+        ));
+        configRepo = new InMemoryDynamicPricingConfigRepository(new DynamicPricingConfig(1.5, 0.8, 1.2));
+
+        service = new PrecomputedPricingService(reference);
+        service.onConfigSaved(configRepo.getActiveConfig());
+        tariffRepo.addSaveListener(service::onTariffSaved);
+        configRepo.addSaveListener(service::onConfigSaved);
+    }
+
+    private void assertSameAsReference(Tariff tariff, DynamicPricingConfig config) {
+        for (int hours = 0; hours <= Settings.MAX_DURATION_HOURS; hours++) {
+            for (DayType dayType : DayType.values()) {
+                for (TimeOfDayBand band : TimeOfDayBand.values()) {
+                    for (double ratio : RATIOS) {
+                        BigDecimal expected;
+                        try {
+                            expected = reference.calculateBasePrice(hours, dayType, band, ratio, tariff, config);
+                        } catch (ArithmeticException e) {
+                            int h = hours;
+                            ArithmeticException actual = assertThrows(ArithmeticException.class,
+                                    () -> service.calculateBasePrice(h, dayType, band, ratio, tariff, config));
+                            assertEquals(e.getMessage(), actual.getMessage());
+                            continue;
+                        }
+                        assertEquals(expected, service.calculateBasePrice(hours, dayType, band, ratio, tariff, config),
+                                hours + "h " + dayType + " " + band + " " + ratio);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("table prices match DefaultPricingService for every duration, band, day type and surge")
+    void matchesReferenceAcrossDomain() {
+        assertSameAsReference(tariffRepo.findByZoneType(ZoneType.STANDARD), configRepo.getActiveConfig());
+        assertSameAsReference(tariffRepo.findByZoneType(ZoneType.EV), configRepo.getActiveConfig());
+    }
+
+    @Test
+    @DisplayName("saving a tariff replaces that zone's table")
+    void tariffSaveRebuildsTable() {
+        DynamicPricingConfig config = configRepo.getActiveConfig();
+        Tariff old = tariffRepo.findByZoneType(ZoneType.STANDARD);
+        assertEquals(new BigDecimal("5.00"),
+                service.calculateBasePrice(2, DayType.WEEKDAY, TimeOfDayBand.OFF_PEAK, 0.1, old, config));
+
+        Tariff updated = new Tariff(ZoneType.STANDARD, new BigDecimal("4.00"), new BigDecimal("30"), BigDecimal.ZERO);
+        tariffRepo.save(updated);
+
+        assertEquals(new BigDecimal("8.00"),
+                service.calculateBasePrice(2, DayType.WEEKDAY, TimeOfDayBand.OFF_PEAK, 0.1, updated, config));
+        // callers still holding the old tariff get the old price, not the new table's
+        assertEquals(new BigDecimal("5.00"),
+                service.calculateBasePrice(2, DayType.WEEKDAY, TimeOfDayBand.OFF_PEAK, 0.1, old, config));
+        assertSameAsReference(updated, config);
+    }
+
+    @Test
+    @DisplayName("saving a pricing config rebuilds every table and bumps the version")
+    void configSaveRebuildsAllTables() {
+        Tariff standard = tariffRepo.findByZoneType(ZoneType.STANDARD);
+        service.calculateBasePrice(1, DayType.WEEKDAY, TimeOfDayBand.PEAK, 0.5, standard, configRepo.getActiveConfig());
+        long version = service.getConfigVersion();
+
+        DynamicPricingConfig updated = new DynamicPricingConfig(2.0, 0.0, 1.5);
+        configRepo.save(updated);
+
+        assertEquals(version + 1, service.getConfigVersion());
+        assertEquals(new BigDecimal("7.50"),
+                service.calculateBasePrice(1, DayType.WEEKDAY, TimeOfDayBand.PEAK, 0.0, standard, updated));
+        assertSameAsReference(standard, updated);
+    }
+
+    @Test
+    @DisplayName("inputs outside the table fall back to the delegate, including its validation")
+    void outsideTableDelegates() {
+        Tariff standard = tariffRepo.findByZoneType(ZoneType.STANDARD);
+        DynamicPricingConfig config = configRepo.getActiveConfig();
+
+        int hours = Settings.MAX_DURATION_HOURS + 5;
+        assertEquals(reference.calculateBasePrice(hours, DayType.WEEKEND, TimeOfDayBand.PEAK, 0.9, standard, config),
+                service.calculateBasePrice(hours, DayType.WEEKEND, TimeOfDayBand.PEAK, 0.9, standard, config));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.calculateBasePrice(-1, DayType.WEEKDAY, TimeOfDayBand.PEAK, 0.5, standard, config));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.calculateBasePrice(1, DayType.WEEKDAY, TimeOfDayBand.PEAK, 1.5, standard, config));
+        assertThrows(NullPointerException.class,
+                () -> service.calculateBasePrice(1, null, TimeOfDayBand.PEAK, 0.5, standard, config));
+    }
+}
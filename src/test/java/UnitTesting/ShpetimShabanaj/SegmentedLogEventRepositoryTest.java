@@ -0,0 +1,118 @@
+package UnitTesting.ShpetimShabanaj;
+
+import Controller.MonitoringController;
+import Dto.Monitoring.LogEventDto;
+import Model.LogEvent;
+import Repository.impl.InMemoryParkingZoneRepository;
+import Repository.impl.InMemoryPenaltyHistoryRepository;
+import Repository.impl.SegmentedLogEventRepository;
+import Service.impl.MonitoringServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentedLogEventRepositoryTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 5, 12, 0, 0);
+
+    private static List<String> details(List<LogEvent> events) {
+        return events.stream().map(LogEvent::getDetails).toList();
+    }
+
+    @Test
+    @DisplayName("range queries by type match a full scan and cross segment borders")
+    void queriesMatchScan() {
+        SegmentedLogEventRepository store = new SegmentedLogEventRepository();
+        String[] types = {"GATE_ENTRY", "GATE_DENIED", "PAYMENT"};
+        for (int minute = 0; minute < 6 * 60; minute += 7) {
+            store.save(new LogEvent(T0.plusMinutes(minute), types[minute % 3], "m" + minute));
+        }
+
+        LocalDateTime from = T0.plusHours(1).plusMinutes(30);
+        LocalDateTime to = T0.plusHours(4);
+        List<String> expected = new ArrayList<>();
+        for (int minute = 0; minute < 6 * 60; minute += 7) {
+            LocalDateTime t = T0.plusMinutes(minute);
+            if (types[minute % 3].equals("GATE_DENIED") && !t.isBefore(from) && t.isBefore(to)) {
+                expected.add("m" + minute);
+            }
+        }
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, details(store.findByTypeBetween("GATE_DENIED", from, to)));
+        assertEquals(6, store.segmentCount());
+        assertTrue(store.findByTypeBetween("UNKNOWN", from, to).isEmpty());
+        assertTrue(store.findBetween(to, from).isEmpty());
+    }
+
+    @Test
+    @DisplayName("the range is inclusive at the start and exclusive at the end")
+    void halfOpenRange() {
+        SegmentedLogEventRepository store = new SegmentedLogEventRepository();
+        store.save(new LogEvent(T0.plusHours(8), "GATE_DENIED", "at 08:00"));
+        store.save(new LogEvent(T0.plusHours(9), "GATE_DENIED", "at 09:00"));
+
+        assertEquals(List.of("at 08:00"),
+                details(store.findByTypeBetween("GATE_DENIED", T0.plusHours(8), T0.plusHours(9))));
+    }
+
+    @Test
+    @DisplayName("late events are returned in timestamp order")
+    void outOfOrderWithinSegment() {
+        SegmentedLogEventRepository store = new SegmentedLogEventRepository();
+        store.save(new LogEvent(T0.plusMinutes(30), "A", "30"));
+        store.save(new LogEvent(T0.plusMinutes(10), "A", "10"));
+        store.save(new LogEvent(T0.plusMinutes(20), "B", "20"));
+        store.save(new LogEvent(T0.plusMinutes(10), "A", "10 again"));
+
+        assertEquals(List.of("10", "10 again", "20", "30"), details(store.findBetween(T0, T0.plusHours(1))));
+        assertEquals(List.of("10", "10 again"), details(store.findByTypeBetween("A", T0, T0.plusMinutes(30))));
+    }
+
+    @Test
+    @DisplayName("retention drops whole segments once newer events arrive")
+    void retentionDropsSegments() {
+        SegmentedLogEventRepository store = new SegmentedLogEventRepository(Duration.ofHours(3));
+        for (int hour = 0; hour < 3; hour++) {
+            store.save(new LogEvent(T0.plusHours(hour), "A", "h" + hour));
+            store.save(new LogEvent(T0.plusHours(hour).plusMinutes(59), "A", "h" + hour + " end"));
+        }
+        assertEquals(3, store.segmentCount());
+        assertEquals(6, store.count());
+
+        store.save(new LogEvent(T0.plusHours(3).plusMinutes(5), "A", "h3"));
+        assertEquals(3, store.segmentCount());
+        assertEquals(5, store.count());
+        assertEquals("h1", details(store.findBetween(T0, T0.plusDays(1))).get(0));
+
+        // an event older than the retained range is not stored
+        store.save(new LogEvent(T0.plusMinutes(15), "A", "late"));
+        assertEquals(5, store.count());
+
+        assertEquals(2, store.dropSegmentsBefore(T0.plusHours(3)));
+        assertEquals(List.of("h3"), details(store.findBetween(T0, T0.plusDays(1))));
+    }
+
+    @Test
+    @DisplayName("events logged through the controller can be queried back")
+    void controllerQueries() {
+        MonitoringController controller = new MonitoringController(
+                new MonitoringServiceImpl(), new InMemoryPenaltyHistoryRepository(), new InMemoryParkingZoneRepository());
+        assertThrows(IllegalStateException.class, () -> controller.findEvents(null, T0, T0.plusHours(1)));
+
+        controller.setLogEventRepository(new SegmentedLogEventRepository());
+        controller.logEvent(new LogEventDto(T0.plusHours(8).plusMinutes(5), "GATE_DENIED", "plate AA-1"));
+        controller.logEvent(new LogEventDto(T0.plusHours(8).plusMinutes(6), "GATE_ENTRY", "plate AA-2"));
+        controller.logEvent(new LogEventDto(T0.plusHours(9).plusMinutes(1), "GATE_DENIED", "plate AA-3"));
+
+        assertEquals(List.of(new LogEventDto(T0.plusHours(8).plusMinutes(5), "GATE_DENIED", "plate AA-1")),
+                controller.findEvents("GATE_DENIED", T0.plusHours(8), T0.plusHours(9)));
+        assertEquals(2, controller.findEvents(null, T0.plusHours(8), T0.plusHours(9)).size());
+    }
+}
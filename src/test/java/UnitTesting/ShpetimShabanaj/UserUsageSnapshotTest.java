@@ -0,0 +1,109 @@
+package UnitTesting.ShpetimShabanaj;
+
+import Controller.EligibilityController;
+import Dto.Eligibility.EligibilityResponseDto;
+import Enum.DayType;
+import Enum.TimeOfDayBand;
+import Enum.ZoneType;
+import Model.*;
+import Record.UserUsageSnapshot;
+import Repository.ParkingSessionRepository;
+import Repository.SubscriptionPlanRepository;
+import Repository.UserRepository;
+import Repository.VehicleRepository;
+import Repository.impl.ConcurrentParkingSessionRepository;
+import Repository.impl.InMemoryParkingSessionRepository;
+import Service.EligibilityService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.*;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserUsageSnapshotTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 5, 12, 14, 0);
+    private static final Clock CLOCK = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+
+    private static ParkingSession session(String id, String userId, String plate, LocalDateTime start) {
+        return new ParkingSession(id, userId, plate, "zone-1", "spot-1",
+                TimeOfDayBand.OFF_PEAK, DayType.WEEKDAY, ZoneType.STANDARD, start);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"inMemory", "concurrent"})
+    @DisplayName("snapshot matches the five individual queries")
+    void snapshotMatchesIndividualQueries(String kind) {
+        ParkingSessionRepository repo = kind.equals("concurrent")
+                ? new ConcurrentParkingSessionRepository(CLOCK)
+                : new InMemoryParkingSessionRepository(CLOCK);
+
+        ParkingSession open = session("s1", "u1", "AA-1", NOW.minusHours(2));
+        ParkingSession paid = session("s2", "u1", "AA-2", NOW.minusHours(5));
+        ParkingSession closed = session("s3", "u1", "AA-1", NOW.minusDays(1));
+        ParkingSession otherUser = session("s4", "u2", "AA-1", NOW.minusHours(1));
+        repo.save(open);
+        repo.save(paid);
+        repo.save(closed);
+        repo.save(otherUser);
+        paid.markPaid();
+        closed.close(NOW.minusDays(1).plusHours(1));
+
+        UserUsageSnapshot snapshot = repo.getUsageSnapshot("u1", "AA-1");
+
+        assertEquals(repo.getActiveSessionsCountForVehicle("AA-1"), snapshot.activeSessionsForVehicle());
+        assertEquals(repo.getActiveSessionsCountForUser("u1"), snapshot.totalActiveSessionsForUser());
+        assertEquals(repo.getSessionsCountForToday("u1"), snapshot.sessionsStartedToday());
+        assertEquals(repo.getHoursUsedTodayForUser("u1"), snapshot.hoursUsedToday());
+        assertEquals(repo.hasUnpaidSessionsForUser("u1"), snapshot.hasUnpaidSessions());
+
+        assertEquals(new UserUsageSnapshot(2, 2, 2, 7, true), snapshot);
+        assertEquals(new UserUsageSnapshot(0, 0, 0, 0, false), repo.getUsageSnapshot("nobody", "ZZ-9"));
+    }
+
+    @Test
+    @DisplayName("controller gathers eligibility inputs with a single snapshot lookup")
+    void controllerUsesSnapshot() {
+        EligibilityService service = mock(EligibilityService.class);
+        UserRepository userRepo = mock(UserRepository.class);
+        VehicleRepository vehicleRepo = mock(VehicleRepository.class);
+        SubscriptionPlanRepository planRepo = mock(SubscriptionPlanRepository.class);
+        ParkingSessionRepository sessionRepo = mock(ParkingSessionRepository.class);
+
+        User user = mock(User.class);
+        Vehicle vehicle = mock(Vehicle.class);
+        SubscriptionPlan plan = mock(SubscriptionPlan.class);
+        when(userRepo.findById("u1")).thenReturn(Optional.of(user));
+        when(vehicleRepo.findByPlate("AA-1")).thenReturn(Optional.of(vehicle));
+        when(planRepo.getPlanForUser("u1")).thenReturn(Optional.of(plan));
+        when(sessionRepo.getUsageSnapshot("u1", "AA-1")).thenReturn(new UserUsageSnapshot(1, 2, 3, 4, true));
+        when(service.canStartSession(any(), any(), anyInt(), anyInt(), anyInt(), anyDouble(), any(), anyBoolean(), any()))
+                .thenReturn(EligibilityResult.denied("UNPAID_SESSIONS_EXIST"));
+
+        EligibilityController controller = new EligibilityController(service, userRepo, vehicleRepo, planRepo, sessionRepo);
+
+        EligibilityResponseDto response = controller.checkEligibility("u1", "AA-1", NOW);
+
+        assertFalse(response.allowed());
+        assertEquals("UNPAID_SESSIONS_EXIST", response.reason());
+        verify(service).canStartSession(user, vehicle, 1, 2, 3, 4.0, plan, true, NOW);
+        verify(sessionRepo, times(1)).getUsageSnapshot("u1", "AA-1");
+        verifyNoMoreInteractions(sessionRepo);
+    }
+
+    @Test
+    @DisplayName("snapshot check requires a session repository")
+    void controllerWithoutSessionRepository() {
+        EligibilityController controller = new EligibilityController(
+                mock(EligibilityService.class), mock(UserRepository.class),
+                mock(VehicleRepository.class), mock(SubscriptionPlanRepository.class));
+
+        assertThrows(IllegalStateException.class, () -> controller.checkEligibility("u1", "AA-1", NOW));
+    }
+}
@@ -78,7 +78,7 @@ class ZoneAllocationControllerAssignSpotTest {
     @DisplayName("TC-01: Should assign spot successfully when all conditions are met")
     void testAssignSpotHappyPathSpotAssignedSuccessfully() {
         when(subscriptionPlanRepository.getPlanForUser("U1")).thenReturn(Optional.of(mockPlan));
-        when(parkingZoneRepository.findAll()).thenReturn(List.of(mockZone));
+        when(parkingZoneRepository.findByZoneType(ZoneType.STANDARD)).thenReturn(List.of(mockZone));
         when(mockZone.getZoneType()).thenReturn(ZoneType.STANDARD);
         when(mockZone.getMaxOccupancyThreshold()).thenReturn(0.80);
         when(mockZone.getZoneId()).thenReturn("Z1");
@@ -98,7 +98,7 @@ class ZoneAllocationControllerAssignSpotTest {
                 () -> assertEquals(SpotState.FREE, response.state()),
                 () -> assertEquals("Z1", response.zoneId()),
                 () -> verify(subscriptionPlanRepository, times(1)).getPlanForUser("U1"),
-                () -> verify(parkingZoneRepository, times(1)).findAll(),
+                () -> verify(parkingZoneRepository, times(1)).findByZoneType(ZoneType.STANDARD),
                 () -> verify(occupancyService, times(1)).calculateOccupancyRatioForZone("Z1"),
                 () -> verify(zoneAllocationService, times(1)).assignSpot(any(SpotAssignmentRequest.class), eq(mockZone))
         );
@@ -132,13 +132,10 @@ class ZoneAllocationControllerAssignSpotTest {
 
     // TC-04
     @Test
-    @DisplayName("TC-04: Should return null when no matching zone type found")
+    @DisplayName("TC-04: Should return null when no zone of the requested type exists")
     void testAssignSpotNoMatchingZoneTypeReturnsNull() {
         when(subscriptionPlanRepository.getPlanForUser("U1")).thenReturn(Optional.of(mockPlan));
-
-        ParkingZone standardZone = mock(ParkingZone.class);
-        when(standardZone.getZoneType()).thenReturn(ZoneType.STANDARD);
-        when(parkingZoneRepository.findAll()).thenReturn(List.of(standardZone));
+        when(parkingZoneRepository.findByZoneType(ZoneType.EV)).thenReturn(List.of());
 
         SpotAssignmentRequestDto evDto = new SpotAssignmentRequestDto(
                 "U1", ZoneType.EV, testStartTime
@@ -149,7 +146,7 @@ class ZoneAllocationControllerAssignSpotTest {
         assertAll("Verify no matching zone type handling",
                 () -> assertNull(response),
                 () -> verify(subscriptionPlanRepository, times(1)).getPlanForUser("U1"),
-                () -> verify(parkingZoneRepository, times(1)).findAll()
+                () -> verify(parkingZoneRepository, times(1)).findByZoneType(ZoneType.EV)
         );
 
         verifyNoInteractions(occupancyService, zoneAllocationService);
@@ -161,8 +158,7 @@ class ZoneAllocationControllerAssignSpotTest {
     @DisplayName("TC-05: Should return null when occupancy equals threshold")
     void testAssignSpotOccupancyAtThresholdReturnsNull() {
         when(subscriptionPlanRepository.getPlanForUser("U1")).thenReturn(Optional.of(mockPlan));
-        when(parkingZoneRepository.findAll()).thenReturn(List.of(mockZone));
-        when(mockZone.getZoneType()).thenReturn(ZoneType.STANDARD);
+        when(parkingZoneRepository.findByZoneType(ZoneType.STANDARD)).thenReturn(List.of(mockZone));
         when(mockZone.getMaxOccupancyThreshold()).thenReturn(0.80);
         when(mockZone.getZoneId()).thenReturn("Z1");
         when(occupancyService.calculateOccupancyRatioForZone("Z1")).thenReturn(0.80);
@@ -183,8 +179,7 @@ class ZoneAllocationControllerAssignSpotTest {
     @DisplayName("TC-06: Should return null when occupancy above threshold")
     void testAssignSpotOccupancyAboveThresholdReturnsNull() {
         when(subscriptionPlanRepository.getPlanForUser("U1")).thenReturn(Optional.of(mockPlan));
-        when(parkingZoneRepository.findAll()).thenReturn(List.of(mockZone));
-        when(mockZone.getZoneType()).thenReturn(ZoneType.STANDARD);
+        when(parkingZoneRepository.findByZoneType(ZoneType.STANDARD)).thenReturn(List.of(mockZone));
         when(mockZone.getMaxOccupancyThreshold()).thenReturn(0.80);
         when(mockZone.getZoneId()).thenReturn("Z1");
         when(occupancyService.calculateOccupancyRatioForZone("Z1")).thenReturn(90.0);
@@ -205,8 +200,7 @@ class ZoneAllocationControllerAssignSpotTest {
     @DisplayName("TC-07: Should return null when zoneAllocationService returns null")
     void testAssignSpotAllocationServiceReturnsNullReturnsNull() {
         when(subscriptionPlanRepository.getPlanForUser("U1")).thenReturn(Optional.of(mockPlan));
-        when(parkingZoneRepository.findAll()).thenReturn(List.of(mockZone));
-        when(mockZone.getZoneType()).thenReturn(ZoneType.STANDARD);
+        when(parkingZoneRepository.findByZoneType(ZoneType.STANDARD)).thenReturn(List.of(mockZone));
         when(mockZone.getMaxOccupancyThreshold()).thenReturn(0.80);
         when(mockZone.getZoneId()).thenReturn("Z1");
         when(occupancyService.calculateOccupancyRatioForZone("Z1")).thenReturn(0.50);
@@ -231,7 +225,7 @@ class ZoneAllocationControllerAssignSpotTest {
         );
 
         when(subscriptionPlanRepository.getPlanForUser("U2")).thenReturn(Optional.of(mockPlan));
-        when(parkingZoneRepository.findAll()).thenReturn(List.of(mockZone));
+        when(parkingZoneRepository.findByZoneType(ZoneType.VIP)).thenReturn(List.of(mockZone));
         when(mockZone.getZoneType()).thenReturn(ZoneType.VIP);
         when(mockZone.getMaxOccupancyThreshold()).thenReturn(0.80);
         when(mockZone.getZoneId()).thenReturn("Z1");
@@ -261,7 +255,7 @@ class ZoneAllocationControllerAssignSpotTest {
     @DisplayName("TC-09: Should map response DTO correctly from spot")
     void testAssignSpotResponseDtoMappingMappedCorrectly() {
         when(subscriptionPlanRepository.getPlanForUser("U1")).thenReturn(Optional.of(mockPlan));
-        when(parkingZoneRepository.findAll()).thenReturn(List.of(mockZone));
+        when(parkingZoneRepository.findByZoneType(ZoneType.STANDARD)).thenReturn(List.of(mockZone));
         when(mockZone.getZoneType()).thenReturn(ZoneType.STANDARD);
         when(mockZone.getMaxOccupancyThreshold()).thenReturn(0.80);
         when(mockZone.getZoneId()).thenReturn("Z1");
@@ -284,17 +278,13 @@ class ZoneAllocationControllerAssignSpotTest {
 
     // TC-10
     @Test
-    @DisplayName("TC-10: Should process multiple zones until matching type found")
+    @DisplayName("TC-10: Should only consider zones indexed under the requested type")
     void testAssignSpotMultipleZonesSkipsNonMatchingTypes() {
-        ParkingZone evZone = mock(ParkingZone.class);
-        ParkingZone vipZone = mock(ParkingZone.class);
         ParkingZone standardZone = mock(ParkingZone.class);
 
         when(subscriptionPlanRepository.getPlanForUser("U1")).thenReturn(Optional.of(mockPlan));
-        when(parkingZoneRepository.findAll()).thenReturn(List.of(evZone, vipZone, standardZone));
+        when(parkingZoneRepository.findByZoneType(ZoneType.STANDARD)).thenReturn(List.of(standardZone));
 
-        when(evZone.getZoneType()).thenReturn(ZoneType.EV);
-        when(vipZone.getZoneType()).thenReturn(ZoneType.VIP);
         when(standardZone.getZoneType()).thenReturn(ZoneType.STANDARD);
         when(standardZone.getMaxOccupancyThreshold()).thenReturn(0.80);
         when(standardZone.getZoneId()).thenReturn("Z3");
@@ -312,40 +302,45 @@ class ZoneAllocationControllerAssignSpotTest {
                 () -> assertNotNull(response),
                 () -> assertEquals("Z3", response.zoneId()),
                 () -> verify(occupancyService, times(1)).calculateOccupancyRatioForZone("Z3"),
-                () -> verify(occupancyService, never()).calculateOccupancyRatioForZone("Z1"),
-                () -> verify(occupancyService, never()).calculateOccupancyRatioForZone("Z2")
+                // the type index is the only lookup: no full scan, no other type
+                () -> verify(parkingZoneRepository, only()).findByZoneType(ZoneType.STANDARD)
         );
     }
 
     // TC-11
     @Test
-    @DisplayName("TC-11: Should use first matching zone with FREE capacity")
+    @DisplayName("TC-11: Should try the zone with the most free capacity first")
     void testAssignSpotFirstMatchingZoneUsed() {
-        ParkingZone standardZone1 = mock(ParkingZone.class);
-        ParkingZone standardZone2 = mock(ParkingZone.class);
+        ParkingZone busyZone = mock(ParkingZone.class);
+        ParkingZone quietZone = mock(ParkingZone.class);
 
         when(subscriptionPlanRepository.getPlanForUser("U1")).thenReturn(Optional.of(mockPlan));
-        when(parkingZoneRepository.findAll()).thenReturn(List.of(standardZone1, standardZone2));
+        when(parkingZoneRepository.findByZoneType(ZoneType.STANDARD)).thenReturn(List.of(busyZone, quietZone));
 
-        when(standardZone1.getZoneType()).thenReturn(ZoneType.STANDARD);
-        when(standardZone1.getMaxOccupancyThreshold()).thenReturn(0.80);
-        when(standardZone1.getZoneId()).thenReturn("Z1");
+        when(busyZone.getTotalSpots()).thenReturn(100);
+        when(busyZone.getFreeSpotsCount()).thenReturn(30);
+        when(busyZone.getMaxOccupancyThreshold()).thenReturn(0.80);
 
-        when(occupancyService.calculateOccupancyRatioForZone("Z1")).thenReturn(0.50);
-        when(zoneAllocationService.assignSpot(any(SpotAssignmentRequest.class), eq(standardZone1)))
+        when(quietZone.getTotalSpots()).thenReturn(100);
+        when(quietZone.getFreeSpotsCount()).thenReturn(90);
+        when(quietZone.getMaxOccupancyThreshold()).thenReturn(0.80);
+        when(quietZone.getZoneId()).thenReturn("Z2");
+
+        when(occupancyService.calculateOccupancyRatioForZone("Z2")).thenReturn(0.10);
+        when(zoneAllocationService.assignSpot(any(SpotAssignmentRequest.class), eq(quietZone)))
                 .thenReturn(mockSpot);
         when(mockSpot.getSpotId()).thenReturn("S1");
         when(mockSpot.getState()).thenReturn(SpotState.FREE);
-        when(mockSpot.getParkingZone()).thenReturn(standardZone1);
+        when(mockSpot.getParkingZone()).thenReturn(quietZone);
 
         SpotAssignmentResponseDto response = controller.assignSpot(testDto);
 
-        assertAll("Verify first zone used",
+        assertAll("Verify least contended zone used",
                 () -> assertNotNull(response),
-                () -> assertEquals("Z1", response.zoneId()),
-                () -> verify(occupancyService, times(1)).calculateOccupancyRatioForZone("Z1"),
-                () -> verify(zoneAllocationService, times(1)).assignSpot(any(SpotAssignmentRequest.class), eq(standardZone1)),
-                () -> verifyNoInteractions(standardZone2)
+                () -> assertEquals("Z2", response.zoneId()),
+                () -> verify(occupancyService, times(1)).calculateOccupancyRatioForZone("Z2"),
+                () -> verify(zoneAllocationService, never()).assignSpot(any(SpotAssignmentRequest.class), eq(busyZone)),
+                () -> verifyNoMoreInteractions(occupancyService)
         );
     }
 
@@ -354,13 +349,13 @@ class ZoneAllocationControllerAssignSpotTest {
     @DisplayName("TC-12: Should return null when zone list is empty")
     void testAssignSpotEmptyZoneListReturnsNull() {
         when(subscriptionPlanRepository.getPlanForUser("U1")).thenReturn(Optional.of(mockPlan));
-        when(parkingZoneRepository.findAll()).thenReturn(Collections.emptyList());
+        when(parkingZoneRepository.findByZoneType(ZoneType.STANDARD)).thenReturn(Collections.emptyList());
 
         SpotAssignmentResponseDto response = controller.assignSpot(testDto);
 
         assertAll("Verify empty zone list handling",
                 () -> assertNull(response),
-                () -> verify(parkingZoneRepository, times(1)).findAll()
+                () -> verify(parkingZoneRepository, times(1)).findByZoneType(ZoneType.STANDARD)
         );
 
         verifyNoInteractions(occupancyService, zoneAllocationService);
@@ -371,7 +366,7 @@ class ZoneAllocationControllerAssignSpotTest {
     @DisplayName("TC-13: Should allow assignment when occupancy below threshold")
     void testAssignSpotOccupancyBelowThresholdAllowsAssignment() {
         when(subscriptionPlanRepository.getPlanForUser("U1")).thenReturn(Optional.of(mockPlan));
-        when(parkingZoneRepository.findAll()).thenReturn(List.of(mockZone));
+        when(parkingZoneRepository.findByZoneType(ZoneType.STANDARD)).thenReturn(List.of(mockZone));
         when(mockZone.getZoneType()).thenReturn(ZoneType.STANDARD);
         when(mockZone.getMaxOccupancyThreshold()).thenReturn(0.80);
         when(mockZone.getZoneId()).thenReturn("Z1");
@@ -398,13 +393,11 @@ class ZoneAllocationControllerAssignSpotTest {
         ParkingZone standardZone2 = mock(ParkingZone.class);
 
         when(subscriptionPlanRepository.getPlanForUser("U1")).thenReturn(Optional.of(mockPlan));
-        when(parkingZoneRepository.findAll()).thenReturn(List.of(standardZone1, standardZone2));
+        when(parkingZoneRepository.findByZoneType(ZoneType.STANDARD)).thenReturn(List.of(standardZone1, standardZone2));
 
-        when(standardZone1.getZoneType()).thenReturn(ZoneType.STANDARD);
         when(standardZone1.getMaxOccupancyThreshold()).thenReturn(0.80);
         when(standardZone1.getZoneId()).thenReturn("Z1");
 
-        when(standardZone2.getZoneType()).thenReturn(ZoneType.STANDARD);
         when(standardZone2.getMaxOccupancyThreshold()).thenReturn(0.80);
         when(standardZone2.getZoneId()).thenReturn("Z2");
 
@@ -0,0 +1,136 @@
+package UnitTesting.ShpetimShabanaj;
+
+import Enum.ZoneType;
+import Model.*;
+import Service.impl.ZoneAllocationServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZoneAllocationServiceContentionTest {
+    private ZoneAllocationServiceImpl service;
+    private SpotAssignmentRequest request;
+
+    @BeforeEach
+    void setUp() {
+        service = new ZoneAllocationServiceImpl();
+        SubscriptionPlan plan = new SubscriptionPlan(
+                1, 1, 5, 8.0, false, false, false,
+                new DiscountInfo(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, false, 0)
+        );
+        request = new SpotAssignmentRequest("user-1", ZoneType.STANDARD, plan, LocalDateTime.now());
+    }
+
+    // TC-01
+    @Test
+    @DisplayName("TC-01: Verify tryReserve only succeeds for the first caller")
+    void testTryReserveIsExclusive() {
+        ParkingZone zone = new ParkingZone("Z1", ZoneType.STANDARD, 0.8);
+        ParkingSpot spot = new ParkingSpot("S1", zone);
+        zone.addSpot(spot);
+
+        assertTrue(spot.tryReserve());
+        assertFalse(spot.tryReserve());
+        assertEquals(0, zone.getFreeSpotsCount());
+    }
+
+    // TC-02
+    @Test
+    @DisplayName("TC-02: Verify the allocator skips a spot that another gate reserved first")
+    void testAllocatorMovesToNextFreeSpot() {
+        ParkingZone zone = new ParkingZone("Z1", ZoneType.STANDARD, 0.8);
+        ParkingSpot spot1 = new ParkingSpot("S1", zone);
+        ParkingSpot spot2 = new ParkingSpot("S2", zone);
+        zone.addSpot(spot1);
+        zone.addSpot(spot2);
+
+        assertEquals(spot2, zone.getNextFreeSpot(spot1));
+        assertNull(zone.getNextFreeSpot(spot2));
+        assertEquals(spot1, service.assignSpot(request, zone));
+        assertEquals(spot2, service.assignSpot(request, zone));
+        assertNull(service.assignSpot(request, zone));
+    }
+
+    // TC-03
+    @Test
+    @DisplayName("TC-03: Verify concurrent allocation never double-books a spot")
+    void testConcurrentAllocationHasNoDoubleBooking() throws Exception {
+        int spots = 500;
+        ParkingZone zone = createZone(spots);
+        Set<ParkingSpot> assigned = ConcurrentHashMap.newKeySet();
+        ConcurrentLinkedQueue<ParkingSpot> all = new ConcurrentLinkedQueue<>();
+
+        runOnThreads(8, () -> {
+            ParkingSpot spot;
+            while ((spot = service.assignSpot(request, zone)) != null) {
+                all.add(spot);
+                assigned.add(spot);
+            }
+        });
+
+        assertAll(
+                () -> assertEquals(spots, all.size()),
+                () -> assertEquals(spots, assigned.size()),
+                () -> assertEquals(0, zone.getFreeSpotsCount()),
+                () -> assertFalse(zone.hasFreeSpot())
+        );
+    }
+
+    // TC-04
+    @Test
+    @DisplayName("TC-04: Verify the free index converges while spots are reserved, occupied and released concurrently")
+    void testFreeIndexConvergesUnderChurn() throws Exception {
+        int spots = 64;
+        ParkingZone zone = createZone(spots);
+
+        runOnThreads(8, () -> {
+            for (int i = 0; i < 5_000; i++) {
+                ParkingSpot spot = service.assignSpot(request, zone);
+                if (spot != null) {
+                    spot.occupy();
+                    spot.release();
+                }
+            }
+        });
+
+        long free = zone.getSpots().stream().filter(ParkingSpot::isFree).count();
+        assertEquals(spots, free);
+        assertEquals(spots, zone.getFreeSpotsCount());
+    }
+
+    private static ParkingZone createZone(int spots) {
+        ParkingZone zone = new ParkingZone("Z1", ZoneType.STANDARD, 1.0);
+        for (int i = 0; i < spots; i++) {
+            zone.addSpot(new ParkingSpot("S" + i, zone));
+        }
+        return zone;
+    }
+
+    private static void runOnThreads(int threads, Runnable body) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                body.run();
+                return null;
+            }));
+        }
+        start.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
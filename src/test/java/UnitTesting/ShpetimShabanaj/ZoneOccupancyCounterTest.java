@@ -0,0 +1,130 @@
+package UnitTesting.ShpetimShabanaj;
+
+import Enum.DayType;
+import Enum.TimeOfDayBand;
+import Enum.ZoneType;
+import Model.ParkingSession;
+import Model.ParkingSpot;
+import Model.ParkingZone;
+import Repository.impl.InMemoryParkingSessionRepository;
+import Repository.impl.InMemoryParkingZoneRepository;
+import Service.impl.ZoneOccupancyServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZoneOccupancyCounterTest {
+    private InMemoryParkingSessionRepository sessionRepo;
+    private ZoneOccupancyServiceImpl occupancyService;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryParkingZoneRepository zoneRepo = new InMemoryParkingZoneRepository();
+        ParkingZone zone = new ParkingZone("Z1", ZoneType.STANDARD, 0.9);
+        for (int i = 1; i <= 4; i++) {
+            zone.addSpot(new ParkingSpot("S" + i, zone));
+        }
+        zoneRepo.save(zone);
+        sessionRepo = new InMemoryParkingSessionRepository();
+        occupancyService = new ZoneOccupancyServiceImpl(zoneRepo, sessionRepo);
+    }
+
+    // TC-01
+    @Test
+    @DisplayName("TC-01: Verify started sessions raise the counter and closed ones lower it")
+    void testCounterFollowsSessionLifecycle() {
+        assertEquals(0.0, occupancyService.calculateOccupancyRatioForZone("Z1"));
+
+        ParkingSession s1 = start("S1");
+        ParkingSession s2 = start("S2");
+        assertEquals(0.5, occupancyService.calculateOccupancyRatioForZone("Z1"));
+
+        s1.markPaid();
+        assertEquals(0.5, occupancyService.calculateOccupancyRatioForZone("Z1"));
+
+        s1.close(LocalDateTime.now());
+        s2.close(LocalDateTime.now());
+        assertEquals(0.0, occupancyService.calculateOccupancyRatioForZone("Z1"));
+    }
+
+    // TC-02
+    @Test
+    @DisplayName("TC-02: Verify saving the same session again or replacing it by id is counted once")
+    void testRepeatedSavesAreIdempotent() {
+        assertEquals(0.0, occupancyService.calculateOccupancyRatioForZone("Z1"));
+        ParkingSession session = start("S1");
+
+        sessionRepo.save(session);
+        session.markPaid();
+        assertEquals(0.25, occupancyService.calculateOccupancyRatioForZone("Z1"));
+
+        // a new instance under the same id takes the old one's place
+        ParkingSession replacement = session("S1");
+        sessionRepo.save(replacement);
+        session.close(LocalDateTime.now());
+        assertEquals(0.25, occupancyService.calculateOccupancyRatioForZone("Z1"));
+
+        replacement.close(LocalDateTime.now());
+        assertEquals(0.0, occupancyService.calculateOccupancyRatioForZone("Z1"));
+    }
+
+    // TC-03
+    @Test
+    @DisplayName("TC-03: Verify sessions saved or deleted after seeding keep the counter in step with the repository")
+    void testCounterFollowsRepositoryWrites() {
+        ParkingSession before = start("S1");
+        assertEquals(0.25, occupancyService.calculateOccupancyRatioForZone("Z1"));
+
+        ParkingSession s2 = start("S2");
+        start("S3");
+        assertEquals(0.75, occupancyService.calculateOccupancyRatioForZone("Z1"));
+
+        sessionRepo.delete(before);
+        sessionRepo.delete(s2);
+        assertEquals(0.25, occupancyService.calculateOccupancyRatioForZone("Z1"));
+
+        // a deleted session no longer moves the counter
+        s2.close(LocalDateTime.now());
+        assertEquals(0.25, occupancyService.calculateOccupancyRatioForZone("Z1"));
+
+        Map<String, Integer> drift = occupancyService.reconcileOccupancyCounters();
+        assertTrue(drift.isEmpty(), drift::toString);
+    }
+
+    // TC-04
+    @Test
+    @DisplayName("TC-04: Verify seeding counts only the zone's active sessions")
+    void testSeedCountsOnlyActiveSessionsOfTheZone() {
+        start("S1");
+        start("S2").markPaid();
+        start("S3").close(LocalDateTime.now());
+        sessionRepo.save(new ParkingSession(
+                "session-other", "U2", "BB222", "Z2", "S9",
+                TimeOfDayBand.PEAK, DayType.WEEKDAY, ZoneType.STANDARD,
+                LocalDateTime.now()
+        ));
+
+        // first read of Z1 seeds it from the zone index
+        assertEquals(0.5, occupancyService.calculateOccupancyRatioForZone("Z1"));
+        assertTrue(occupancyService.reconcileOccupancyCounters().isEmpty());
+    }
+
+    private ParkingSession start(String spotId) {
+        ParkingSession session = session(spotId);
+        sessionRepo.save(session);
+        return session;
+    }
+
+    private static ParkingSession session(String spotId) {
+        return new ParkingSession(
+                "session-" + spotId, "U1", "AA111", "Z1", spotId,
+                TimeOfDayBand.PEAK, DayType.WEEKDAY, ZoneType.STANDARD,
+                LocalDateTime.now()
+        );
+    }
+}
@@ -35,12 +35,12 @@ public class ZoneOccupancyServiceTest {
         String zoneId = "Z1";
         setupMockZone(zoneId, 10);
 
+        // the zone index only returns active sessions
         List<ParkingSession> sessions = Arrays.asList(
                 createMockSession(zoneId, true),  // Active
-                createMockSession(zoneId, true),  // Active
-                createMockSession(zoneId, false)  // Inactive
+                createMockSession(zoneId, true)   // Active
         );
-        when(sessionRepo.findAll()).thenReturn(sessions);
+        when(sessionRepo.findActiveSessionsForZone(zoneId)).thenReturn(sessions);
 
         double ratio = occupancyService.calculateOccupancyRatioForZone(zoneId);
 
@@ -58,7 +58,7 @@ public class ZoneOccupancyServiceTest {
                 createMockSession(zoneId, true),
                 createMockSession(zoneId, true)
         );
-        when(sessionRepo.findAll()).thenReturn(sessions);
+        when(sessionRepo.findActiveSessionsForZone(zoneId)).thenReturn(sessions);
 
         double ratio = occupancyService.calculateOccupancyRatioForZone(zoneId);
 
@@ -71,11 +71,8 @@ public class ZoneOccupancyServiceTest {
         String zoneId = "Z3";
         setupMockZone(zoneId, 20);
 
-        List<ParkingSession> sessions = Arrays.asList(
-                createMockSession(zoneId, false),    // Inactive for this zone
-                createMockSession("Z10", true)     // Active but for another zone
-        );
-        when(sessionRepo.findAll()).thenReturn(sessions);
+        // inactive sessions of this zone and active ones of other zones are not in its index
+        when(sessionRepo.findActiveSessionsForZone(zoneId)).thenReturn(Collections.emptyList());
 
         double ratio = occupancyService.calculateOccupancyRatioForZone(zoneId);
 
@@ -97,7 +94,7 @@ public class ZoneOccupancyServiceTest {
     void testZeroCapacityHandling() {
         String zoneId = "ZERO_CAPACITY";
         setupMockZone(zoneId, 0);
-        when(sessionRepo.findAll()).thenReturn(Collections.emptyList());
+        when(sessionRepo.findActiveSessionsForZone(zoneId)).thenReturn(Collections.emptyList());
 
         double ratio = occupancyService.calculateOccupancyRatioForZone(zoneId);
 